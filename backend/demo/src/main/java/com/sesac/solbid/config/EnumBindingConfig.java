@@ -0,0 +1,74 @@
+package com.sesac.solbid.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * 상품 enum 바인딩 (요청 파라미터, JSON 본문)
+ *
+ * - 기본 변환(Enum.valueOf)은 대소문자를 구분하므로 ?brands=nike 같은 요청이 실패한다
+ * - 각 enum 의 from() (EnumLookup 조회표) 으로 바꿔 대소문자를 무시하고, 조회할 때 객체를 만들지 않는다
+ * - 빈 값은 기본 변환과 같이 null 로 본다
+ */
+@Configuration
+public class EnumBindingConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, ProductBrand.class, converter(ProductBrand::from));
+        registry.addConverter(String.class, ProductCategory.class, converter(ProductCategory::from));
+        registry.addConverter(String.class, ProductCondition.class, converter(ProductCondition::from));
+        registry.addConverter(String.class, ProductStatus.class, converter(ProductStatus::from));
+    }
+
+    // Spring Boot 가 Module 빈을 기본 ObjectMapper 에 등록한다
+    @Bean
+    public Module productEnumModule() {
+        SimpleModule module = new SimpleModule("ProductEnumModule");
+        module.addDeserializer(ProductBrand.class, deserializer(ProductBrand.class, ProductBrand::from));
+        module.addDeserializer(ProductCategory.class, deserializer(ProductCategory.class, ProductCategory::from));
+        module.addDeserializer(ProductCondition.class, deserializer(ProductCondition.class, ProductCondition::from));
+        module.addDeserializer(ProductStatus.class, deserializer(ProductStatus.class, ProductStatus::from));
+        return module;
+    }
+
+    private static <E extends Enum<E>> Converter<String, E> converter(Function<String, E> from) {
+        return source -> source.isBlank() ? null : from.apply(source.trim());
+    }
+
+    private static <E extends Enum<E>> StdScalarDeserializer<E> deserializer(Class<E> type, Function<String, E> from) {
+        return new StdScalarDeserializer<>(type) {
+            @Override
+            public E deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                    return type.cast(ctxt.handleUnexpectedToken(type, p));
+                }
+                String text = p.getText();
+                if (text.isBlank()) {
+                    return null;
+                }
+                try {
+                    return from.apply(text.trim());
+                } catch (IllegalArgumentException e) {
+                    throw ctxt.weirdStringException(text, type, e.getMessage());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.sesac.solbid.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flyway 스키마 마이그레이션 설정 (src/main/resources/db/migration)
+ *
+ * - ddl-auto 로 이미 스키마가 만들어진 DB 는 V1(기준 스키마)을 적용된 것으로 표시하고 V2 부터 실행한다
+ * - 마이그레이션의 ${online_ddl} 은 MySQL 에서 온라인 인덱스 생성 절로, H2 등에서는 빈 문자열로 치환한다
+ *   (DB 에 따라 제약 이름을 찾아야 하는 변경은 db.migration 패키지의 Java 마이그레이션으로 작성하고 같은 값을 쓴다)
+ * - MySQL 은 DDL 이 메타데이터 잠금을 기다리는 동안 뒤따르는 쿼리도 함께 막히므로 잠금 대기 시간을 짧게 제한한다
+ *   (긴 트랜잭션이 있으면 입찰을 멈추게 하는 대신 마이그레이션이 실패하고 다음 배포에서 다시 시도된다)
+ */
+@Configuration
+public class FlywayConfig {
+
+    public static final String ONLINE_DDL_PLACEHOLDER = "online_ddl";
+    static final String MYSQL_ONLINE_DDL = " ALGORITHM=INPLACE LOCK=NONE";
+    static final int MYSQL_LOCK_WAIT_TIMEOUT_SECONDS = 10;
+
+    @Bean
+    public FlywayConfigurationCustomizer onlineDdlFlywayCustomizer() {
+        return configuration -> {
+            boolean mysql = isMySql(databaseProductName(configuration.getDataSource()));
+
+            // spring.flyway.placeholders.online_ddl 로 지정한 값이 있으면 그대로 사용
+            Map<String, String> placeholders = new HashMap<>(configuration.getPlaceholders());
+            placeholders.putIfAbsent(ONLINE_DDL_PLACEHOLDER, mysql ? MYSQL_ONLINE_DDL : "");
+            configuration.placeholders(placeholders)
+                    .baselineOnMigrate(true)
+                    .baselineVersion("1");
+            if (mysql && configuration.getInitSql() == null) {
+                configuration.initSql("SET SESSION lock_wait_timeout = " + MYSQL_LOCK_WAIT_TIMEOUT_SECONDS);
+            }
+        };
+    }
+
+    public static boolean isMySql(String databaseProductName) {
+        return databaseProductName != null
+                && (databaseProductName.equalsIgnoreCase("MySQL") || databaseProductName.equalsIgnoreCase("MariaDB"));
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName();
+        } catch (SQLException e) {
+            throw new IllegalStateException("마이그레이션 대상 DB 종류를 확인할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sesac.solbid.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 상품 이미지 리사이즈 전용 스레드 풀
+ * 디코딩/리사이즈/인코딩은 CPU 작업이라 코어 수보다 많은 스레드는 처리량을 늘리지 못하고 요청 처리 스레드의 CPU 만 뺏는다.
+ * 대기열은 크기를 제한하고, 가득 차면 작업을 버린다 (사본이 없는 이미지는 원본으로 표시되므로 등록은 막지 않음).
+ */
+@Configuration
+public class ImageProcessingConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+            @Value("${app.image.variants.workers:0}") int workers,
+            @Value("${app.image.variants.queue-capacity:1000}") int queueCapacity) {
+        // 0 이면 코어 수 - 1 (최소 1) 로 요청 처리에 코어 하나를 남겨 둔다
+        int poolSize = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setThreadPriority(Thread.NORM_PRIORITY - 1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
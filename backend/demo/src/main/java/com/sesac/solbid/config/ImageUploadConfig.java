@@ -0,0 +1,32 @@
+package com.sesac.solbid.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 상품 이미지 업로드 전용 스레드 풀
+ * 업로드는 네트워크 대기가 대부분이라 요청 스레드와 분리해 동시에 보내되, 스토리지로 나가는 동시 요청 수는 풀 크기로 제한한다.
+ * 대기열이 가득 차면 요청 스레드가 직접 올린다 (업로드가 밀릴수록 등록 요청이 자연스럽게 느려짐).
+ */
+@Configuration
+public class ImageUploadConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${app.image.upload.concurrency:8}") int concurrency,
+            @Value("${app.image.upload.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
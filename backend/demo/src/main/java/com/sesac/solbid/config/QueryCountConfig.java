@@ -0,0 +1,31 @@
+package com.sesac.solbid.config;
+
+import com.sesac.solbid.util.QueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 실행 횟수 측정 설정
+ * - QueryCounter 는 항상 등록 (테스트의 쿼리 예산 검증에서 사용)
+ * - 엔드포인트별 쿼리 수 로깅은 app.query-count.enabled=true 일 때만 동작 (운영 샘플링용)
+ */
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, QueryCounter.INSTANCE);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true")
+    public QueryCountLoggingFilter queryCountLoggingFilter(
+            @Value("${app.query-count.sample-rate:0.01}") double sampleRate,
+            @Value("${app.query-count.warn-threshold:10}") long warnThreshold) {
+        return new QueryCountLoggingFilter(sampleRate, warnThreshold);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sesac.solbid.config;
+
+import com.sesac.solbid.util.QueryCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 샘플링된 요청의 SQL 실행 횟수를 엔드포인트(매핑 패턴) 단위로 로깅
+ * 보안 필터에서 발생하는 쿼리까지 포함하도록 가장 먼저 실행된다.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountLoggingFilter extends OncePerRequestFilter {
+
+    private final double sampleRate;
+    private final long warnThreshold;
+
+    public QueryCountLoggingFilter(double sampleRate, long warnThreshold) {
+        this.sampleRate = sampleRate;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return ThreadLocalRandom.current().nextDouble() >= sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Scope scope = QueryCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long count = scope.count();
+            String endpoint = request.getMethod() + " " + resolvePattern(request);
+            if (count > warnThreshold) {
+                log.warn("쿼리 수 임계치 초과: endpoint={}, queries={}, threshold={}", endpoint, count, warnThreshold);
+            } else {
+                log.info("쿼리 수: endpoint={}, queries={}", endpoint, count);
+            }
+        }
+    }
+
+    // 경로 변수를 포함한 매핑 패턴 기준으로 집계 (없으면 요청 URI)
+    private String resolvePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 스케줄링 설정
+ * virtual-threads 프로필(Java 21)에서는 @Scheduled 작업도 가상 스레드 스케줄러에서 실행된다.
  */
 @Configuration
 @EnableScheduling
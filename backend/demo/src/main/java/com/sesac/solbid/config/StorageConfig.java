@@ -0,0 +1,131 @@
+package com.sesac.solbid.config;
+
+import com.sesac.solbid.service.storage.CachingObjectStorage;
+import com.sesac.solbid.service.storage.DirectUploadSigner;
+import com.sesac.solbid.service.storage.LocalDirectUploadSigner;
+import com.sesac.solbid.service.storage.LocalObjectStorage;
+import com.sesac.solbid.service.storage.ObjectStorage;
+import com.sesac.solbid.service.storage.S3DirectUploadSigner;
+import com.sesac.solbid.service.storage.S3ObjectStorage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Clock;
+
+/**
+ * 파일 저장소 설정 (app.storage.type)
+ *
+ * - s3 (기본): cloud.aws.s3.bucket 버킷. endpoint 를 지정하면 MinIO 등 S3 호환 저장소로 보낸다
+ *   다운로드는 app.storage.cache.dir 의 디스크 LRU 캐시(CachingObjectStorage)를 거친다 (max-bytes=0 이면 사용 안 함)
+ * - local: app.storage.local.root 디렉터리. AWS 계정 없이 개발 PC/CI 에서 이미지 업로드와 벤치마크를 돌릴 때 사용
+ * - 직접 업로드(DirectUploadSigner): s3 는 미리 서명한 PUT URL, local 은 서명 토큰을 붙인 앱 서버 주소
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+    public S3Client s3Client(
+            @Value("${app.storage.s3.region:ap-southeast-2}") String region,
+            @Value("${app.storage.s3.endpoint:}") String endpoint) {
+        S3ClientBuilder builder = S3Client.builder().region(Region.of(region));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+    public S3Presigner s3Presigner(
+            @Value("${app.storage.s3.region:ap-southeast-2}") String region,
+            @Value("${app.storage.s3.endpoint:}") String endpoint) {
+        S3Presigner.Builder builder = S3Presigner.builder().region(Region.of(region));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+    public DirectUploadSigner s3DirectUploadSigner(S3Presigner s3Presigner,
+                                                   @Value("${cloud.aws.s3.bucket}") String bucket) {
+        return new S3DirectUploadSigner(s3Presigner, bucket);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+    public ObjectStorage s3ObjectStorage(
+            S3Client s3Client,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${app.storage.s3.region:ap-southeast-2}") String region,
+            @Value("${app.storage.public-url:}") String publicUrl,
+            @Value("${app.storage.s3.part-size:8388608}") int partSize,
+            @Value("${app.storage.s3.max-concurrent-multipart-uploads:4}") int maxConcurrentMultipartUploads,
+            @Value("${app.storage.cache.dir:${java.io.tmpdir}/solbid-cache}") String cacheDir,
+            @Value("${app.storage.cache.max-bytes:1073741824}") long cacheMaxBytes,
+            @Value("${app.storage.cache.max-entry-bytes:20971520}") long cacheMaxEntryBytes,
+            MeterRegistry meterRegistry) throws IOException {
+        String baseUrl = StringUtils.hasText(publicUrl)
+                ? publicUrl
+                : "https://" + bucket + ".s3." + region + ".amazonaws.com";
+        ObjectStorage s3 = new S3ObjectStorage(s3Client, bucket, baseUrl, partSize, maxConcurrentMultipartUploads);
+        if (cacheMaxBytes <= 0) {
+            return s3;
+        }
+        CachingObjectStorage cache = new CachingObjectStorage(s3, Path.of(cacheDir), cacheMaxBytes, cacheMaxEntryBytes);
+        FunctionCounter.builder("storage.cache.requests", cache, CachingObjectStorage::hitCount)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("storage.cache.requests", cache, CachingObjectStorage::missCount)
+                .tag("result", "miss").register(meterRegistry);
+        Gauge.builder("storage.cache.size", cache, CachingObjectStorage::cachedBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("storage.cache.objects", cache, CachingObjectStorage::cachedObjects).register(meterRegistry);
+        return cache;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+    public LocalObjectStorage localObjectStorage(
+            @Value("${app.storage.local.root:${java.io.tmpdir}/solbid-storage}") String root,
+            @Value("${app.storage.public-url:/api/images}") String publicUrl) throws IOException {
+        return new LocalObjectStorage(Path.of(root), publicUrl);
+    }
+
+    /**
+     * 비밀 키를 지정하지 않으면 프로세스마다 새로 만든다 (재시작하면 발급한 토큰이 무효가 됨)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+    public LocalDirectUploadSigner localDirectUploadSigner(
+            @Value("${app.storage.local.upload-url:/api/images/uploads}") String uploadUrl,
+            @Value("${app.storage.local.upload-secret:}") String secret) {
+        byte[] key;
+        if (StringUtils.hasText(secret)) {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        } else {
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        }
+        return new LocalDirectUploadSigner(uploadUrl, key, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,53 @@
+package com.sesac.solbid.controller;
+
+import com.sesac.solbid.dto.ApiResponse;
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.repository.AuctionEventRepository;
+import com.sesac.solbid.service.auction.AuctionUniqueCounter;
+import com.sesac.solbid.service.auction.AuctionViewCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auctions")
+public class AuctionEventController {
+
+    private final AuctionEventRepository auctionEventRepository;
+    private final AuctionViewCounter auctionViewCounter;
+    private final AuctionUniqueCounter auctionUniqueCounter;
+
+    // 경매 상세 조회 기록 (DB 는 주기적으로 한 번에 반영)
+    // visitorId: 고유 조회자 집계용 방문자 식별자 (로그인 사용자 ID 또는 클라이언트가 발급해 보관하는 ID)
+    @PostMapping("/{auctionEventId}/views")
+    public ResponseEntity<ApiResponse<Void>> recordView(
+            @PathVariable Long auctionEventId,
+            @RequestParam(required = false) String visitorId) {
+        auctionViewCounter.increment(auctionEventId);
+        if (visitorId != null && !visitorId.isBlank()) {
+            auctionUniqueCounter.recordViewer(auctionEventId, visitorId);
+        }
+        return ResponseEntity.accepted().body(ApiResponse.success(null));
+    }
+
+    // 실시간 조회수 (DB 값 + 반영 대기 중인 증가분) + 고유 조회자/입찰자 수 (추정치, 오차 약 1.6%)
+    @GetMapping("/{auctionEventId}/views")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> viewCount(@PathVariable Long auctionEventId) {
+        int persisted = auctionEventRepository.findViewCountById(auctionEventId)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUCTION_NOT_FOUND));
+        return ResponseEntity.ok(ApiResponse.success(Map.of(
+                "auctionEventId", auctionEventId,
+                "viewCount", auctionViewCounter.current(auctionEventId, persisted),
+                "uniqueViewers", auctionUniqueCounter.uniqueViewers(auctionEventId),
+                "uniqueBidders", auctionUniqueCounter.uniqueBidders(auctionEventId))));
+    }
+}
@@ -68,7 +68,7 @@ public class AuthTokenController {
 
             // 사용자 존재 확인 (상태 확인은 서비스 정책에 따라 확장 가능)
             try {
-                userService.getByEmail(email);
+                userService.getPrincipalByEmail(email);
             } catch (Exception e) {
                 log.warn("리프레시 토큰의 사용자 미존재: {}", email);
                 return ResponseEntity.status(401).body(
@@ -0,0 +1,66 @@
+package com.sesac.solbid.controller;
+
+import com.sesac.solbid.dto.ApiResponse;
+import com.sesac.solbid.dto.CategoryDto;
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.service.category.CategoryTree;
+import com.sesac.solbid.service.category.CategoryTreeCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/categories")
+public class CategoryController {
+
+    // 브라우저가 매번 ETag 로 재검증하게 한다 (트리가 바뀌지 않았으면 본문 없는 304)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private final CategoryTreeCache categoryTreeCache;
+
+    // 전체 카테고리 트리 (DB 조회 없음, 메모리 스냅샷)
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CategoryDto.Node>>> getCategories(WebRequest webRequest) {
+        CategoryTree tree = categoryTreeCache.tree();
+        if (webRequest.checkNotModified(tree.eTag())) {
+            return notModified(tree);
+        }
+        return ResponseEntity.ok()
+                .eTag(tree.eTag())
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(tree.roots()));
+    }
+
+    // 카테고리 하나 (하위 트리 + 루트부터의 상위 경로)
+    @GetMapping("/{categoryId}")
+    public ResponseEntity<ApiResponse<CategoryDto.Detail>> getCategory(@PathVariable Long categoryId,
+                                                                       WebRequest webRequest) {
+        CategoryTree tree = categoryTreeCache.tree();
+        CategoryDto.Detail detail = tree.find(categoryId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
+        if (webRequest.checkNotModified(tree.eTag())) {
+            return notModified(tree);
+        }
+        return ResponseEntity.ok()
+                .eTag(tree.eTag())
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(detail));
+    }
+
+    private static <T> ResponseEntity<T> notModified(CategoryTree tree) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(tree.eTag())
+                .cacheControl(REVALIDATE)
+                .build();
+    }
+}
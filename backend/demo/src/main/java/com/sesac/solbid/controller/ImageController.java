@@ -0,0 +1,96 @@
+package com.sesac.solbid.controller;
+
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.service.storage.ImageTypes;
+import com.sesac.solbid.service.storage.ObjectStorage;
+import com.sesac.solbid.service.storage.StoredObject;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/images")
+public class ImageController {
+
+    // Tomcat 이 NIO 커넥터에서 지원하는 sendfile 요청 속성 (DefaultServlet 과 같은 방식)
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    static final String HEADER_CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+    static final String NOSNIFF = "nosniff";
+
+    private final ObjectStorage objectStorage;
+
+    // 키가 내용 해시라 같은 키의 내용은 바뀌지 않는다
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    // 상품 이미지 원본
+    // 로컬 파일(로컬 저장소, 다운로드 캐시)은 sendfile 로 커널에서 바로 보내고, 그 외에는 저장소 스트림을 버퍼 단위로 흘려보낸다
+    // If-None-Match 가 ETag 와 같으면 본문 없이 304 로 응답한다
+    // 허용 형식(ImageTypes)만 그 Content-Type 으로 인라인 응답하고, 그 밖의 객체(예전에 올라간 SVG/HTML 등)는
+    // 브라우저가 페이지로 열지 못하게 application/octet-stream 첨부 파일로 내려준다. nosniff 로 내용 추측도 막는다.
+    @GetMapping("/{*key}")
+    public ResponseEntity<StreamingResponseBody> image(@PathVariable String key, HttpServletRequest request,
+                                                       WebRequest webRequest) throws IOException {
+        StoredObject object = objectStorage.open(key.startsWith("/") ? key.substring(1) : key)
+                .orElseThrow(() -> new CustomException(ErrorCode.IMAGE_NOT_FOUND));
+
+        if (object.eTag() != null && webRequest.checkNotModified(object.eTag())) {
+            object.close();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .header(HEADER_CONTENT_TYPE_OPTIONS, NOSNIFF)
+                    .eTag(object.eTag())
+                    .cacheControl(IMMUTABLE)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(IMMUTABLE)
+                .header(HEADER_CONTENT_TYPE_OPTIONS, NOSNIFF)
+                .eTag(object.eTag());
+        if (ImageTypes.isAllowed(object.contentType())) {
+            response.contentType(MediaType.parseMediaType(object.contentType()));
+        } else {
+            response.contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().build().toString());
+        }
+        if (object.contentLength() >= 0) {
+            response.contentLength(object.contentLength());
+        }
+
+        Path file = object.localFile();
+        if (file != null && object.contentLength() > 0 && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, object.contentLength());
+            object.close();
+            return response.build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try (object) {
+                object.transferTo(out);
+            }
+        };
+        return response.body(body);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sesac.solbid.controller;
+
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.service.storage.LocalDirectUploadSigner;
+import com.sesac.solbid.service.storage.LocalObjectStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 로컬 저장소 직접 업로드 (app.storage.type=local 일 때만)
+ * S3 미리 서명 URL 과 같은 흐름을 개발 환경에서 쓰기 위한 것으로, 토큰이 지정한 키/크기/해시와 일치하는 본문만 저장한다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalUploadController {
+
+    private final LocalDirectUploadSigner signer;
+    private final LocalObjectStorage localObjectStorage;
+
+    @PutMapping("/api/images/uploads/{token}")
+    public ResponseEntity<Void> upload(@PathVariable String token, HttpServletRequest request) throws IOException {
+        LocalDirectUploadSigner.Grant grant = signer.verify(token)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_UPLOAD_TOKEN));
+        if (request.getContentLengthLong() > grant.size()) {
+            throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
+        }
+        try (InputStream in = request.getInputStream()) {
+            localObjectStorage.putVerified(grant.key(), in, grant.size(), grant.sha256Hex());
+        } catch (IOException e) {
+            log.debug("직접 업로드 거부: key={}", grant.key(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.sesac.solbid.controller;
+
+import com.sesac.solbid.dto.ApiResponse;
+import com.sesac.solbid.dto.CursorPage;
+import com.sesac.solbid.dto.ProductSearchDto;
+import com.sesac.solbid.service.ProductService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductController {
+
+    private final ProductService productService;
+
+    // 상품 목록 (커서 기반 페이지네이션, 응답의 nextCursor 로 다음 페이지 조회)
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPage<ProductSearchDto.ProductItem>>> getProducts(
+            @Valid @ModelAttribute ProductSearchDto.ListRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(productService.getProducts(request)));
+    }
+}
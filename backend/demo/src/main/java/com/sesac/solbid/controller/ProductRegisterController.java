@@ -1,23 +1,96 @@
 package com.sesac.solbid.controller;
 
+import com.sesac.solbid.dto.ApiResponse;
+import com.sesac.solbid.dto.ProductBulkImportDto;
+import com.sesac.solbid.dto.ProductImageUploadDto;
+import com.sesac.solbid.dto.ProductRegisterDto;
+import com.sesac.solbid.security.CurrentUserResolver;
+import com.sesac.solbid.service.ProductBulkImportService;
+import com.sesac.solbid.service.ProductImageDirectUploadService;
 import com.sesac.solbid.service.ProductService;
+import com.sesac.solbid.service.importer.ProductRowReader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class ProductRegisterController {
 
     private final ProductService productService;
+    private final ProductImageDirectUploadService productImageDirectUploadService;
+    private final ProductBulkImportService productBulkImportService;
+    private final CurrentUserResolver currentUserResolver;
+
+    // 상품 등록 (accessToken 쿠키 필요, 이미지는 병렬 업로드)
+    @PostMapping(value = "/api/productRegister", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<Map<String, Object>>> productRegister(
+            HttpServletRequest request,
+            @RequestPart(required = false) List<MultipartFile> files,
+            @RequestPart ProductRegisterDto dto) {
+        Optional<Long> sellerId = currentUserResolver.currentUserId(request);
+        if (sellerId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("UNAUTHORIZED", "로그인이 필요합니다."));
+        }
+        Long productId = productService.registerProduct(sellerId.get(), dto, files != null ? files : List.of());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(Map.of("productId", productId)));
+    }
+
+    // 직접 업로드 준비 (파일마다 저장소 업로드 주소 발급, 이미 있는 내용이면 업로드 생략)
+    @PostMapping(value = "/api/productRegister/uploads", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<List<ProductImageUploadDto.UploadTicket>>> prepareUploads(
+            HttpServletRequest request,
+            @Valid @RequestBody ProductImageUploadDto.PrepareRequest body) {
+        if (currentUserResolver.currentUserId(request).isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("UNAUTHORIZED", "로그인이 필요합니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success(productImageDirectUploadService.prepare(body.getFiles())));
+    }
+
+    // 상품 등록 (직접 업로드를 마친 이미지 키로 등록, 요청은 JSON 만)
+    @PostMapping(value = "/api/productRegister", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<Map<String, Object>>> productRegisterWithUploadedImages(
+            HttpServletRequest request,
+            @Valid @RequestBody ProductImageUploadDto.RegisterRequest body) {
+        Optional<Long> sellerId = currentUserResolver.currentUserId(request);
+        if (sellerId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("UNAUTHORIZED", "로그인이 필요합니다."));
+        }
+        Long productId = productService.registerProduct(sellerId.get(), body);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(Map.of("productId", productId)));
+    }
 
-//    @PostMapping("/api/productRegister")
-//    public ResponseEntity<Map<String, Object>> productRegister(@RequestPart List<MultipartFile> files, @RequestPart ProductRegisterDto dto) {
-//        try {
-//            productService.registerProduct(dto, files);
-//            System.out.println("success");
-//            return ResponseEntity.ok(Map.of("success", true));
-//        } catch (IOException e) {
-//            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
-//        }
-//    }
+    // 상품 일괄 등록 (CSV / NDJSON 본문을 한 행씩 읽어 배치로 저장, 잘못된 행은 줄 번호와 이유를 돌려줌)
+    @PostMapping(value = "/api/productRegister/bulk",
+            consumes = {ProductRowReader.Format.CSV_VALUE, ProductRowReader.Format.NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<ProductBulkImportDto.Result>> productBulkImport(HttpServletRequest request)
+            throws IOException {
+        Optional<Long> sellerId = currentUserResolver.currentUserId(request);
+        if (sellerId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("UNAUTHORIZED", "로그인이 필요합니다."));
+        }
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        ProductBulkImportDto.Result result = productBulkImportService.importProducts(sellerId.get(),
+                ProductRowReader.Format.from(contentType), request.getInputStream(), contentType.getCharset());
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
 }
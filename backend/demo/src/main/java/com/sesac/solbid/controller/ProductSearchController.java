@@ -0,0 +1,56 @@
+package com.sesac.solbid.controller;
+
+import com.sesac.solbid.dto.ApiResponse;
+import com.sesac.solbid.dto.ProductSearchDto;
+import com.sesac.solbid.service.search.ProductAutocomplete;
+import com.sesac.solbid.service.search.ProductSearchIndex;
+import com.sesac.solbid.service.search.ProductTextIndex;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductSearchController {
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductTextIndex productTextIndex;
+    private final ProductAutocomplete productAutocomplete;
+
+    // 상품 패싯 검색 (브랜드/카테고리/컨디션/사이즈/가격 필터 + 정렬)
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<ProductSearchDto.SearchResponse>> search(
+            @Valid @ModelAttribute ProductSearchDto.SearchRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(productSearchIndex.search(request)));
+    }
+
+    // 상품명/설명 전문 검색 (BM25 점수순)
+    @GetMapping("/search/text")
+    public ResponseEntity<ApiResponse<ProductSearchDto.SearchResponse>> searchText(
+            @Valid @ModelAttribute ProductSearchDto.TextSearchRequest request) {
+        int offset = (int) Math.min((long) request.getPage() * request.getPageSize(), Integer.MAX_VALUE);
+        ProductTextIndex.SearchResult result = productTextIndex.search(request.getQ(), offset, request.getPageSize());
+        return ResponseEntity.ok(ApiResponse.success(ProductSearchDto.SearchResponse.builder()
+                .total(result.total())
+                .page(request.getPage())
+                .pageSize(request.getPageSize())
+                .products(productSearchIndex.items(result.productIds()))
+                .build()));
+    }
+
+    // 검색창 자동완성 (상품명/브랜드, 메모리 인덱스만 조회)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<ProductSearchDto.Suggestion>>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(productAutocomplete.suggest(q, limit)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.sesac.solbid.controller;
+
+import com.sesac.solbid.dto.ApiResponse;
+import com.sesac.solbid.dto.RankingDto;
+import com.sesac.solbid.service.ranking.RankingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/rankings")
+public class RankingController {
+
+    private final RankingService rankingService;
+
+    // 상품 랭킹 (sort=CURRENT_BID|BIDDERS, window=ALL|HOUR|DAY|WEEK)
+    @GetMapping("/products")
+    public ResponseEntity<ApiResponse<List<RankingDto.ProductRank>>> products(
+            @Valid @ModelAttribute RankingDto.ProductRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(rankingService.topProducts(request)));
+    }
+
+    // 판매자 랭킹 (sort=SUCCESS_RATE|TRUST_SCORE, window=ALL|HOUR|DAY|WEEK)
+    @GetMapping("/sellers")
+    public ResponseEntity<ApiResponse<List<RankingDto.SellerRank>>> sellers(
+            @Valid @ModelAttribute RankingDto.SellerRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(rankingService.topSellers(request)));
+    }
+}
@@ -1,10 +1,18 @@
 package com.sesac.solbid.controller;
 
 import com.sesac.solbid.domain.User;
+import com.sesac.solbid.dto.CursorPage;
+import com.sesac.solbid.dto.CursorRequest;
 import com.sesac.solbid.dto.UserDto;
 import com.sesac.solbid.dto.ApiResponse;
+import com.sesac.solbid.repository.projection.OrderSummaryView;
+import com.sesac.solbid.repository.projection.UserPrincipalView;
 
+import com.sesac.solbid.repository.projection.WishListItemView;
+import com.sesac.solbid.security.CurrentUserResolver;
+import com.sesac.solbid.service.OrderService;
 import com.sesac.solbid.service.UserService;
+import com.sesac.solbid.service.WishListService;
 import com.sesac.solbid.util.JwtUtil;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +35,10 @@ import java.util.Optional;
 public class UserController {
 
     private final UserService userService;
+    private final WishListService wishListService;
+    private final OrderService orderService;
     private final JwtUtil jwtUtil;
+    private final CurrentUserResolver currentUserResolver;
 
     // 회원가입
     @PostMapping("/signup")
@@ -75,7 +86,7 @@ public class UserController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> updateNickname(
             HttpServletRequest request,
             @Valid @RequestBody UserDto.NicknameUpdateRequest body) {
-        Optional<String> accessTokenOpt = getCookieValue(request, "accessToken");
+        Optional<String> accessTokenOpt = CurrentUserResolver.accessToken(request);
         if (accessTokenOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("UNAUTHORIZED", "로그인이 필요합니다."));
@@ -100,7 +111,7 @@ public class UserController {
     // 현재 사용자 조회 (accessToken 쿠키 필요)
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<Map<String, Object>>> me(HttpServletRequest request) {
-        Optional<String> accessTokenOpt = getCookieValue(request, "accessToken");
+        Optional<String> accessTokenOpt = CurrentUserResolver.accessToken(request);
         if (accessTokenOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("UNAUTHORIZED", "로그인이 필요합니다."));
@@ -113,12 +124,12 @@ public class UserController {
                         .body(ApiResponse.error("UNAUTHORIZED", "유효하지 않은 토큰입니다."));
             }
             String email = jwtUtil.getUsernameFromToken(token);
-            User user = userService.getByEmail(email);
+            UserPrincipalView user = userService.getPrincipalByEmail(email);
             Map<String, Object> data = new HashMap<>();
-            data.put("userId", user.getUserId());
-            data.put("email", user.getEmail());
-            data.put("nickname", user.getNickname());
-            data.put("userType", user.getUserType() != null ? user.getUserType().name() : null);
+            data.put("userId", user.userId());
+            data.put("email", user.email());
+            data.put("nickname", user.nickname());
+            data.put("userType", user.userType() != null ? user.userType().name() : null);
             return ResponseEntity.ok(ApiResponse.success(data));
         } catch (Exception e) {
             log.warn("/api/users/me 처리 실패", e);
@@ -127,15 +138,30 @@ public class UserController {
         }
     }
 
-    private Optional<String> getCookieValue(HttpServletRequest request, String name) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies == null) return Optional.empty();
-        for (Cookie c : cookies) {
-            if (name.equals(c.getName())) {
-                return Optional.ofNullable(c.getValue());
-            }
+    // 현재 사용자 찜 목록 (accessToken 쿠키 필요, 커서 기반)
+    @GetMapping("/me/wishlist")
+    public ResponseEntity<ApiResponse<CursorPage<WishListItemView>>> myWishList(
+            HttpServletRequest request,
+            @Valid @ModelAttribute CursorRequest cursorRequest) {
+        Optional<Long> userId = currentUserResolver.currentUserId(request);
+        if (userId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("UNAUTHORIZED", "로그인이 필요합니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success(wishListService.getWishList(userId.get(), cursorRequest)));
+    }
+
+    // 현재 사용자 낙찰 주문 내역 (accessToken 쿠키 필요, 커서 기반)
+    @GetMapping("/me/orders")
+    public ResponseEntity<ApiResponse<CursorPage<OrderSummaryView>>> myOrders(
+            HttpServletRequest request,
+            @Valid @ModelAttribute CursorRequest cursorRequest) {
+        Optional<Long> userId = currentUserResolver.currentUserId(request);
+        if (userId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("UNAUTHORIZED", "로그인이 필요합니다."));
         }
-        return Optional.empty();
+        return ResponseEntity.ok(ApiResponse.success(orderService.getOrders(userId.get(), cursorRequest)));
     }
 
     /**
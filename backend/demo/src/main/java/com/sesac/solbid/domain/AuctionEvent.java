@@ -30,7 +30,8 @@ public class AuctionEvent  extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private EventEnum eventType;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수는 AuctionViewCounter 가 증가분 UPDATE 로만 변경 (엔티티 저장 시 이전 값으로 덮어쓰지 않도록)
+    @Column(name = "view_count", nullable = false, updatable = false)
     @ColumnDefault("0") // 기본값 0
     private Integer viewCount; // 조회수
 
@@ -0,0 +1,44 @@
+package com.sesac.solbid.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매별 고유 조회자/입찰자 HyperLogLog 스케치 (직렬화된 바이트)
+ * 조회마다 바뀌는 값이라 auctionevent 행과 분리해 둔다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "auction_event_sketch")
+public class AuctionEventSketch {
+
+    // 정밀도 12 스케치 직렬화 크기(3,074 바이트) + 여유
+    private static final int SKETCH_BYTES = 4096;
+
+    @Id
+    private Long auctionEventId;
+
+    @Column(length = SKETCH_BYTES)
+    private byte[] viewerSketch;
+
+    @Column(length = SKETCH_BYTES)
+    private byte[] bidderSketch;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public AuctionEventSketch(Long auctionEventId) {
+        this.auctionEventId = auctionEventId;
+    }
+
+    public void update(byte[] viewerSketch, byte[] bidderSketch) {
+        this.viewerSketch = viewerSketch;
+        this.bidderSketch = bidderSketch;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -10,7 +10,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bid")
+@Table(name = "bid", indexes = {
+        // 경매별 최고 입찰가 조회
+        @Index(name = "idx_bid_auction_event_id_bid_amount", columnList = "auction_event_id, bid_amount")
+})
 @Data
 public class Bid {
 
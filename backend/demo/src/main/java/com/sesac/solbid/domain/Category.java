@@ -6,7 +6,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="category")
+@Table(name="category", indexes = {
+        // 자식 카테고리 조회
+        @Index(name = "idx_category_parent_id", columnList = "parent_id")
+})
 public class Category  {
 
     @Id
@@ -19,12 +22,22 @@ public class Category  {
     @Column(unique = true, nullable = true)
     private String description;
 
-    @Column(unique = true, nullable = true)
+    @Column(nullable = true)
     private Long parentId;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private Boolean isActive;
 
     private LocalDateTime createdAt;
 
+    // 카테고리 트리 캐시의 버전 스탬프. JPA 로 저장하면 여기서 넣고, 직접 SQL 로 고치면 DB(ON UPDATE)가 갱신한다
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // ddl-auto 스키마처럼 DB 기본값/ON UPDATE 가 없어도 스탬프가 바뀌도록
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        updatedAt = LocalDateTime.now();
+    }
 }
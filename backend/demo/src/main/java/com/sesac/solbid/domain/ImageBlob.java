@@ -0,0 +1,29 @@
+package com.sesac.solbid.domain;
+
+import com.sesac.solbid.domain.baseentity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 해시로 이름 붙인 스토리지 객체의 참조 수
+ * 같은 사진을 여러 상품이 공유하므로 참조가 0 이 되고 유예 시간이 지난 객체만 지운다 (ImageBlobStore).
+ * 갱신은 JdbcTemplate 으로 하고, 엔티티는 스키마 정의용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "image_blob", indexes = {
+        @Index(name = "idx_image_blob_ref_count_updated_at", columnList = "ref_count, updated_at")
+})
+public class ImageBlob extends BaseEntity {
+
+    //스토리지 키 (SHA-256 16진수 + 확장자)
+    @Id
+    private String contentKey;
+
+    //이 객체를 가리키는 product_image 행 수
+    @Column(nullable = false)
+    private int refCount;
+}
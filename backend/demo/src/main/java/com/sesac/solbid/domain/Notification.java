@@ -8,7 +8,10 @@ import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="notification")
+@Table(name="notification", indexes = {
+        // 사용자별 안 읽은 알림 조회/개수
+        @Index(name = "idx_notification_user_id_is_read", columnList = "user_id, is_read")
+})
 @Data
 public class Notification {
 
@@ -8,7 +8,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "order_info")
+@Table(name = "order_info", indexes = {
+        // 낙찰자 주문 내역 키셋
+        @Index(name = "idx_order_info_winner_id_order_id", columnList = "winner_id, order_id")
+})
 public class OrderInfo {
 
     @Id
@@ -5,7 +5,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "point_transaction")
+@Table(name = "point_transaction", indexes = {
+        // 사용자 포인트 내역 (최신순)
+        @Index(name = "idx_point_transaction_user_id_created_at", columnList = "user_id, created_at")
+})
 public class PointTransaction {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
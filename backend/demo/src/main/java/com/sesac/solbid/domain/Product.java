@@ -2,6 +2,7 @@ package com.sesac.solbid.domain;
 
 import com.sesac.solbid.domain.baseentity.BaseEntity;
 import com.sesac.solbid.domain.enums.*;
+import com.sesac.solbid.service.search.ProductSearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -17,7 +18,17 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name="product")
+@EntityListeners(ProductSearchIndexListener.class)
+@Table(name="product", indexes = {
+        // 경매 마감 대상 조회 (상태 + 마감일)
+        @Index(name = "idx_product_status_end_date", columnList = "product_status, end_date"),
+        // 상품 목록 최신순 키셋
+        @Index(name = "idx_product_status_product_id", columnList = "product_status, product_id"),
+        // 상품 목록 가격순 키셋
+        @Index(name = "idx_product_status_start_price", columnList = "product_status, start_price, product_id"),
+        // 전문 검색 세그먼트 이후 변경분 따라잡기
+        @Index(name = "idx_product_updated_at", columnList = "updated_at, product_id")
+})
 public class Product extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -107,4 +118,9 @@ public class Product extends BaseEntity {
         this.description = description;
         this.seller = seller;
     }
+
+    // 상품 상태 변경 (경매중 -> 품절/취소)
+    public void changeStatus(ProductStatus productStatus) {
+        this.productStatus = productStatus;
+    }
 }
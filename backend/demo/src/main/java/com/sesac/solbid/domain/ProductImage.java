@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name="product_image")
+@Table(name="product_image", indexes = {
+        @Index(name = "idx_product_image_storage_key", columnList = "storage_key")
+})
 public class ProductImage extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,6 +38,16 @@ public class ProductImage extends BaseEntity {
     @Column(nullable = false)
     private boolean isThumbnail;
 
+    //스토리지 원본 키
+    private String storageKey;
+
+    //리사이즈 사본 키 (비동기로 생성되며 그 전에는 null)
+    private String thumbnailKey;
+
+    private String listKey;
+
+    private String detailKey;
+
     @Builder
     public ProductImage(Product product, String filePath, String fileName, Integer sortOrder, boolean isThumbnail) {
         this.product = product;
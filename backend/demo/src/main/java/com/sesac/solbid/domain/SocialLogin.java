@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name="social_login")
+@Table(name="social_login", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_social_login_provider_provider_id", columnNames = {"provider", "provider_id"})
+})
 public class SocialLogin {
 
     @Id
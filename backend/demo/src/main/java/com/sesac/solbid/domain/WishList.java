@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name="wishlist")
+@Table(name="wishlist", indexes = {
+        // 사용자가 이 상품을 찜했는지 확인
+        @Index(name = "idx_wishlist_user_id_product_id", columnList = "user_id, product_id"),
+        // 사용자 찜 목록 키셋
+        @Index(name = "idx_wishlist_user_id_wish_list_id", columnList = "user_id, wish_list_id")
+})
 public class WishList extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
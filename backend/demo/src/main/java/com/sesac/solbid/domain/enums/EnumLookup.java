@@ -0,0 +1,81 @@
+package com.sesac.solbid.domain.enums;
+
+import java.lang.reflect.Array;
+
+/**
+ * 대소문자를 무시하는 enum 이름 조회표
+ *
+ * - 상수 이름을 대소문자 구분 없는 해시로 미리 배치한 개방 주소 테이블 (enum 마다 한 번 생성)
+ * - 조회는 입력 문자를 한 번 훑어 해시를 구하고 equalsIgnoreCase 로 확인하므로 O(이름 길이), 객체를 만들지 않는다
+ *   (values() 복사, 스트림/람다, toUpperCase 문자열이 모두 없음)
+ * - 해시의 대소문자 접기는 String.equalsIgnoreCase 와 같은 규칙을 따른다 (equalsIgnoreCase 로 같은 이름은 같은 해시)
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final String label;
+    private final E[] table;
+    private final int mask;
+
+    private EnumLookup(Class<E> type, String label) {
+        this.label = label;
+        E[] constants = type.getEnumConstants();
+        // 적재율 1/4 이하 (충돌이 거의 없어 대부분 한 번에 찾음)
+        int capacity = Integer.highestOneBit(Math.max(constants.length, 1) * 4 - 1) << 1;
+        @SuppressWarnings("unchecked")
+        E[] slots = (E[]) Array.newInstance(type, capacity);
+        this.table = slots;
+        this.mask = capacity - 1;
+        for (E constant : constants) {
+            int slot = hash(constant.name()) & mask;
+            while (table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = constant;
+        }
+    }
+
+    /**
+     * @param label 찾지 못했을 때 예외 메시지에 쓸 이름 ("브랜드" → "존재하지 않는 브랜드: X")
+     */
+    public static <E extends Enum<E>> EnumLookup<E> of(Class<E> type, String label) {
+        return new EnumLookup<>(type, label);
+    }
+
+    /**
+     * 이름이 같은 상수 (대소문자 무시), 없으면 null
+     */
+    public E find(String name) {
+        if (name == null) {
+            return null;
+        }
+        int slot = hash(name) & mask;
+        E candidate;
+        while ((candidate = table[slot]) != null) {
+            if (candidate.name().equalsIgnoreCase(name)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * 이름이 같은 상수 (대소문자 무시), 없으면 IllegalArgumentException
+     */
+    public E parse(String name) {
+        E value = find(name);
+        if (value == null) {
+            throw new IllegalArgumentException("존재하지 않는 " + label + ": " + name);
+        }
+        return value;
+    }
+
+    private static int hash(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        // 상위 비트를 섞어 작은 테이블에서도 고르게 퍼지게 한다
+        return h ^ (h >>> 16);
+    }
+}
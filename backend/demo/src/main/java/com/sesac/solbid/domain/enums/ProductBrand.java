@@ -1,14 +1,12 @@
 package com.sesac.solbid.domain.enums;
 
-import java.util.Arrays;
-
 public enum ProductBrand {
     NIKE, ADIDAS, NB, CONVERSE, VANS, PUMA, REEBOK, ASICS;
 
+    private static final EnumLookup<ProductBrand> LOOKUP = EnumLookup.of(ProductBrand.class, "브랜드");
+
+    // 대소문자 무시, 없으면 IllegalArgumentException
     public static ProductBrand from(String brand) {
-        return Arrays.stream(values())
-                .filter(b -> b.name().equalsIgnoreCase(brand))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 브랜드: " + brand));
+        return LOOKUP.parse(brand);
     }
 }
@@ -1,14 +1,12 @@
 package com.sesac.solbid.domain.enums;
 
-import java.util.Arrays;
-
 public enum ProductCategory {
     SNEAKERS, RUNNING, BASKETBALL, CANVAS;
 
+    private static final EnumLookup<ProductCategory> LOOKUP = EnumLookup.of(ProductCategory.class, "카테고리");
+
+    // 대소문자 무시, 없으면 IllegalArgumentException
     public static ProductCategory from(String category) {
-        return Arrays.stream(values())
-                .filter(b -> b.name().equalsIgnoreCase(category))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리: " + category));
+        return LOOKUP.parse(category);
     }
 }
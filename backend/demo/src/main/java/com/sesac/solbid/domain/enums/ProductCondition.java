@@ -1,14 +1,12 @@
 package com.sesac.solbid.domain.enums;
 
-import java.util.Arrays;
-
 public enum ProductCondition {
     NEW, USED;
 
+    private static final EnumLookup<ProductCondition> LOOKUP = EnumLookup.of(ProductCondition.class, "컨디션");
+
+    // 대소문자 무시, 없으면 IllegalArgumentException
     public static ProductCondition from(String condition) {
-        return Arrays.stream(values())
-                .filter(b -> b.name().equalsIgnoreCase(condition))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 컨디션: " + condition));
+        return LOOKUP.parse(condition);
     }
 }
@@ -1,15 +1,13 @@
 package com.sesac.solbid.domain.enums;
 
-import java.util.Arrays;
-
 public enum ProductStatus {
 
     AVAILABLE, SOLD_OUT, CANCELLED;
 
+    private static final EnumLookup<ProductStatus> LOOKUP = EnumLookup.of(ProductStatus.class, "상태");
+
+    // 대소문자 무시, 없으면 IllegalArgumentException
     public static ProductStatus from(String status) {
-        return Arrays.stream(values())
-                .filter(b -> b.name().equalsIgnoreCase(status))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상태: " + status));
+        return LOOKUP.parse(status);
     }
 }
\ No newline at end of file
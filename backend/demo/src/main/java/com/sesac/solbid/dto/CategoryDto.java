@@ -0,0 +1,61 @@
+package com.sesac.solbid.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카테고리 트리 DTO (읽기 전용)
+ * 트리를 다시 읽을 때 한 번 만들어 두고 요청마다 그대로 내보내므로 모두 불변이다.
+ */
+public class CategoryDto {
+
+    @Getter
+    public static class Node {
+        private final Long categoryId;
+        private final String name;
+        private final String description;
+        private final Long parentId;
+        // 루트가 0
+        private final int depth;
+        // 루트부터 자신까지의 categoryId
+        private final List<Long> path;
+        private final List<Node> children;
+
+        public Node(Long categoryId, String name, String description, Long parentId, int depth, List<Long> path,
+                    List<Node> children) {
+            this.categoryId = categoryId;
+            this.name = name;
+            this.description = description;
+            this.parentId = parentId;
+            this.depth = depth;
+            this.path = List.copyOf(path);
+            this.children = List.copyOf(children);
+        }
+    }
+
+    @Getter
+    public static class Summary {
+        private final Long categoryId;
+        private final String name;
+
+        public Summary(Long categoryId, String name) {
+            this.categoryId = categoryId;
+            this.name = name;
+        }
+    }
+
+    /**
+     * 카테고리 하나와 상위 경로 (이동 경로 표시용, 루트부터 부모까지)
+     */
+    @Getter
+    public static class Detail {
+        private final Node category;
+        private final List<Summary> ancestors;
+
+        public Detail(Node category, List<Summary> ancestors) {
+            this.category = category;
+            this.ancestors = List.copyOf(ancestors);
+        }
+    }
+}
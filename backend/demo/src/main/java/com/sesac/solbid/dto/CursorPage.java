@@ -0,0 +1,37 @@
+package com.sesac.solbid.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 DTO
+ * nextCursor 를 다음 요청의 cursor 로 넘기면 이어지는 페이지를 받는다 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+    // includeTotal=true 일 때만 채움 (상품 수는 검색 인덱스 기준 근사치)
+    private final Long totalCount;
+
+    /**
+     * limit + 1 건을 조회한 결과로 페이지 구성 (초과분이 있으면 다음 페이지 존재)
+     * 커서는 응답 DTO 가 아닌 조회 행 기준으로 만든다 (정렬 키가 응답에 없을 수 있음)
+     */
+    public static <S, T> CursorPage<T> of(List<S> fetched, int limit, Function<S, String> cursorOf,
+                                          Function<S, T> mapper, Long totalCount) {
+        boolean hasNext = fetched.size() > limit;
+        List<S> rows = hasNext ? fetched.subList(0, limit) : fetched;
+        return CursorPage.<T>builder()
+                .items(rows.stream().map(mapper).toList())
+                .nextCursor(hasNext ? cursorOf.apply(rows.get(rows.size() - 1)) : null)
+                .hasNext(hasNext)
+                .totalCount(totalCount)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sesac.solbid.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 커서 기반 목록 조회 조건 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CursorRequest {
+    // 이전 응답의 nextCursor (첫 페이지는 비움)
+    private String cursor;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+    private int size = 20;
+
+    // 전체 건수 포함 여부 (COUNT 비용이 들어 필요할 때만 요청)
+    private boolean includeTotal = false;
+}
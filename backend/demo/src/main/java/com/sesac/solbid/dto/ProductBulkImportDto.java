@@ -0,0 +1,35 @@
+package com.sesac.solbid.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록(CSV / NDJSON) 결과 DTO
+ * 잘못된 행은 건너뛰고 나머지를 등록하며, 건너뛴 행은 줄 번호와 이유를 돌려준다.
+ */
+public class ProductBulkImportDto {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Result {
+        // 읽은 데이터 행 수 (빈 줄, 헤더 제외)
+        private final long total;
+        private final long imported;
+        private final long failed;
+        // 앞에서부터 최대 app.product.import.max-errors 건
+        private final List<RowError> errors;
+        // failed 가 errors 보다 많으면 true
+        private final boolean errorsTruncated;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final long line;
+        private final String message;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sesac.solbid.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import com.sesac.solbid.service.storage.ImageTypes;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 이미지 직접 업로드 DTO
+ * 1) 업로드 준비: 파일마다 크기/형식/SHA-256 을 보내 업로드 주소를 받는다
+ * 2) 클라이언트가 받은 주소로 저장소에 바로 PUT 한다 (이미 있는 내용이면 생략)
+ * 3) 상품 등록: 상품 정보와 이미지 키를 JSON 으로 보낸다
+ */
+public class ProductImageUploadDto {
+
+    public static final int MAX_IMAGES = 10;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class PrepareRequest {
+        @NotEmpty(message = "업로드할 이미지가 없습니다.")
+        @Size(max = MAX_IMAGES, message = "이미지는 최대 10장까지 올릴 수 있습니다.")
+        private List<@Valid @NotNull FileSpec> files;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileSpec {
+        @NotBlank(message = "파일 이름은 필수입니다.")
+        private String fileName;
+
+        @NotBlank(message = "Content-Type 은 필수입니다.")
+        @Pattern(regexp = ImageTypes.CONTENT_TYPE_PATTERN, message = "JPEG, PNG, WebP, GIF 이미지만 올릴 수 있습니다.")
+        private String contentType;
+
+        @Positive(message = "파일 크기는 0 보다 커야 합니다.")
+        private long size;
+
+        // 파일 내용의 SHA-256 (16진수). 저장소 키가 되고, 저장소가 받은 내용과 일치하는지 검사한다
+        @NotBlank(message = "SHA-256 은 필수입니다.")
+        @Pattern(regexp = "[0-9a-fA-F]{64}", message = "SHA-256 은 16진수 64자여야 합니다.")
+        private String sha256;
+    }
+
+    /**
+     * 파일별 업로드 안내 (요청 순서 유지)
+     * uploadRequired 가 false 면 같은 내용이 이미 저장되어 있어 PUT 없이 key 만 등록에 쓰면 된다.
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class UploadTicket {
+        private final String key;
+        private final boolean uploadRequired;
+        private final String url;
+        private final String method;
+        private final Map<String, String> headers;
+        private final Instant expiresAt;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class RegisterRequest {
+        @Valid
+        @NotNull(message = "상품 정보는 필수입니다.")
+        private ProductRegisterDto product;
+
+        @Size(max = MAX_IMAGES, message = "이미지는 최대 10장까지 등록할 수 있습니다.")
+        private List<@Valid @NotNull UploadedFile> images = List.of();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadedFile {
+        @NotBlank(message = "이미지 키는 필수입니다.")
+        private String key;
+
+        @NotBlank(message = "파일 이름은 필수입니다.")
+        private String fileName;
+    }
+}
@@ -0,0 +1,163 @@
+package com.sesac.solbid.dto;
+
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 검색 관련 DTO 클래스
+ */
+public class ProductSearchDto {
+
+    /**
+     * 정렬 기준 (인기순, 가격 높은순, 가격 낮은순, 최신순)
+     */
+    public enum SortType {
+        POPULAR, PRICE_DESC, PRICE_ASC, LATEST
+    }
+
+    /**
+     * 상품 검색 조건 DTO
+     * 같은 항목 안의 값들은 OR, 항목끼리는 AND 로 결합
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class SearchRequest {
+        private List<ProductBrand> brands = new ArrayList<>();
+        private List<ProductCategory> categories = new ArrayList<>();
+        private List<ProductCondition> conditions = new ArrayList<>();
+        private List<Integer> sizes = new ArrayList<>();
+
+        @Min(value = 0, message = "최소 가격은 0 이상이어야 합니다.")
+        private Integer minPrice;
+
+        @Min(value = 0, message = "최대 가격은 0 이상이어야 합니다.")
+        private Integer maxPrice;
+
+        private ProductStatus status = ProductStatus.AVAILABLE;
+        private SortType sort = SortType.POPULAR;
+
+        @Min(value = 0, message = "페이지는 0 이상이어야 합니다.")
+        private int page = 0;
+
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        private int pageSize = 12;
+    }
+
+    /**
+     * 상품명/설명 전문 검색 조건 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TextSearchRequest {
+        @NotBlank(message = "검색어를 입력해주세요.")
+        @Size(max = 100, message = "검색어는 100자 이하여야 합니다.")
+        private String q;
+
+        @Min(value = 0, message = "페이지는 0 이상이어야 합니다.")
+        private int page = 0;
+
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        private int pageSize = 12;
+    }
+
+    /**
+     * 상품 목록 정렬 기준 (DB 키셋 페이지네이션, 가격순은 시작가 기준)
+     */
+    public enum ListSort {
+        LATEST, PRICE_ASC, PRICE_DESC
+    }
+
+    /**
+     * 상품 목록 조회 조건 DTO (커서 기반)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ListRequest extends CursorRequest {
+        @NotNull(message = "상품 상태를 입력해주세요.")
+        private ProductStatus status = ProductStatus.AVAILABLE;
+
+        @NotNull(message = "정렬 기준을 입력해주세요.")
+        private ListSort sort = ListSort.LATEST;
+    }
+
+    /**
+     * 검색 결과 상품 DTO
+     */
+    @Getter
+    @Builder
+    public static class ProductItem {
+        private final Long productId;
+        private final String name;
+        private final ProductBrand brand;
+        private final ProductCategory category;
+        private final ProductCondition condition;
+        private final ProductStatus status;
+        private final int size;
+        private final int price;
+    }
+
+    /**
+     * 상품 검색 응답 DTO
+     */
+    @Getter
+    @Builder
+    public static class SearchResponse {
+        private final int total;
+        private final int page;
+        private final int pageSize;
+        private final List<ProductItem> products;
+        private final Facets facets;
+    }
+
+    /**
+     * 검색 사이드바 패싯별 상품 수
+     * 각 항목의 개수는 해당 항목을 제외한 나머지 조건을 적용한 결과 기준 (선택지를 바꿨을 때의 결과 수)
+     */
+    @Getter
+    @Builder
+    public static class Facets {
+        private final Map<ProductBrand, Integer> brands;
+        private final Map<ProductCategory, Integer> categories;
+        private final Map<ProductCondition, Integer> conditions;
+        // 사이즈 구간 시작값(5mm 단위) -> 상품 수
+        private final Map<Integer, Integer> sizes;
+    }
+
+    /**
+     * 자동완성 후보 종류
+     */
+    public enum SuggestionType {
+        PRODUCT, BRAND
+    }
+
+    /**
+     * 자동완성 후보 DTO
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        private final String text;
+        private final SuggestionType type;
+    }
+}
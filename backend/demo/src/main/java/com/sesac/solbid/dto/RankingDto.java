@@ -0,0 +1,90 @@
+package com.sesac.solbid.dto;
+
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.service.ranking.RankingWindow;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 랭킹 페이지 DTO
+ */
+public class RankingDto {
+
+    /**
+     * 상품 랭킹 기준 (현재 입찰가, 입찰 참여자 수)
+     */
+    public enum ProductSort {
+        CURRENT_BID, BIDDERS
+    }
+
+    /**
+     * 판매자 랭킹 기준 (낙찰 성공률, 신뢰 온도)
+     */
+    public enum SellerSort {
+        SUCCESS_RATE, TRUST_SCORE
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Request {
+        // 집계 구간 (현재 입찰가/신뢰 온도는 시점 값이라 구간과 무관)
+        @NotNull(message = "집계 구간은 필수입니다.")
+        private RankingWindow window = RankingWindow.ALL;
+
+        @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "조회 개수는 100 이하여야 합니다.")
+        private int size = 10;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ProductRequest extends Request {
+        @NotNull(message = "정렬 기준은 필수입니다.")
+        private ProductSort sort = ProductSort.CURRENT_BID;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class SellerRequest extends Request {
+        @NotNull(message = "정렬 기준은 필수입니다.")
+        private SellerSort sort = SellerSort.SUCCESS_RATE;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductRank {
+        private int rank;
+        private Long productId;
+        private String name;
+        private ProductBrand brand;
+        private int currentBid;
+        // 구간 안에 입찰한 고유 사용자 수
+        private int bidders;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SellerRank {
+        private int rank;
+        private Long sellerId;
+        private String nickname;
+        // 구간 안에 마감된 경매 중 낙찰된 비율 (%)
+        private double successRate;
+        private long closedAuctions;
+        private long soldAuctions;
+        private double trustScore;
+    }
+}
@@ -4,6 +4,7 @@ package com.sesac.solbid.dto;
 
 import com.sesac.solbid.domain.User;
 import com.sesac.solbid.domain.enums.UserType;
+import com.sesac.solbid.repository.projection.UserPrincipalView;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -106,6 +107,17 @@ public class UserDto {
                     .refreshToken(refreshToken)
                     .build();
         }
+
+        public static LoginResponse from(UserPrincipalView user, String accessToken, String refreshToken) {
+            return LoginResponse.builder()
+                    .userId(user.userId())
+                    .email(user.email())
+                    .nickname(user.nickname())
+                    .userType(user.userType())
+                    .accessToken(accessToken)
+                    .refreshToken(refreshToken)
+                    .build();
+        }
     }
 
     // 소셜 로그인 요청을 위한 DTO (기존 호환성 유지)
@@ -9,6 +9,24 @@ public enum ErrorCode {
     VALIDATION_ERROR(400, "유효성 검사 실패"),
     FILE_UPLOAD_FAILED(400, "파일 업로드 실패"),
     INTERNAL_SERVER_ERROR(500, "서버 내부 오류"),
+    INVALID_CURSOR(400, "페이지 커서가 올바르지 않습니다."),
+
+    // 경매 에러
+    AUCTION_NOT_FOUND(404, "존재하지 않는 경매입니다."),
+
+    // 카테고리 에러
+    CATEGORY_NOT_FOUND(404, "존재하지 않는 카테고리입니다."),
+
+    // 이미지 에러
+    IMAGE_NOT_FOUND(404, "존재하지 않는 이미지입니다."),
+    IMAGE_NOT_UPLOADED(400, "업로드가 완료되지 않은 이미지입니다."),
+    IMAGE_TOO_LARGE(413, "이미지 크기가 너무 큽니다."),
+    UNSUPPORTED_IMAGE_TYPE(415, "JPEG, PNG, WebP, GIF 이미지만 올릴 수 있습니다."),
+    INVALID_UPLOAD_TOKEN(403, "업로드 토큰이 유효하지 않거나 만료되었습니다."),
+
+    // 상품 일괄 등록 에러
+    INVALID_IMPORT_HEADER(400, "CSV 헤더에 필수 열이 없습니다."),
+    UNSUPPORTED_IMPORT_FORMAT(415, "CSV(text/csv) 또는 NDJSON(application/x-ndjson)만 지원합니다."),
 
     // 회원 가입 에러
     DUPLICATE_EMAIL(400, "이미 사용 중인 이메일 주소입니다."),
@@ -0,0 +1,15 @@
+package com.sesac.solbid.repository;
+
+import com.sesac.solbid.domain.AuctionEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AuctionEventRepository extends JpaRepository<AuctionEvent, Long> {
+
+    // 조회수 컬럼만 조회 (엔티티/상품을 불러오지 않음)
+    @Query("select e.viewCount from AuctionEvent e where e.auctionEventId = :auctionEventId")
+    Optional<Integer> findViewCountById(@Param("auctionEventId") Long auctionEventId);
+}
@@ -0,0 +1,18 @@
+package com.sesac.solbid.repository;
+
+import com.sesac.solbid.domain.AuctionEventSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AuctionEventSketchRepository extends JpaRepository<AuctionEventSketch, Long> {
+
+    // 여러 노드가 같은 경매 스케치를 동시에 병합할 때 덮어쓰지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AuctionEventSketch s where s.auctionEventId = :auctionEventId")
+    Optional<AuctionEventSketch> findForUpdate(@Param("auctionEventId") Long auctionEventId);
+}
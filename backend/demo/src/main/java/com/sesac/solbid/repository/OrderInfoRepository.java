@@ -0,0 +1,24 @@
+package com.sesac.solbid.repository;
+
+import com.sesac.solbid.domain.OrderInfo;
+import com.sesac.solbid.repository.projection.OrderSummaryView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OrderInfoRepository extends JpaRepository<OrderInfo, Long> {
+
+    // 낙찰자 주문 내역, 최신 주문순 (orderId 내림차순 키셋)
+    @Query("select new com.sesac.solbid.repository.projection.OrderSummaryView("
+            + "o.orderId, e.auctionEventId, p.productId, p.name, o.finalPrice, o.paymentStatus, o.deliveryStatus, o.orderDate) "
+            + "from OrderInfo o left join o.auctionEvent e left join e.product p "
+            + "where o.winner.userId = :userId and o.orderId < :lastOrderId "
+            + "order by o.orderId desc")
+    List<OrderSummaryView> findPageByWinnerId(@Param("userId") Long userId,
+                                              @Param("lastOrderId") Long lastOrderId, Limit limit);
+
+    long countByWinner_UserId(Long userId);
+}
@@ -1,7 +1,50 @@
 package com.sesac.solbid.repository;
 
 import com.sesac.solbid.domain.Product;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.repository.projection.ProductCurrentBidView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    // 검색 인덱스 재구성용 키셋 순회
+    List<Product> findByProductIdGreaterThanOrderByProductIdAsc(Long productId, Limit limit);
+
+    // 전문 검색 세그먼트 기록 이후 수정된 상품 (키셋 순회)
+    List<Product> findByUpdatedAtAfterAndProductIdGreaterThanOrderByProductIdAsc(LocalDateTime updatedAt, Long productId,
+                                                                                 Limit limit);
+
+    // 랭킹용: 입찰이 한 번 이상 있는 상품의 현재 입찰가 (기동 시 순위표 초기화)
+    @Query("select new com.sesac.solbid.repository.projection.ProductCurrentBidView(p.productId, p.currentPrice) "
+            + "from Product p where p.productStatus = :status and p.currentPrice > 0")
+    List<ProductCurrentBidView> findCurrentBids(@Param("status") ProductStatus status);
+
+    // ===== 상품 목록 키셋 페이지네이션 (OFFSET 없이 마지막 행 다음부터 조회) =====
+
+    // 최신순: productId 내림차순
+    @Query("select p from Product p where p.productStatus = :status and p.productId < :lastProductId "
+            + "order by p.productId desc")
+    List<Product> findPageLatest(@Param("status") ProductStatus status,
+                                 @Param("lastProductId") Long lastProductId, Limit limit);
+
+    // 가격 낮은순: (startPrice, productId) 오름차순
+    // startPrice >= :lastPrice 는 결과를 바꾸지 않지만 인덱스 범위 탐색 조건이 된다
+    @Query("select p from Product p where p.productStatus = :status and p.startPrice >= :lastPrice "
+            + "and (p.startPrice > :lastPrice or p.productId > :lastProductId) "
+            + "order by p.startPrice asc, p.productId asc")
+    List<Product> findPageByPriceAsc(@Param("status") ProductStatus status, @Param("lastPrice") int lastPrice,
+                                     @Param("lastProductId") Long lastProductId, Limit limit);
+
+    // 가격 높은순: (startPrice, productId) 내림차순
+    @Query("select p from Product p where p.productStatus = :status and p.startPrice <= :lastPrice "
+            + "and (p.startPrice < :lastPrice or p.productId < :lastProductId) "
+            + "order by p.startPrice desc, p.productId desc")
+    List<Product> findPageByPriceDesc(@Param("status") ProductStatus status, @Param("lastPrice") int lastPrice,
+                                      @Param("lastProductId") Long lastProductId, Limit limit);
 }
@@ -4,10 +4,14 @@ import com.sesac.solbid.domain.SocialLogin;
 import com.sesac.solbid.domain.User;
 import com.sesac.solbid.domain.enums.ProviderType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface SocialLoginRepository extends JpaRepository<SocialLogin, Long> {
-    Optional<SocialLogin> findByProviderAndProviderId(ProviderType provider, String providerId);
+    // 재방문 소셜 로그인: uk_social_login_provider_provider_id 인덱스 + user fetch join 으로 단일 쿼리
+    @Query("select s from SocialLogin s join fetch s.user where s.provider = :provider and s.providerId = :providerId")
+    Optional<SocialLogin> findByProviderAndProviderId(@Param("provider") ProviderType provider, @Param("providerId") String providerId);
     Optional<SocialLogin> findByUser(User user);
 }
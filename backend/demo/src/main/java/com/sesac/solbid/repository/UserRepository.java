@@ -1,13 +1,38 @@
 package com.sesac.solbid.repository;
 
 import com.sesac.solbid.domain.User;
+import com.sesac.solbid.repository.projection.SellerProfileView;
+import com.sesac.solbid.repository.projection.UserCredentialView;
+import com.sesac.solbid.repository.projection.UserPrincipalView;
+import com.sesac.solbid.repository.projection.UserSocialLinkView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByNickname(String nickname);
+
+    // 인증 엔드포인트용: 엔티티 대신 필요한 컬럼만 조회
+    Optional<UserPrincipalView> findPrincipalByEmail(String email);
+    Optional<UserCredentialView> findCredentialByEmail(String email);
+
+    // 이메일 사용자와 연결된 소셜 provider 목록을 한 번에 조회 (findByEmail + findByUser 통합)
+    @Query("select u as user, s.provider as provider from User u left join SocialLogin s on s.user = u where u.email = :email")
+    List<UserSocialLinkView> findSocialLinksByEmail(@Param("email") String email);
+
+    // 랭킹용: 상품을 등록한 적 있는 판매자의 신뢰 온도 (기동 시 순위표 초기화)
+    @Query("select new com.sesac.solbid.repository.projection.SellerProfileView(u.userId, u.nickname, u.temperature) "
+            + "from User u where exists (select p.productId from Product p where p.seller = u)")
+    List<SellerProfileView> findSellerProfiles();
+
+    @Query("select new com.sesac.solbid.repository.projection.SellerProfileView(u.userId, u.nickname, u.temperature) "
+            + "from User u where u.userId in :userIds")
+    List<SellerProfileView> findSellerProfilesByIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,24 @@
+package com.sesac.solbid.repository;
+
+import com.sesac.solbid.domain.WishList;
+import com.sesac.solbid.repository.projection.WishListItemView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface WishListRepository extends JpaRepository<WishList, Long> {
+
+    // 사용자 찜 목록, 최근 찜한 순 (wishListId 내림차순 키셋)
+    @Query("select new com.sesac.solbid.repository.projection.WishListItemView("
+            + "w.wishListId, p.productId, p.name, p.productBrand, p.productStatus, p.startPrice, p.currentPrice) "
+            + "from WishList w join w.product p "
+            + "where w.user.userId = :userId and w.wishListId < :lastWishListId "
+            + "order by w.wishListId desc")
+    List<WishListItemView> findPageByUserId(@Param("userId") Long userId,
+                                            @Param("lastWishListId") Long lastWishListId, Limit limit);
+
+    long countByUser_UserId(Long userId);
+}
@@ -0,0 +1,15 @@
+package com.sesac.solbid.repository.projection;
+
+import com.sesac.solbid.domain.enums.DeliveryStatus;
+import com.sesac.solbid.domain.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내역 한 줄 (주문 + 경매 + 상품명을 조인 한 번으로 조회)
+ */
+public record OrderSummaryView(Long orderId, Long auctionEventId, Long productId, String productName,
+                               BigDecimal finalPrice, PaymentStatus paymentStatus, DeliveryStatus deliveryStatus,
+                               LocalDateTime orderDate) {
+}
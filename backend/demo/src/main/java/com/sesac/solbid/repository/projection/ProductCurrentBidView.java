@@ -0,0 +1,7 @@
+package com.sesac.solbid.repository.projection;
+
+/**
+ * 입찰이 시작된 상품의 현재 입찰가 (랭킹 순위표 초기화용)
+ */
+public record ProductCurrentBidView(Long productId, int currentPrice) {
+}
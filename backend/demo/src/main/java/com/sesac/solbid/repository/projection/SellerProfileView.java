@@ -0,0 +1,9 @@
+package com.sesac.solbid.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 판매자 랭킹 표시용 (닉네임 + 신뢰 온도)
+ */
+public record SellerProfileView(Long userId, String nickname, BigDecimal temperature) {
+}
@@ -0,0 +1,15 @@
+package com.sesac.solbid.repository.projection;
+
+import com.sesac.solbid.domain.enums.UserStatus;
+import com.sesac.solbid.domain.enums.UserType;
+
+/**
+ * 일반 로그인용 프로젝션 (비밀번호 해시 포함)
+ */
+public record UserCredentialView(Long userId, String email, String nickname, UserType userType, UserStatus userStatus,
+                                 String password) {
+
+    public UserPrincipalView toPrincipal() {
+        return new UserPrincipalView(userId, email, nickname, userType, userStatus);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sesac.solbid.repository.projection;
+
+import com.sesac.solbid.domain.enums.UserStatus;
+import com.sesac.solbid.domain.enums.UserType;
+
+/**
+ * 인증 엔드포인트용 사용자 프로젝션
+ * User 엔티티(포인트/온도 BigDecimal, 지연 로딩 컬렉션)를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회한다.
+ * 인터페이스 프로젝션은 결과마다 프록시를 만들므로 record 로 생성자 표현식 조회를 사용
+ */
+public record UserPrincipalView(Long userId, String email, String nickname, UserType userType, UserStatus userStatus) {
+}
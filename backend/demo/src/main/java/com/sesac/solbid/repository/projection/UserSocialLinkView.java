@@ -0,0 +1,13 @@
+package com.sesac.solbid.repository.projection;
+
+import com.sesac.solbid.domain.User;
+import com.sesac.solbid.domain.enums.ProviderType;
+
+/**
+ * 사용자와 연결된 소셜 provider 조회용 프로젝션
+ * 연결된 소셜 계정이 없으면 provider 는 null
+ */
+public interface UserSocialLinkView {
+    User getUser();
+    ProviderType getProvider();
+}
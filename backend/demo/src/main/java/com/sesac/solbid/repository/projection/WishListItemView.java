@@ -0,0 +1,16 @@
+package com.sesac.solbid.repository.projection;
+
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductStatus;
+
+/**
+ * 찜 목록 한 줄 (찜 + 상품 컬럼을 조인 한 번으로 조회)
+ */
+public record WishListItemView(Long wishListId, Long productId, String name, ProductBrand brand,
+                               ProductStatus status, int startPrice, int currentPrice) {
+
+    // 입찰이 시작되면 현재 입찰가, 아니면 시작가 (검색 결과와 같은 기준)
+    public int price() {
+        return currentPrice > 0 ? currentPrice : startPrice;
+    }
+}
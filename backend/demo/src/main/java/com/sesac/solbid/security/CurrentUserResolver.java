@@ -0,0 +1,56 @@
+package com.sesac.solbid.security;
+
+import com.sesac.solbid.service.UserService;
+import com.sesac.solbid.util.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * accessToken 쿠키로 요청한 사용자를 찾는다 (쿠키 → JWT 검증 → 이메일 → 사용자 ID)
+ * 로그인이 필요한 컨트롤러가 같은 방식으로 사용자를 확인하도록 한곳에 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserResolver {
+
+    public static final String ACCESS_TOKEN_COOKIE = "accessToken";
+
+    private final JwtUtil jwtUtil;
+    private final UserService userService;
+
+    /**
+     * accessToken 쿠키의 사용자 ID (토큰이 없거나 유효하지 않거나 사용자가 없으면 empty)
+     */
+    public Optional<Long> currentUserId(HttpServletRequest request) {
+        Optional<String> accessToken = accessToken(request);
+        if (accessToken.isEmpty() || !jwtUtil.validateToken(accessToken.get())) {
+            return Optional.empty();
+        }
+        try {
+            String email = jwtUtil.getUsernameFromToken(accessToken.get());
+            return Optional.of(userService.getPrincipalByEmail(email).userId());
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * accessToken 쿠키 값 (검증하지 않음)
+     */
+    public static Optional<String> accessToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (ACCESS_TOKEN_COOKIE.equals(cookie.getName())) {
+                return Optional.ofNullable(cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+}
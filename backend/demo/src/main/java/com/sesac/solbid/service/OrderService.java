@@ -0,0 +1,36 @@
+package com.sesac.solbid.service;
+
+import com.sesac.solbid.dto.CursorPage;
+import com.sesac.solbid.dto.CursorRequest;
+import com.sesac.solbid.repository.OrderInfoRepository;
+import com.sesac.solbid.repository.projection.OrderSummaryView;
+import com.sesac.solbid.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class OrderService {
+
+    private static final String CURSOR_SORT = "ORDER";
+
+    private final OrderInfoRepository orderInfoRepository;
+
+    // 낙찰 주문 내역 (최신 주문순, 커서 기반)
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummaryView> getOrders(Long userId, CursorRequest request) {
+        KeysetCursor cursor = KeysetCursor.decode(request.getCursor(), CURSOR_SORT);
+        List<OrderSummaryView> fetched = orderInfoRepository.findPageByWinnerId(userId,
+                cursor != null ? cursor.id() : Long.MAX_VALUE, Limit.of(request.getSize() + 1));
+
+        Long total = request.isIncludeTotal() ? orderInfoRepository.countByWinner_UserId(userId) : null;
+        return CursorPage.of(fetched, request.getSize(),
+                order -> KeysetCursor.of(CURSOR_SORT, 0L, order.orderId()).encode(),
+                order -> order,
+                total);
+    }
+}
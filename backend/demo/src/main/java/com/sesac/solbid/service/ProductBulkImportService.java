@@ -0,0 +1,286 @@
+package com.sesac.solbid.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.dto.ProductBulkImportDto;
+import com.sesac.solbid.service.importer.ProductImportRow;
+import com.sesac.solbid.service.importer.ProductRowReader;
+import com.sesac.solbid.service.search.ProductDocument;
+import com.sesac.solbid.service.search.ProductSearchIndex;
+import com.sesac.solbid.service.search.ProductTextIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상품 일괄 등록 (대량 판매자용 CSV / NDJSON)
+ *
+ * - 요청 본문을 한 행씩 읽어 검증하고, 통과한 행만 batch-size 단위로 모아 JDBC 배치 INSERT 한다
+ * - 배치마다 짧은 트랜잭션 하나로 커밋하므로 파일 크기와 무관하게 메모리와 DB 잠금 시간이 일정하다
+ * - 잘못된 행은 건너뛰고 줄 번호와 이유를 모아 돌려준다 (앞에서부터 max-errors 건까지만 보관)
+ * - JDBC 로 저장해 엔티티 리스너를 거치지 않으므로 커밋된 배치를 검색 인덱스에 직접 반영한다
+ */
+@Slf4j
+@Service
+public class ProductBulkImportService {
+
+    static final String INSERT_SQL = "INSERT INTO product "
+            + "(seller_id, product_category, product_status, product_condition, product_brand, size, name, description, "
+            + "start_price, confirmation_price, start_date, end_date, current_price, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    // Product 엔티티 제약과 같은 값
+    private static final int MIN_SIZE = 230;
+    private static final int MAX_SIZE = 300;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductTextIndex productTextIndex;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public ProductBulkImportService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                    ProductSearchIndex productSearchIndex, ProductTextIndex productTextIndex,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.product.import.batch-size:500}") int batchSize,
+                                    @Value("${app.product.import.max-errors:1000}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.productSearchIndex = productSearchIndex;
+        this.productTextIndex = productTextIndex;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    // 검증을 통과한 행
+    private record Candidate(long line, String name, ProductBrand brand, ProductCategory category,
+                             ProductCondition condition, int size, int startPrice, int confirmationPrice,
+                             LocalDate startDate, LocalDate endDate, String description) {
+    }
+
+    private final class Progress {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<ProductBulkImportDto.RowError> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ProductBulkImportDto.RowError(line, message));
+            }
+        }
+
+        private ProductBulkImportDto.Result result() {
+            return ProductBulkImportDto.Result.builder()
+                    .total(total)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+
+    /**
+     * @param charset 요청 본문 문자셋 (null 이면 UTF-8)
+     */
+    public ProductBulkImportDto.Result importProducts(Long sellerId, ProductRowReader.Format format, InputStream in,
+                                                      Charset charset) throws IOException {
+        Progress progress = new Progress();
+        List<Candidate> batch = new ArrayList<>(batchSize);
+        try (ProductRowReader reader = ProductRowReader.open(format, in, charset, objectMapper)) {
+            ProductImportRow row;
+            while ((row = reader.next()) != null) {
+                progress.total++;
+                List<String> problems = new ArrayList<>();
+                Candidate candidate = validate(row, problems);
+                if (candidate == null) {
+                    progress.fail(row.line(), String.join(", ", problems));
+                    continue;
+                }
+                batch.add(candidate);
+                if (batch.size() == batchSize) {
+                    flush(sellerId, batch, progress);
+                    batch.clear();
+                }
+            }
+        }
+        flush(sellerId, batch, progress);
+        log.info("상품 일괄 등록: sellerId={}, format={}, 전체 {}행, 등록 {}건, 실패 {}건",
+                sellerId, format, progress.total, progress.imported, progress.failed);
+        return progress.result();
+    }
+
+    private void flush(Long sellerId, List<Candidate> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Long> productIds;
+        try {
+            productIds = transactionTemplate.execute(status -> insert(sellerId, batch));
+        } catch (DataAccessException e) {
+            // 배치 전체가 롤백되므로 배치의 모든 행을 실패로 보고하고 다음 배치를 계속한다
+            log.warn("상품 일괄 등록 배치 저장 실패: {}~{}행", batch.get(0).line(), batch.get(batch.size() - 1).line(), e);
+            for (Candidate candidate : batch) {
+                progress.fail(candidate.line(), "저장에 실패했습니다");
+            }
+            return;
+        }
+        progress.imported += batch.size();
+        index(batch, productIds);
+    }
+
+    private List<Long> insert(Long sellerId, List<Candidate> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"product_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Candidate c = batch.get(i);
+                        ps.setLong(1, sellerId);
+                        ps.setString(2, c.category().name());
+                        ps.setString(3, ProductStatus.AVAILABLE.name());
+                        ps.setString(4, c.condition().name());
+                        ps.setString(5, c.brand().name());
+                        ps.setInt(6, c.size());
+                        ps.setString(7, c.name());
+                        ps.setString(8, c.description());
+                        ps.setInt(9, c.startPrice());
+                        ps.setInt(10, c.confirmationPrice());
+                        ps.setDate(11, Date.valueOf(c.startDate()));
+                        ps.setDate(12, Date.valueOf(c.endDate()));
+                        ps.setTimestamp(13, now);
+                        ps.setTimestamp(14, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keyHolder);
+        // 드라이버마다 키 열 이름이 달라 (MySQL 은 GENERATED_KEY) 첫 번째 값을 쓴다
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    private void index(List<Candidate> batch, List<Long> productIds) {
+        if (productIds.size() != batch.size()) {
+            log.warn("생성 키 수가 배치 크기와 달라 검색 인덱스 반영을 건너뜀 (재시작 시 재구성): keys={}, rows={}",
+                    productIds.size(), batch.size());
+            return;
+        }
+        List<ProductDocument> docs = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Candidate c = batch.get(i);
+            Long productId = productIds.get(i);
+            docs.add(new ProductDocument(productId, c.name(), c.brand(), c.category(), c.condition(),
+                    ProductStatus.AVAILABLE, c.size(), c.startPrice()));
+            productTextIndex.upsert(productId, c.name(), c.description());
+        }
+        productSearchIndex.upsertAll(docs);
+    }
+
+    /**
+     * 행 검증 (한 행의 문제를 모두 모아 한 번에 보고), 통과하지 못하면 null
+     */
+    private Candidate validate(ProductImportRow row, List<String> problems) {
+        if (row.isMalformed()) {
+            problems.add(row.malformed());
+            return null;
+        }
+        String name = required(problems, "name", row.name());
+        if (name != null && name.length() > MAX_NAME_LENGTH) {
+            problems.add("name 은 " + MAX_NAME_LENGTH + "자 이하여야 합니다");
+        }
+        ProductBrand brand = parse(problems, "brand", row.brand(), ProductBrand::from, null);
+        ProductCategory category = parse(problems, "category", row.category(), ProductCategory::from, null);
+        ProductCondition condition = parse(problems, "condition", row.condition(), ProductCondition::from, null);
+        Integer size = parse(problems, "size", row.size(), Integer::valueOf, "size 는 정수여야 합니다");
+        if (size != null && (size < MIN_SIZE || size > MAX_SIZE)) {
+            problems.add("size 는 " + MIN_SIZE + "~" + MAX_SIZE + " 사이여야 합니다: " + size);
+        }
+        Integer startPrice = price(problems, "startPrice", row.startPrice());
+        Integer confirmationPrice = price(problems, "confirmationPrice", row.confirmationPrice());
+        LocalDate startDate = parse(problems, "startDate", row.startDate(), LocalDate::parse,
+                "startDate 는 yyyy-MM-dd 형식이어야 합니다");
+        LocalDate endDate = parse(problems, "endDate", row.endDate(), LocalDate::parse,
+                "endDate 는 yyyy-MM-dd 형식이어야 합니다");
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            problems.add("endDate 가 startDate 보다 빠릅니다");
+        }
+        String description = row.description() != null ? row.description() : "";
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            problems.add("description 은 " + MAX_DESCRIPTION_LENGTH + "자 이하여야 합니다");
+        }
+        if (!problems.isEmpty()) {
+            return null;
+        }
+        return new Candidate(row.line(), name, brand, category, condition, size, startPrice, confirmationPrice,
+                startDate, endDate, description);
+    }
+
+    private static String required(List<String> problems, String field, String value) {
+        if (value == null || value.isBlank()) {
+            problems.add("필수 값이 없습니다: " + field);
+            return null;
+        }
+        return value.trim();
+    }
+
+    /**
+     * @param message 변환 실패 시 메시지 (null 이면 예외 메시지, enum from() 의 "존재하지 않는 브랜드: X" 등)
+     */
+    private static <T> T parse(List<String> problems, String field, String value, Function<String, T> parser,
+                               String message) {
+        String trimmed = required(problems, field, value);
+        if (trimmed == null) {
+            return null;
+        }
+        try {
+            return parser.apply(trimmed);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            problems.add(message != null ? message : e.getMessage());
+            return null;
+        }
+    }
+
+    private static Integer price(List<String> problems, String field, String value) {
+        Integer price = parse(problems, field, value, Integer::valueOf, field + " 는 정수여야 합니다");
+        if (price != null && price < 0) {
+            problems.add(field + " 는 0 이상이어야 합니다");
+            return null;
+        }
+        return price;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sesac.solbid.service;
+
+import com.sesac.solbid.dto.ProductImageUploadDto;
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.service.image.ImageBlobStore;
+import com.sesac.solbid.service.storage.DirectUpload;
+import com.sesac.solbid.service.storage.DirectUploadSigner;
+import com.sesac.solbid.service.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 이미지 직접 업로드 (이미지 바이트가 앱 서버를 거치지 않음)
+ *
+ * - prepare: 파일마다 내용 해시 키를 정하고, 이미 참조 중인 내용이 아니면 그 키에만 쓸 수 있는 업로드 주소를 발급한다
+ * - confirm: 상품 등록 시 클라이언트가 보낸 키가 실제로 올라왔는지 확인한다 (HEAD 한 번, 본문은 읽지 않음)
+ * - 발급 시 ImageBlobStore.touch 로 참조 0 행을 만들어 두므로 올리고 등록하지 않은 객체는 GC 가 지운다
+ */
+@Slf4j
+@Service
+public class ProductImageDirectUploadService {
+
+    // ObjectStorage.contentKey 형식 (SHA-256 + 확장자), 다른 객체(리사이즈 사본 등)를 상품 이미지로 등록하지 못하게 한다
+    private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,10})?");
+
+    private final ObjectStorage objectStorage;
+    private final DirectUploadSigner directUploadSigner;
+    private final ImageBlobStore imageBlobStore;
+    private final long maxSize;
+    private final Duration urlTtl;
+
+    public ProductImageDirectUploadService(ObjectStorage objectStorage, DirectUploadSigner directUploadSigner,
+                                           ImageBlobStore imageBlobStore,
+                                           @Value("${app.image.upload.max-size:10485760}") long maxSize,
+                                           @Value("${app.image.upload.url-ttl-minutes:15}") long urlTtlMinutes) {
+        this.objectStorage = objectStorage;
+        this.directUploadSigner = directUploadSigner;
+        this.imageBlobStore = imageBlobStore;
+        this.maxSize = maxSize;
+        this.urlTtl = Duration.ofMinutes(urlTtlMinutes);
+    }
+
+    public List<ProductImageUploadDto.UploadTicket> prepare(List<ProductImageUploadDto.FileSpec> files) {
+        for (ProductImageUploadDto.FileSpec file : files) {
+            if (file.getSize() > maxSize) {
+                throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
+            }
+        }
+        return files.stream().map(this::ticket).toList();
+    }
+
+    /**
+     * 등록할 이미지 키 확인 (요청 순서 유지, 첫 번째가 썸네일)
+     */
+    public List<ProductImageService.UploadedImage> confirm(List<ProductImageUploadDto.UploadedFile> files) {
+        return files.stream()
+                .map(file -> {
+                    String key = file.getKey();
+                    if (!CONTENT_KEY.matcher(key).matches() || !isStored(key)) {
+                        log.debug("업로드되지 않은 이미지 키로 등록 시도: {}", key);
+                        throw new CustomException(ErrorCode.IMAGE_NOT_UPLOADED);
+                    }
+                    return new ProductImageService.UploadedImage(key, objectStorage.url(key), file.getFileName());
+                })
+                .toList();
+    }
+
+    private ProductImageUploadDto.UploadTicket ticket(ProductImageUploadDto.FileSpec file) {
+        String sha256 = file.getSha256().toLowerCase(Locale.ROOT);
+        String key = ObjectStorage.contentKey(sha256, file.getFileName());
+        if (imageBlobStore.isReferenced(key)) {
+            return ProductImageUploadDto.UploadTicket.builder()
+                    .key(key)
+                    .uploadRequired(false)
+                    .build();
+        }
+        imageBlobStore.touch(key);
+        DirectUpload upload = directUploadSigner.sign(key, file.getContentType(), file.getSize(), sha256, urlTtl);
+        return ProductImageUploadDto.UploadTicket.builder()
+                .key(key)
+                .uploadRequired(true)
+                .url(upload.url())
+                .method(upload.method())
+                .headers(upload.headers())
+                .expiresAt(upload.expiresAt())
+                .build();
+    }
+
+    // 확인 직후 GC 가 지우지 않도록 유예 시간을 다시 시작한 뒤 확인한다 (GC 가 삭제 중이면 touch 가 끝날 때까지 기다림)
+    private boolean isStored(String key) {
+        if (imageBlobStore.isReferenced(key)) {
+            return true;
+        }
+        imageBlobStore.touch(key);
+        try {
+            return objectStorage.exists(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,24 +1,141 @@
 package com.sesac.solbid.service;
 
 import com.sesac.solbid.domain.ProductImage;
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
 import com.sesac.solbid.repository.ProductImageRepository;
-import lombok.RequiredArgsConstructor;
+import com.sesac.solbid.service.image.ImageBlobStore;
+import com.sesac.solbid.service.storage.ContentHash;
+import com.sesac.solbid.service.storage.ImageTypes;
+import com.sesac.solbid.service.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProductImageService {
+
+    static final String INSERT_SQL = "INSERT INTO product_image "
+            + "(product_id, file_path, file_name, sort_order, is_thumbnail, created_at, updated_at, storage_key) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final ProductImageRepository productImageRepository;
-    private final S3Service s3Service;
+    private final ObjectStorage objectStorage;
+    private final ImageBlobStore imageBlobStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor imageUploadExecutor;
+
+    public ProductImageService(ProductImageRepository productImageRepository, ObjectStorage objectStorage,
+                               ImageBlobStore imageBlobStore, JdbcTemplate jdbcTemplate,
+                               @Qualifier("imageUploadExecutor") Executor imageUploadExecutor) {
+        this.productImageRepository = productImageRepository;
+        this.objectStorage = objectStorage;
+        this.imageBlobStore = imageBlobStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageUploadExecutor = imageUploadExecutor;
+    }
 
-    public String upload(MultipartFile file) throws IOException {
-        return s3Service.upload(file);
+    /**
+     * 스토리지에 올라간 이미지 (files 순서 유지)
+     *
+     * @param key 내용 해시 키 (같은 사진이면 다른 상품과 같은 키)
+     */
+    public record UploadedImage(String key, String url, String fileName) {
+    }
+
+    /**
+     * 이미지들을 업로드 전용 풀에서 동시에 올린다 (걸리는 시간 ≈ 가장 느린 한 장)
+     * 하나라도 실패하면 FILE_UPLOAD_FAILED (먼저 올라간 이미지는 참조 0 으로 남아 ImageBlobStore GC 가 지운다).
+     * 허용 형식(ImageTypes)이 아닌 파일이 있으면 하나도 올리지 않고 UNSUPPORTED_IMAGE_TYPE.
+     * DB 커넥션을 업로드 시간 동안 잡고 있지 않도록 트랜잭션 밖에서 호출한다.
+     */
+    public List<UploadedImage> uploadAll(List<MultipartFile> files) {
+        for (MultipartFile file : files) {
+            if (!ImageTypes.isAllowed(file.getContentType())) {
+                throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE);
+            }
+        }
+        List<CompletableFuture<UploadedImage>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadOne(file), imageUploadExecutor))
+                .toList();
+
+        // 실패가 있어도 나머지가 끝날 때까지 기다려 실패 뒤에도 업로드가 계속 나가지 않게 한다
+        List<UploadedImage> uploaded = new ArrayList<>(files.size());
+        Throwable failure = null;
+        for (CompletableFuture<UploadedImage> upload : uploads) {
+            try {
+                uploaded.add(upload.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+        if (failure != null) {
+            log.warn("상품 이미지 업로드 실패 (성공 {}장 / 전체 {}장)", uploaded.size(), files.size(), failure);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        return uploaded;
+    }
+
+    /**
+     * 상품 이미지 행을 JDBC 배치 한 번으로 저장 (첫 번째 이미지가 썸네일)
+     * IDENTITY 키라 JPA 로는 INSERT 가 한 건씩 나가므로 JdbcTemplate 을 쓴다. 호출한 쪽 트랜잭션에 참여한다.
+     * 같은 트랜잭션에서 이미지 객체의 참조 수를 올리므로 등록이 롤백되면 참조도 남지 않는다.
+     */
+    public void insertAll(Long productId, List<UploadedImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            UploadedImage image = images.get(i);
+            rows.add(new Object[]{productId, image.url(), image.fileName(), i, i == 0, now, now, image.key()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        imageBlobStore.acquire(images.stream().map(UploadedImage::key).toList());
     }
 
     public void save(ProductImage productImage) {
         productImageRepository.save(productImage);
     }
+
+    /**
+     * 해시를 먼저 계산하고, 이미 참조 중인 내용이면 스토리지에 쓰지 않는다
+     * 멀티파트 요청의 파일은 서블릿 컨테이너가 임시 파일로 받아 두므로 두 번 읽어도 네트워크 비용은 없다.
+     */
+    private UploadedImage uploadOne(MultipartFile file) {
+        try {
+            String key;
+            try (InputStream in = file.getInputStream()) {
+                key = ObjectStorage.contentKey(ContentHash.sha256Hex(in), file.getOriginalFilename());
+            }
+            if (imageBlobStore.isReferenced(key)) {
+                log.debug("같은 내용의 이미지가 있어 업로드 생략: {}", key);
+            } else {
+                imageBlobStore.touch(key);
+                try (InputStream in = file.getInputStream()) {
+                    objectStorage.put(key, in, file.getSize(), file.getContentType());
+                }
+            }
+            return new UploadedImage(key, objectStorage.url(key), file.getOriginalFilename());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
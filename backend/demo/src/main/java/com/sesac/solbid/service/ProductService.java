@@ -1,8 +1,24 @@
 package com.sesac.solbid.service;
 
+import com.sesac.solbid.domain.Product;
+import com.sesac.solbid.dto.CursorPage;
+import com.sesac.solbid.dto.ProductImageUploadDto;
+import com.sesac.solbid.dto.ProductRegisterDto;
+import com.sesac.solbid.dto.ProductSearchDto;
 import com.sesac.solbid.repository.ProductRepository;
+import com.sesac.solbid.repository.UserRepository;
+import com.sesac.solbid.service.image.ImageVariantService;
+import com.sesac.solbid.service.search.ProductDocument;
+import com.sesac.solbid.service.search.ProductSearchIndex;
+import com.sesac.solbid.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 @Service
@@ -12,36 +28,78 @@ public class ProductService {
 
     private final ProductImageService productImageService;
 
-//    @Transactional
-//    public void registerProduct(ProductRegisterDto dto, List<MultipartFile> files) throws IOException {
-//        // TODO : 더미 유저 생성
-//        User user = new User();
-//
-//        // 상품 먼저 생성
-//        Product product = dto.createEntity(user);
-//
-//        // 이후 이미지 저장 및 생성
-//        int sort = 0;
-//        for (MultipartFile file : files) {
-//            String filePath = productImageService.upload(file);
-//            String fileName = file.getOriginalFilename();
-//
-//            ProductImage productImage = ProductImage.builder()
-//                    .filePath(filePath)
-//                    .fileName(fileName)
-//                    .sortOrder(sort)
-//                    .isThumbnail(sort == 0)
-//                    .product(product)
-//                    .build();
-//
-//            // 이미지 저장
-//            productImageService.save(productImage);
-//            // product.getProductImages().add(productImage);
-//
-//            sort++;
-//        }
-//
-//        // 상품 저장
-//        productRepository.save(product);
-//    }
+    private final ProductSearchIndex productSearchIndex;
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ImageVariantService imageVariantService;
+
+    private final ProductImageDirectUploadService productImageDirectUploadService;
+
+    /**
+     * 상품 목록 (커서 기반)
+     * 마지막 행의 (정렬 키, productId) 다음부터 조회하므로 뒤쪽 페이지로 가도 조회 비용이 늘지 않는다.
+     * 전체 건수는 COUNT(*) 대신 검색 인덱스의 상태별 개수를 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProductSearchDto.ProductItem> getProducts(ProductSearchDto.ListRequest request) {
+        ProductSearchDto.ListSort sort = request.getSort();
+        KeysetCursor cursor = KeysetCursor.decode(request.getCursor(), sort.name());
+        Limit limit = Limit.of(request.getSize() + 1);
+
+        List<Product> fetched = switch (sort) {
+            case LATEST -> productRepository.findPageLatest(request.getStatus(),
+                    cursor != null ? cursor.id() : Long.MAX_VALUE, limit);
+            case PRICE_ASC -> productRepository.findPageByPriceAsc(request.getStatus(),
+                    cursor != null ? (int) cursor.key() : Integer.MIN_VALUE,
+                    cursor != null ? cursor.id() : Long.MIN_VALUE, limit);
+            case PRICE_DESC -> productRepository.findPageByPriceDesc(request.getStatus(),
+                    cursor != null ? (int) cursor.key() : Integer.MAX_VALUE,
+                    cursor != null ? cursor.id() : Long.MAX_VALUE, limit);
+        };
+
+        Long total = request.isIncludeTotal() ? (long) productSearchIndex.count(request.getStatus()) : null;
+        return CursorPage.of(fetched, request.getSize(),
+                product -> KeysetCursor.of(sort.name(), sortKey(sort, product), product.getProductId()).encode(),
+                product -> ProductSearchIndex.toItem(ProductDocument.from(product)),
+                total);
+    }
+
+    private static long sortKey(ProductSearchDto.ListSort sort, Product product) {
+        return sort == ProductSearchDto.ListSort.LATEST ? 0L : product.getStartPrice();
+    }
+
+    /**
+     * 상품 등록
+     * 이미지는 트랜잭션 밖에서 병렬로 올리고, 상품과 이미지 행은 짧은 트랜잭션 하나로 저장한다.
+     * 저장이 실패하면 올려 둔 이미지는 참조 0 으로 남아 나중에 정리된다 (다른 상품과 공유 중일 수 있어 바로 지우지 않음).
+     * 커밋된 뒤에 리사이즈 사본 생성을 예약한다.
+     */
+    public Long registerProduct(Long sellerId, ProductRegisterDto dto, List<MultipartFile> files) {
+        // 입력 값 검증(enum/날짜 파싱)을 업로드보다 먼저 해서 잘못된 요청이 스토리지를 쓰지 않게 한다
+        Product product = dto.createEntity(userRepository.getReferenceById(sellerId));
+
+        return save(product, productImageService.uploadAll(files));
+    }
+
+    /**
+     * 직접 업로드한 이미지로 상품 등록 (이미지 바이트는 앱 서버를 거치지 않음)
+     * 이미지 키가 저장소에 올라와 있는지만 확인하고 나머지는 multipart 등록과 같다.
+     */
+    public Long registerProduct(Long sellerId, ProductImageUploadDto.RegisterRequest request) {
+        Product product = request.getProduct().createEntity(userRepository.getReferenceById(sellerId));
+        return save(product, productImageDirectUploadService.confirm(request.getImages()));
+    }
+
+    private Long save(Product product, List<ProductImageService.UploadedImage> images) {
+        Long productId = transactionTemplate.execute(status -> {
+            productRepository.save(product);
+            productImageService.insertAll(product.getProductId(), images);
+            return product.getProductId();
+        });
+        imageVariantService.submitAll(productId, images.stream().map(ProductImageService.UploadedImage::key).toList());
+        return productId;
+    }
 }
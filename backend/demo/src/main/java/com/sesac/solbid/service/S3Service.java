@@ -1,62 +0,0 @@
-package com.sesac.solbid.service;
-
-import com.sesac.solbid.util.S3MultipartFile;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.ResponseBytes;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-
-import java.io.IOException;
-import java.util.UUID;
-
-@Service
-@RequiredArgsConstructor
-public class S3Service {
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-
-    private final S3Client s3Client = S3Client.builder()
-            .region(Region.AP_SOUTHEAST_2)
-            .build();
-
-    public String upload(MultipartFile file) throws IOException {
-        String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
-
-        s3Client.putObject(
-                PutObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(fileName)
-                        .acl(ObjectCannedACL.PUBLIC_READ)
-                        .contentType(file.getContentType())
-                        .build(),
-                RequestBody.fromInputStream(file.getInputStream(), file.getSize())
-        );
-
-        return "https://" + bucket + ".s3.ap-southeast-2.amazonaws.com/" + fileName;
-    }
-
-    public MultipartFile download(String fileName) throws IOException {
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucket)
-                .key(fileName)
-                .build();
-
-        ResponseBytes<GetObjectResponse> objectBytes =
-                s3Client.getObjectAsBytes(getObjectRequest);
-
-        return new S3MultipartFile(
-                objectBytes.asByteArray(), // byte[]
-                fileName, // original filename
-                objectBytes.response().contentType() // content-type
-        );
-    }
-}
@@ -13,15 +13,19 @@ import com.sesac.solbid.exception.ErrorCode;
 import com.sesac.solbid.exception.OAuth2Exception;
 import com.sesac.solbid.repository.SocialLoginRepository;
 import com.sesac.solbid.repository.UserRepository;
+import com.sesac.solbid.repository.projection.UserCredentialView;
+import com.sesac.solbid.repository.projection.UserPrincipalView;
+import com.sesac.solbid.repository.projection.UserSocialLinkView;
 import com.sesac.solbid.util.JwtUtil;
+import com.sesac.solbid.util.TemporaryNicknameGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +36,7 @@ public class UserService {
     private final SocialLoginRepository socialLoginRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TemporaryNicknameGenerator temporaryNicknameGenerator;
 
     @Transactional
     public User signup(UserDto.SignupRequest requestDto) {
@@ -46,24 +51,23 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    @Transactional
     public UserDto.LoginResponse login(UserDto.LoginRequest requestDto) {
-        User user = userRepository.findByEmail(requestDto.getEmail())
+        UserCredentialView user = userRepository.findCredentialByEmail(requestDto.getEmail())
                 .orElseThrow(() -> new CustomException(ErrorCode.LOGIN_FAILED));
 
-        if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
+        if (!passwordEncoder.matches(requestDto.getPassword(), user.password())) {
             throw new CustomException(ErrorCode.LOGIN_FAILED);
         }
 
-        if (user.getUserStatus() != UserStatus.ACTIVE) {
+        if (user.userStatus() != UserStatus.ACTIVE) {
             throw new CustomException(ErrorCode.INACTIVE_USER);
         }
 
         // JwtUtil의 토큰 생성 메서드명에 맞춰 수정
-        final String accessToken = jwtUtil.generateToken(user.getEmail());
-        final String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
+        final String accessToken = jwtUtil.generateToken(user.email());
+        final String refreshToken = jwtUtil.generateRefreshToken(user.email());
 
-        return UserDto.LoginResponse.from(user, accessToken, refreshToken);
+        return UserDto.LoginResponse.from(user.toPrincipal(), accessToken, refreshToken);
     }
 
     public User findById(Long userId) {
@@ -77,12 +81,18 @@ public class UserService {
                 .orElseThrow(() -> new CustomException(ErrorCode.LOGIN_FAILED));
     }
 
+    // 이메일로 인증 주체 조회 (엔티티 로딩 없이 /me, 토큰 갱신용)
+    public UserPrincipalView getPrincipalByEmail(String email) {
+        return userRepository.findPrincipalByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.LOGIN_FAILED));
+    }
+
     // 닉네임 가용성 확인
     public boolean isNicknameAvailable(String nickname) {
         if (nickname == null || nickname.isBlank()) return false;
         if (nickname.length() < 2 || nickname.length() > 10) return false;
         // 임시 접두 사용 방지 권장
-        if (nickname.startsWith("user_")) return false;
+        if (nickname.startsWith(TemporaryNicknameGenerator.PREFIX)) return false;
         return userRepository.findByNickname(nickname).isEmpty();
     }
 
@@ -109,6 +119,7 @@ public class UserService {
         // provider가 제공하는 이름은 name 으로만 사용하고, nickname 은 사용자가 직접 설정하도록 유도
         String displayName = getDisplayName(provider, userAttributes);
 
+        // 재방문 사용자는 user 까지 fetch join 된 단일 쿼리로 처리
         Optional<SocialLogin> socialLoginOptional = socialLoginRepository.findByProviderAndProviderId(provider, providerId);
 
         User user;
@@ -122,21 +133,19 @@ public class UserService {
                 }
             }
         } else {
-            Optional<User> userOptional = userRepository.findByEmail(email);
-            if (userOptional.isPresent()) {
-                user = userOptional.get();
+            // 이메일 사용자와 이미 연결된 provider 를 함께 조회
+            List<UserSocialLinkView> links = userRepository.findSocialLinksByEmail(email);
+            if (!links.isEmpty()) {
+                user = links.get(0).getUser();
                 // 다른 소셜 계정으로 이미 연결된 경우 충돌 처리
-                Optional<SocialLogin> existingLogin = socialLoginRepository.findByUser(user);
-                if (existingLogin.isPresent() && existingLogin.get().getProvider() != provider) {
+                boolean linkedToOtherProvider = links.stream()
+                        .map(UserSocialLinkView::getProvider)
+                        .anyMatch(linked -> linked != null && linked != provider);
+                if (linkedToOtherProvider) {
                     throw new OAuth2Exception(ErrorCode.SOCIAL_ACCOUNT_CONFLICT);
                 }
                 // 동일 사용자에 새로운 소셜 계정 연결 (사용자 프로필은 변경하지 않음)
-                SocialLogin socialLogin = SocialLogin.builder()
-                        .user(user)
-                        .provider(provider)
-                        .providerId(providerId)
-                        .build();
-                socialLoginRepository.save(socialLogin);
+                linkSocialAccount(user, provider, providerId);
             } else {
                 // 새로운 유저 생성 시, provider가 준 display name을 name 컬럼에 저장
                 // nickname 은 임시값(고유)으로 생성하여 저장하고, 이후 사용자 입력으로 변경하도록 유도
@@ -150,17 +159,22 @@ public class UserService {
                         .build();
                 userRepository.save(user);
 
-                SocialLogin socialLogin = SocialLogin.builder()
-                        .user(user)
-                        .provider(provider)
-                        .providerId(providerId)
-                        .build();
-                socialLoginRepository.save(socialLogin);
+                linkSocialAccount(user, provider, providerId);
             }
         }
         return user;
     }
 
+    // social_login(provider, provider_id) 유니크 제약이 동시 가입 시 중복 연결을 막는다
+    private void linkSocialAccount(User user, ProviderType provider, String providerId) {
+        SocialLogin socialLogin = SocialLogin.builder()
+                .user(user)
+                .provider(provider)
+                .providerId(providerId)
+                .build();
+        socialLoginRepository.save(socialLogin);
+    }
+
     private String getProviderId(ProviderType provider, Map<String, Object> attributes) {
         if (provider == ProviderType.Google) {
             Object sub = attributes.get("sub");
@@ -217,22 +231,8 @@ public class UserService {
         throw new IllegalArgumentException("Unsupported Provider: " + provider);
     }
 
-    // 임시 닉네임 생성: user_ + 10자리 영소문자/숫자, 중복 회피
+    // 임시 닉네임 생성: 노드 ID + 시퀀스 기반이라 중복 조회 없이 고유함
     private String generateTemporaryNickname() {
-        final String prefix = "user_";
-        final String chars = "abcdefghijklmnopqrstuvwxyz0123456789";
-        Random rnd = new Random();
-        for (int attempt = 0; attempt < 10; attempt++) {
-            StringBuilder sb = new StringBuilder(prefix);
-            for (int i = 0; i < 10; i++) {
-                sb.append(chars.charAt(rnd.nextInt(chars.length())));
-            }
-            String candidate = sb.toString();
-            if (userRepository.findByNickname(candidate).isEmpty()) {
-                return candidate;
-            }
-        }
-        // 매우 드문 경우, UUID 일부 사용
-        return prefix + Long.toHexString(System.nanoTime());
+        return temporaryNicknameGenerator.generate();
     }
 }
@@ -0,0 +1,36 @@
+package com.sesac.solbid.service;
+
+import com.sesac.solbid.dto.CursorPage;
+import com.sesac.solbid.dto.CursorRequest;
+import com.sesac.solbid.repository.WishListRepository;
+import com.sesac.solbid.repository.projection.WishListItemView;
+import com.sesac.solbid.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class WishListService {
+
+    private static final String CURSOR_SORT = "WISHLIST";
+
+    private final WishListRepository wishListRepository;
+
+    // 사용자 찜 목록 (최근 찜한 순, 커서 기반)
+    @Transactional(readOnly = true)
+    public CursorPage<WishListItemView> getWishList(Long userId, CursorRequest request) {
+        KeysetCursor cursor = KeysetCursor.decode(request.getCursor(), CURSOR_SORT);
+        List<WishListItemView> fetched = wishListRepository.findPageByUserId(userId,
+                cursor != null ? cursor.id() : Long.MAX_VALUE, Limit.of(request.getSize() + 1));
+
+        Long total = request.isIncludeTotal() ? wishListRepository.countByUser_UserId(userId) : null;
+        return CursorPage.of(fetched, request.getSize(),
+                item -> KeysetCursor.of(CURSOR_SORT, 0L, item.wishListId()).encode(),
+                item -> item,
+                total);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sesac.solbid.service.auction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 마감 처리 후 발행
+ *
+ * @param sold 낙찰자가 있으면 true, 유찰이면 false
+ */
+public record AuctionClosedEvent(Long auctionEventId, Long productId, Long sellerId, boolean sold,
+                                 LocalDateTime closedAt) {
+}
@@ -0,0 +1,58 @@
+package com.sesac.solbid.service.auction;
+
+import com.sesac.solbid.domain.AuctionEventSketch;
+import com.sesac.solbid.repository.AuctionEventRepository;
+import com.sesac.solbid.repository.AuctionEventSketchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 경매 스케치 저장소 (auction_event_sketch)
+ * 저장된 스케치와 병합해서 쓰므로 여러 노드가 각자 모은 스케치를 몇 번 반영해도 결과가 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionSketchStore {
+
+    private final AuctionEventSketchRepository sketchRepository;
+    private final AuctionEventRepository auctionEventRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<UniqueSketches> load(Long auctionEventId) {
+        return sketchRepository.findById(auctionEventId).map(AuctionSketchStore::toSketches);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean exists(Long auctionEventId) {
+        return auctionEventRepository.existsById(auctionEventId);
+    }
+
+    /**
+     * 저장된 스케치에 병합해 저장하고 병합 결과를 반환 (존재하지 않는 경매면 empty)
+     */
+    @Transactional
+    public Optional<UniqueSketches> mergeAndSave(Long auctionEventId, UniqueSketches local) {
+        AuctionEventSketch row = sketchRepository.findForUpdate(auctionEventId).orElse(null);
+        if (row == null) {
+            if (!auctionEventRepository.existsById(auctionEventId)) {
+                return Optional.empty();
+            }
+            row = new AuctionEventSketch(auctionEventId);
+        }
+        UniqueSketches merged = toSketches(row);
+        merged.viewers().merge(local.viewers());
+        merged.bidders().merge(local.bidders());
+        row.update(merged.viewers().toBytes(), merged.bidders().toBytes());
+        sketchRepository.save(row);
+        return Optional.of(merged);
+    }
+
+    private static UniqueSketches toSketches(AuctionEventSketch row) {
+        return new UniqueSketches(
+                row.getViewerSketch() != null ? HyperLogLog.fromBytes(row.getViewerSketch()) : new HyperLogLog(),
+                row.getBidderSketch() != null ? HyperLogLog.fromBytes(row.getBidderSketch()) : new HyperLogLog());
+    }
+}
@@ -0,0 +1,159 @@
+package com.sesac.solbid.service.auction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경매별 고유 조회자/입찰자 수 (HyperLogLog 추정치)
+ *
+ * - 사용자 집합 대신 경매당 스케치 2개(각 약 3KB)만 메모리에 두고 추정값은 상수 시간으로 계산한다
+ * - 주기적으로 DB 스케치와 병합해 저장하므로 노드가 여러 대여도 모든 노드의 관측이 합쳐진다
+ * - 일정 시간 접근이 없고 반영이 끝난 경매는 메모리에서 내린다 (다음 조회 때 DB 에서 다시 읽음)
+ * - 조회자 기록은 메모리에 없는 경매면 먼저 경매가 있는지 확인한다 (없는 ID 로 스케치를 무한히 만들지 못하게)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionUniqueCounter {
+
+    private static final long IDLE_EVICT_MILLIS = 10 * 60 * 1000L;
+
+    private final AuctionSketchStore auctionSketchStore;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        private final HyperLogLog viewers = new HyperLogLog();
+        private final HyperLogLog bidders = new HyperLogLog();
+        // DB 에 반영하지 않은 관측이 있음
+        private boolean dirty;
+        // DB 스케치를 한 번 이상 병합함
+        private volatile boolean loaded;
+        // 맵에서 제거됨 (제거 직전에 참조를 얻은 스레드가 다시 찾도록)
+        private boolean evicted;
+        private long lastAccess = System.currentTimeMillis();
+    }
+
+    /**
+     * @param visitorKey 로그인 사용자 ID 또는 클라이언트 방문자 ID
+     */
+    public void recordViewer(Long auctionEventId, String visitorKey) {
+        // 이미 메모리에 있는 경매는 확인하지 않으므로 DB 조회는 경매를 처음 올릴 때만 한다
+        if (!entries.containsKey(auctionEventId) && !auctionSketchStore.exists(auctionEventId)) {
+            return;
+        }
+        offer(auctionEventId, HyperLogLog.hash(visitorKey), true);
+    }
+
+    // 커밋된 입찰에서만 호출되므로 경매가 있다
+    public void recordBidder(Long auctionEventId, Long bidderId) {
+        offer(auctionEventId, HyperLogLog.hash(bidderId), false);
+    }
+
+    // 입찰이 커밋된 뒤 기록 (롤백된 입찰은 세지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidPlaced(BidPlacedEvent event) {
+        recordBidder(event.auctionEventId(), event.bidderId());
+    }
+
+    public long uniqueViewers(Long auctionEventId) {
+        Entry entry = loaded(auctionEventId);
+        synchronized (entry) {
+            entry.lastAccess = System.currentTimeMillis();
+            return entry.viewers.estimate();
+        }
+    }
+
+    public long uniqueBidders(Long auctionEventId) {
+        Entry entry = loaded(auctionEventId);
+        synchronized (entry) {
+            entry.lastAccess = System.currentTimeMillis();
+            return entry.bidders.estimate();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.auction.unique-count.flush-interval-ms:30000}")
+    public void flush() {
+        long idleBefore = System.currentTimeMillis() - IDLE_EVICT_MILLIS;
+        entries.forEach((auctionEventId, entry) -> {
+            UniqueSketches local;
+            synchronized (entry) {
+                if (!entry.dirty) {
+                    if (entry.lastAccess < idleBefore) {
+                        entry.evicted = true;
+                        entries.remove(auctionEventId, entry);
+                    }
+                    return;
+                }
+                local = new UniqueSketches(entry.viewers.copy(), entry.bidders.copy());
+                entry.dirty = false;
+            }
+            try {
+                Optional<UniqueSketches> merged = auctionSketchStore.mergeAndSave(auctionEventId, local);
+                synchronized (entry) {
+                    if (merged.isEmpty()) {
+                        // 존재하지 않는 경매
+                        entry.evicted = true;
+                        entries.remove(auctionEventId, entry);
+                        return;
+                    }
+                    // 다른 노드의 관측까지 반영
+                    entry.viewers.merge(merged.get().viewers());
+                    entry.bidders.merge(merged.get().bidders());
+                    entry.loaded = true;
+                }
+            } catch (DataAccessException e) {
+                synchronized (entry) {
+                    entry.dirty = true;
+                }
+                log.warn("경매 고유 방문자 스케치 저장 실패, 다음 주기에 재시도: auctionEventId={}", auctionEventId, e);
+            }
+        });
+    }
+
+    private void offer(Long auctionEventId, long hash, boolean viewer) {
+        while (true) {
+            Entry entry = entries.computeIfAbsent(auctionEventId, id -> new Entry());
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                if ((viewer ? entry.viewers : entry.bidders).offer(hash)) {
+                    entry.dirty = true;
+                }
+                entry.lastAccess = System.currentTimeMillis();
+                return;
+            }
+        }
+    }
+
+    // 처음 조회하는 경매는 DB 스케치를 병합해 둔다 (DB 조회는 잠금 밖에서)
+    private Entry loaded(Long auctionEventId) {
+        while (true) {
+            Entry entry = entries.computeIfAbsent(auctionEventId, id -> new Entry());
+            if (entry.loaded) {
+                return entry;
+            }
+            Optional<UniqueSketches> stored = auctionSketchStore.load(auctionEventId);
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                stored.ifPresent(sketches -> {
+                    entry.viewers.merge(sketches.viewers());
+                    entry.bidders.merge(sketches.bidders());
+                });
+                entry.loaded = true;
+                return entry;
+            }
+        }
+    }
+}
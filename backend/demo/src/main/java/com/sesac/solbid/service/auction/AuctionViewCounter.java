@@ -0,0 +1,116 @@
+package com.sesac.solbid.service.auction;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경매 조회수 write-behind 카운터
+ *
+ * - 조회마다 UPDATE 하지 않고 경매별 LongAdder 에 증가분만 모은다 (인기 경매 한 행에 쓰기가 몰리지 않음)
+ * - 주기적으로 증가분을 view_count = view_count + ? 배치 UPDATE 한 번으로 반영한다
+ * - 아직 반영되지 않은 증가분을 DB 값에 더해 실시간 조회수를 계산할 수 있다
+ * - 반영에 실패한 증가분은 다시 쌓아 두었다가 다음 주기에 재시도한다
+ *   (배치는 한 트랜잭션이라 일부만 반영된 채 실패하지 않으므로 재시도가 조회수를 두 번 더하지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionViewCounter {
+
+    static final String INCREMENT_SQL =
+            "UPDATE auctionevent SET view_count = view_count + ? WHERE auction_event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    private static final class Pending {
+        private final LongAdder views = new LongAdder();
+        // 맵에서 제거됨 (제거 직전에 참조를 얻은 스레드가 증가분을 새 카운터로 옮기도록)
+        private volatile boolean retired;
+    }
+
+    public void increment(Long auctionEventId) {
+        add(auctionEventId, 1L);
+    }
+
+    /**
+     * DB 에 아직 반영되지 않은 조회수
+     */
+    public long pending(Long auctionEventId) {
+        Pending entry = pending.get(auctionEventId);
+        return entry != null ? entry.views.sum() : 0L;
+    }
+
+    /**
+     * 실시간 조회수 (DB 값 + 반영 대기 중인 증가분)
+     */
+    public long current(Long auctionEventId, long persistedViewCount) {
+        return persistedViewCount + pending(auctionEventId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auction.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        pending.forEach((auctionEventId, entry) -> {
+            // getAndSet 으로 셀을 비우므로 합산 중에 들어온 증가분은 이번 또는 다음 주기에 반영된다
+            long delta = entry.views.sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, auctionEventId});
+                return;
+            }
+            // 한 주기 동안 조회가 없던 경매는 정리. retired 를 먼저 표시해서 이후 증가분은 add() 가 새 카운터로 옮기고,
+            // 표시 전에 들어온 증가분은 여기서 비워 다음 주기 배치에 넣는다 (셀 단위 getAndSet 이라 양쪽에서 중복되지 않음)
+            entry.retired = true;
+            pending.remove(auctionEventId, entry);
+            long late = entry.views.sumThenReset();
+            if (late > 0) {
+                add(auctionEventId, late);
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_SQL, batch));
+            log.debug("경매 조회수 반영: {}건", batch.size());
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 반영
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+            log.warn("경매 조회수 반영 실패, 다음 주기에 재시도: {}건", batch.size(), e);
+        }
+    }
+
+    // 종료 전에 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(Long auctionEventId, long delta) {
+        while (delta > 0) {
+            Pending entry = pending.computeIfAbsent(auctionEventId, id -> new Pending());
+            entry.views.add(delta);
+            if (!entry.retired) {
+                return;
+            }
+            // 정리 중인 카운터에 더했으면 flush 가 가져가지 않은 만큼 되찾아 새 카운터에 다시 더한다
+            delta = entry.views.sumThenReset();
+        }
+    }
+}
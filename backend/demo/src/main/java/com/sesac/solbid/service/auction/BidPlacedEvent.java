@@ -0,0 +1,11 @@
+package com.sesac.solbid.service.auction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 저장 후 발행 (ApplicationEventPublisher) — 랭킹/고유 입찰자 집계가 커밋 이후에 구독한다
+ */
+public record BidPlacedEvent(Long auctionEventId, Long productId, Long bidderId, BigDecimal bidAmount,
+                             LocalDateTime bidTime) {
+}
@@ -0,0 +1,228 @@
+package com.sesac.solbid.service.auction;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 고유 개수 추정용 HyperLogLog 스케치 (스레드 안전하지 않음)
+ *
+ * - 2^precision 개 레지스터에 해시 앞자리로 고른 레지스터마다 "처음 1 이 나오는 위치"의 최댓값을 기록한다
+ * - 기본 정밀도 12 (레지스터 4096개) 에서 표준 오차 약 1.6%, 직렬화 크기 약 3KB (레지스터당 6비트)
+ * - 병합은 레지스터별 최댓값이라 여러 번/여러 노드에서 합쳐도 결과가 같다 (멱등)
+ * - 레지스터 값(rank)별 개수를 유지하므로 추정은 레지스터 수와 무관하게 상수 시간 (rank 종류 수만큼만 계산)
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 2;
+    private static final int BITS_PER_REGISTER = 6;
+    // 64비트 해시에서 나올 수 있는 최대 rank (64 - precision + 1) 여유분 포함
+    private static final int MAX_RANK = 64;
+
+    private final int precision;
+    private final byte[] registers;
+    // rank 값별 레지스터 수 (rankCounts[0] = 비어 있는 레지스터 수)
+    private final int[] rankCounts = new int[MAX_RANK + 1];
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision 은 4~16 이어야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+        this.rankCounts[0] = registers.length;
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * 64비트 해시 값 추가 (hash(...) 로 만든 값)
+     *
+     * @return 레지스터가 바뀌었으면 true (추정값이 달라질 수 있음)
+     */
+    public boolean offer(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        long remaining = hash << precision;
+        int rank = remaining == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(remaining) + 1;
+        return raise(index, rank);
+    }
+
+    /**
+     * Ertl 의 개선된 추정식 (2017, "New cardinality estimation algorithms for HyperLogLog sketches")
+     * 전통적인 추정식 + linear counting 전환 구간의 편향 없이 전 범위에서 쓸 수 있고 편향 보정표가 필요 없다.
+     */
+    public long estimate() {
+        int m = registers.length;
+        int q = 64 - precision;
+        double z = m * tau(1.0 - (double) rankCounts[q + 1] / m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5 * (z + rankCounts[k]);
+        }
+        z += m * sigma((double) rankCounts[0] / m);
+        if (Double.isInfinite(z)) {
+            return 0L;
+        }
+        return Math.round(m / (2 * Math.log(2)) * m / z);
+    }
+
+    /**
+     * other 의 관측값을 이 스케치에 합친다 (레지스터별 최댓값)
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision 이 다른 스케치는 병합할 수 없습니다: "
+                    + precision + " != " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            raise(i, other.registers[i]);
+        }
+    }
+
+    public HyperLogLog copy() {
+        HyperLogLog copy = new HyperLogLog(precision);
+        copy.merge(this);
+        return copy;
+    }
+
+    /**
+     * [버전, precision, 레지스터(6비트씩 채움)]
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[HEADER_BYTES + packedLength(registers.length)];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = (byte) precision;
+        long buffer = 0;
+        int bits = 0;
+        int position = HEADER_BYTES;
+        for (byte register : registers) {
+            buffer = (buffer << BITS_PER_REGISTER) | register;
+            bits += BITS_PER_REGISTER;
+            while (bits >= 8) {
+                bits -= 8;
+                bytes[position++] = (byte) (buffer >>> bits);
+            }
+        }
+        if (bits > 0) {
+            bytes[position] = (byte) (buffer << (8 - bits));
+        }
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_BYTES || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("HyperLogLog 직렬화 형식이 올바르지 않습니다.");
+        }
+        HyperLogLog sketch = new HyperLogLog(bytes[1]);
+        if (bytes.length != HEADER_BYTES + packedLength(sketch.registers.length)) {
+            throw new IllegalArgumentException("HyperLogLog 직렬화 길이가 올바르지 않습니다: " + bytes.length);
+        }
+        long buffer = 0;
+        int bits = 0;
+        int position = HEADER_BYTES;
+        int mask = (1 << BITS_PER_REGISTER) - 1;
+        for (int i = 0; i < sketch.registers.length; i++) {
+            while (bits < BITS_PER_REGISTER) {
+                buffer = (buffer << 8) | (bytes[position++] & 0xFF);
+                bits += 8;
+            }
+            bits -= BITS_PER_REGISTER;
+            sketch.raise(i, (int) (buffer >>> bits) & mask);
+        }
+        return sketch;
+    }
+
+    // ================= 해시 =================
+
+    /**
+     * 정수 ID 용 64비트 해시 (MurmurHash3 fmix64)
+     */
+    public static long hash(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 문자열 ID 용 64비트 해시 (FNV-1a 후 fmix64 로 비트를 고르게 섞음)
+     */
+    public static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        return hash(h);
+    }
+
+    // ================= 내부 =================
+
+    private boolean raise(int index, int rank) {
+        int current = registers[index];
+        if (rank <= current) {
+            return false;
+        }
+        registers[index] = (byte) rank;
+        rankCounts[current]--;
+        rankCounts[rank]++;
+        return true;
+    }
+
+    private static double sigma(double x) {
+        if (x == 1.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1.0;
+        double z = x;
+        double previous;
+        do {
+            x *= x;
+            previous = z;
+            z += x * y;
+            y += y;
+        } while (z != previous);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0.0 || x == 1.0) {
+            return 0.0;
+        }
+        double y = 1.0;
+        double z = 1.0 - x;
+        double previous;
+        do {
+            x = Math.sqrt(x);
+            previous = z;
+            y *= 0.5;
+            z -= (1.0 - x) * (1.0 - x) * y;
+        } while (z != previous);
+        return z / 3.0;
+    }
+
+    private static int packedLength(int registerCount) {
+        return (registerCount * BITS_PER_REGISTER + 7) / 8;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HyperLogLog other && precision == other.precision
+                && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * precision + Arrays.hashCode(registers);
+    }
+}
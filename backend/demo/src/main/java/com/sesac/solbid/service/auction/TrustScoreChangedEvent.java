@@ -0,0 +1,9 @@
+package com.sesac.solbid.service.auction;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자 신뢰 온도 변경 후 발행 (거래 후기 반영 등)
+ */
+public record TrustScoreChangedEvent(Long userId, BigDecimal temperature) {
+}
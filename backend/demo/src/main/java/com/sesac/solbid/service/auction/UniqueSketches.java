@@ -0,0 +1,7 @@
+package com.sesac.solbid.service.auction;
+
+/**
+ * 경매 하나의 고유 조회자/입찰자 스케치
+ */
+public record UniqueSketches(HyperLogLog viewers, HyperLogLog bidders) {
+}
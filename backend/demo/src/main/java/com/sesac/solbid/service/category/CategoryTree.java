@@ -0,0 +1,120 @@
+package com.sesac.solbid.service.category;
+
+import com.sesac.solbid.dto.CategoryDto;
+import com.sesac.solbid.service.storage.ContentHash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카테고리 트리 스냅샷 (불변)
+ *
+ * - 활성 카테고리만 루트부터 내려가며 구성한다. 비활성 카테고리는 하위 트리째 빠지고,
+ *   부모가 없는 행이나 순환은 루트에서 닿지 않으므로 들어가지 않는다
+ * - 노드마다 루트부터의 경로(path)와 상위 카테고리 목록을 미리 만들어 두어 조회 시 계산이 없다
+ * - ETag 는 트리 내용(노출되는 필드)의 SHA-256 이라 내용이 같으면 다시 읽어도 바뀌지 않는다
+ */
+public final class CategoryTree {
+
+    // 응답 형식이 바뀌면 올려서 ETag 를 바꾼다
+    private static final String FORMAT_VERSION = "v1";
+
+    record Row(Long categoryId, String name, String description, Long parentId, boolean active) {
+    }
+
+    private final String stamp;
+    private final String eTag;
+    private final List<CategoryDto.Node> roots;
+    private final Map<Long, CategoryDto.Detail> details;
+
+    private CategoryTree(String stamp, String eTag, List<CategoryDto.Node> roots,
+                         Map<Long, CategoryDto.Detail> details) {
+        this.stamp = stamp;
+        this.eTag = eTag;
+        this.roots = List.copyOf(roots);
+        this.details = Map.copyOf(details);
+    }
+
+    /**
+     * @param stamp 이 스냅샷을 읽을 때의 DB 버전 스탬프
+     */
+    static CategoryTree build(String stamp, Collection<Row> rows) {
+        Map<Long, List<Row>> childrenByParent = new HashMap<>();
+        List<Row> rootRows = new ArrayList<>();
+        rows.stream()
+                .filter(Row::active)
+                .sorted(Comparator.comparing(Row::categoryId))
+                .forEach(row -> {
+                    if (row.parentId() == null) {
+                        rootRows.add(row);
+                    } else {
+                        childrenByParent.computeIfAbsent(row.parentId(), id -> new ArrayList<>()).add(row);
+                    }
+                });
+
+        StringBuilder canonical = new StringBuilder(FORMAT_VERSION).append('\n');
+        Map<Long, CategoryDto.Detail> details = new HashMap<>();
+        List<CategoryDto.Node> roots = new ArrayList<>(rootRows.size());
+        for (Row root : rootRows) {
+            roots.add(node(root, List.of(), List.of(), childrenByParent, details, canonical));
+        }
+        String eTag = "\"" + ContentHash.sha256Hex(canonical.toString().getBytes(StandardCharsets.UTF_8))
+                .substring(0, 32) + "\"";
+        return new CategoryTree(stamp, eTag, roots, details);
+    }
+
+    // 깊이 우선으로 자식부터 만든다 (카테고리 깊이는 몇 단계라 재귀로 충분)
+    private static CategoryDto.Node node(Row row, List<Long> parentPath, List<CategoryDto.Summary> ancestors,
+                                         Map<Long, List<Row>> childrenByParent,
+                                         Map<Long, CategoryDto.Detail> details, StringBuilder canonical) {
+        canonical.append(row.categoryId()).append('\t').append(row.parentId()).append('\t')
+                .append(row.name()).append('\t').append(row.description()).append('\n');
+
+        List<Long> path = append(parentPath, row.categoryId());
+        List<CategoryDto.Summary> childAncestors = append(ancestors,
+                new CategoryDto.Summary(row.categoryId(), row.name()));
+        List<CategoryDto.Node> children = new ArrayList<>();
+        for (Row child : childrenByParent.getOrDefault(row.categoryId(), List.of())) {
+            children.add(node(child, path, childAncestors, childrenByParent, details, canonical));
+        }
+
+        CategoryDto.Node node = new CategoryDto.Node(row.categoryId(), row.name(), row.description(), row.parentId(),
+                parentPath.size(), path, children);
+        details.put(row.categoryId(), new CategoryDto.Detail(node, ancestors));
+        return node;
+    }
+
+    private static <T> List<T> append(List<T> list, T value) {
+        List<T> appended = new ArrayList<>(list.size() + 1);
+        appended.addAll(list);
+        appended.add(value);
+        return List.copyOf(appended);
+    }
+
+    public String stamp() {
+        return stamp;
+    }
+
+    // 따옴표를 포함한 강한 ETag
+    public String eTag() {
+        return eTag;
+    }
+
+    public List<CategoryDto.Node> roots() {
+        return roots;
+    }
+
+    public Optional<CategoryDto.Detail> find(Long categoryId) {
+        return Optional.ofNullable(details.get(categoryId));
+    }
+
+    public int size() {
+        return details.size();
+    }
+}
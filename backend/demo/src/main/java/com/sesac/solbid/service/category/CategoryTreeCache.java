@@ -0,0 +1,93 @@
+package com.sesac.solbid.service.category;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 트리 인메모리 캐시
+ *
+ * - 기동 시 category 테이블 전체를 읽어 불변 트리(CategoryTree)를 만들고, 조회는 DB 없이 이 스냅샷으로 처리한다
+ * - 주기적으로 버전 스탬프 (COUNT(*), MAX(updated_at)) 한 행만 조회해서 바뀌었을 때만 트리를 다시 만든다
+ *   (updated_at 은 JPA 저장 시 엔티티가, 직접 SQL 수정 시 DB(V8 의 ON UPDATE)가 갱신하고, 삭제는 행 수로 알 수 있다)
+ * - 스냅샷은 volatile 참조 하나로 교체하므로 읽는 쪽에 잠금이 없다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    static final String STAMP_SQL = "SELECT COUNT(*), MAX(updated_at) FROM category";
+    static final String LOAD_SQL = "SELECT category_id, name, description, parent_id, is_active FROM category";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 다시 읽기는 한 번에 하나만. JDBC 조회 내내 잡고 있으므로 synchronized 대신 ReentrantLock (가상 스레드 고정 방지)
+    private final Lock refreshLock = new ReentrantLock();
+
+    private volatile CategoryTree tree;
+
+    /**
+     * 현재 트리 (기동 직후 아직 읽기 전이면 지금 읽는다)
+     */
+    public CategoryTree tree() {
+        CategoryTree current = tree;
+        if (current == null) {
+            refresh();
+            current = tree;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * 버전 스탬프가 바뀌었으면 트리를 다시 만든다
+     *
+     * @return 다시 만들었으면 true
+     */
+    @Scheduled(fixedDelayString = "${app.category.refresh-interval-ms:30000}")
+    public boolean refresh() {
+        refreshLock.lock();
+        try {
+            return reload();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean reload() {
+        // 스탬프를 먼저 읽으므로 읽는 도중에 바뀐 내용은 다음 주기에 다시 반영된다
+        String stamp = jdbcTemplate.queryForObject(STAMP_SQL, (rs, rowNum) -> {
+            Timestamp updatedAt = rs.getTimestamp(2);
+            return rs.getLong(1) + ":" + (updatedAt != null ? updatedAt.toInstant() : "-");
+        });
+        CategoryTree current = tree;
+        if (current != null && current.stamp().equals(stamp)) {
+            return false;
+        }
+        List<CategoryTree.Row> rows = jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> new CategoryTree.Row(
+                rs.getLong("category_id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getObject("parent_id", Long.class),
+                rs.getBoolean("is_active")));
+        CategoryTree rebuilt = CategoryTree.build(stamp, rows);
+        tree = rebuilt;
+        log.info("카테고리 트리 구성: 전체 {}행, 노출 {}개, stamp={}, etag={}",
+                rows.size(), rebuilt.size(), stamp, rebuilt.eTag());
+        return true;
+    }
+}
@@ -0,0 +1,185 @@
+package com.sesac.solbid.service.image;
+
+import com.sesac.solbid.service.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 내용 해시 키로 저장한 이미지 객체의 참조 수 관리 (image_blob)
+ *
+ * - 업로드 전에 touch 로 행을 만들고(참조 0), product_image 행을 저장하는 트랜잭션에서 acquire 로 참조를 올린다
+ * - 참조가 0 인 채로 유예 시간이 지난 객체만 GC 가 지운다 (등록이 실패해 남은 객체도 여기서 정리됨)
+ * - GC 는 행을 FOR UPDATE 로 잠근 채 객체를 지우므로, 같은 내용을 새로 올리는 업로드의 touch 는 삭제가 끝날 때까지 기다린다
+ */
+@Slf4j
+@Component
+public class ImageBlobStore {
+
+    static final String REFERENCED_SQL = "SELECT COUNT(*) FROM image_blob WHERE content_key = ? AND ref_count > 0";
+    static final String TOUCH_SQL = "INSERT INTO image_blob (content_key, ref_count, created_at, updated_at) "
+            + "VALUES (?, 0, ?, ?) ON DUPLICATE KEY UPDATE updated_at = ?";
+    static final String ACQUIRE_SQL = "INSERT INTO image_blob (content_key, ref_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE ref_count = ref_count + ?, updated_at = ?";
+    static final String RELEASE_SQL = "UPDATE image_blob SET ref_count = ref_count - ?, updated_at = ? "
+            + "WHERE content_key = ? AND ref_count >= ?";
+    static final String GARBAGE_SQL = "SELECT content_key FROM image_blob WHERE ref_count = 0 AND updated_at < ? "
+            + "ORDER BY updated_at LIMIT ?";
+    static final String LOCK_GARBAGE_SQL = "SELECT ref_count FROM image_blob "
+            + "WHERE content_key = ? AND ref_count = 0 AND updated_at < ? FOR UPDATE";
+    static final String DELETE_SQL = "DELETE FROM image_blob WHERE content_key = ?";
+
+    private static final List<String> VARIANT_EXTENSIONS = List.of(
+            ImageResizer.Format.JPEG.extension(), ImageResizer.Format.WEBP.extension());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectStorage objectStorage;
+    private final Duration gracePeriod;
+    private final int gcBatchSize;
+    private final Clock clock;
+
+    @Autowired
+    public ImageBlobStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          ObjectStorage objectStorage,
+                          @Value("${app.image.blob.gc-grace-minutes:60}") long graceMinutes,
+                          @Value("${app.image.blob.gc-batch-size:500}") int gcBatchSize) {
+        this(jdbcTemplate, transactionTemplate, objectStorage, Duration.ofMinutes(graceMinutes), gcBatchSize,
+                Clock.systemDefaultZone());
+    }
+
+    ImageBlobStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ObjectStorage objectStorage,
+                   Duration gracePeriod, int gcBatchSize, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectStorage = objectStorage;
+        this.gracePeriod = gracePeriod;
+        this.gcBatchSize = gcBatchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 이미 다른 상품 이미지가 가리키는 객체인가 (그렇다면 다시 올릴 필요 없음)
+     */
+    public boolean isReferenced(String key) {
+        Integer count = jdbcTemplate.queryForObject(REFERENCED_SQL, Integer.class, key);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 객체를 쓰기 직전에 호출한다 (행이 없으면 참조 0 으로 만들고, 있으면 GC 유예 시간을 다시 시작)
+     */
+    public void touch(String key) {
+        Timestamp now = now();
+        jdbcTemplate.update(TOUCH_SQL, key, now, now, now);
+    }
+
+    /**
+     * 참조 수를 올린다 (product_image 행을 저장하는 트랜잭션 안에서 호출)
+     * 같은 키가 여러 번 있으면 한 행으로 합치고, 키 순서로 갱신해 동시 등록끼리 교착 상태가 나지 않게 한다.
+     */
+    public void acquire(Collection<String> keys) {
+        Timestamp now = now();
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : countByKey(keys).entrySet()) {
+            rows.add(new Object[]{entry.getKey(), entry.getValue(), now, now, entry.getValue(), now});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(ACQUIRE_SQL, rows);
+        }
+    }
+
+    /**
+     * 참조 수를 내린다 (product_image 행을 지우는 트랜잭션 안에서 호출). 0 이 된 객체는 유예 시간 뒤 GC 가 지운다.
+     */
+    public void release(Collection<String> keys) {
+        Timestamp now = now();
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : countByKey(keys).entrySet()) {
+            rows.add(new Object[]{entry.getValue(), now, entry.getKey(), entry.getValue()});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(RELEASE_SQL, rows);
+        }
+    }
+
+    /**
+     * 참조가 0 인 채로 유예 시간이 지난 객체(원본 + 리사이즈 사본) 삭제
+     *
+     * @return 지운 원본 수
+     */
+    @Scheduled(fixedDelayString = "${app.image.blob.gc-interval-ms:600000}",
+            initialDelayString = "${app.image.blob.gc-interval-ms:600000}")
+    public int collectGarbage() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now(clock).minus(gracePeriod));
+        List<String> candidates = jdbcTemplate.queryForList(GARBAGE_SQL, String.class, cutoff, gcBatchSize);
+        int deleted = 0;
+        for (String key : candidates) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteIfUnreferenced(key, cutoff)))) {
+                    deleted++;
+                }
+            } catch (RuntimeException e) {
+                // 행은 롤백되어 남으므로 다음 주기에 다시 시도된다
+                log.warn("이미지 객체 삭제 실패: key={}", key, e);
+            }
+        }
+        if (deleted > 0) {
+            log.info("참조가 없는 이미지 객체 {}개 삭제", deleted);
+        }
+        return deleted;
+    }
+
+    private boolean deleteIfUnreferenced(String key, Timestamp cutoff) {
+        // 조회 이후 참조가 생겼거나 touch 로 유예 시간이 다시 시작됐으면 건너뜀
+        if (jdbcTemplate.queryForList(LOCK_GARBAGE_SQL, Integer.class, key, cutoff).isEmpty()) {
+            return false;
+        }
+        try {
+            objectStorage.delete(objectKeys(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        jdbcTemplate.update(DELETE_SQL, key);
+        return true;
+    }
+
+    static List<String> objectKeys(String key) {
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        for (ImageVariant variant : ImageVariant.values()) {
+            for (String extension : VARIANT_EXTENSIONS) {
+                keys.add(variant.keyFor(key, extension));
+            }
+        }
+        return keys;
+    }
+
+    private static Map<String, Integer> countByKey(Collection<String> keys) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (String key : keys) {
+            counts.merge(key, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now(clock));
+    }
+}
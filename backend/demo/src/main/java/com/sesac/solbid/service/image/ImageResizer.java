@@ -0,0 +1,259 @@
+package com.sesac.solbid.service.image;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * 이미지 디코딩/리사이즈/인코딩 (JDK ImageIO + Java2D 만 사용, 상태 없음)
+ *
+ * - 디코딩할 때 목표 크기의 2배가 넘는 부분은 서브샘플링으로 건너뛰어 읽어 원본 전체를 힙에 펼치지 않는다
+ * - JPEG 의 EXIF Orientation 은 디코딩 직후 픽셀을 돌려 반영한다 (사본은 메타데이터 없이 쓰므로 태그에 맡길 수 없음)
+ * - 축소는 절반씩 여러 번 bilinear 로 줄인다 (한 번에 크게 줄이면 bilinear 가 대부분의 픽셀을 건너뛰어 계단 현상이 생김)
+ * - 출력은 WebP writer 가 등록되어 있으면(예: webp-imageio 플러그인) WebP, 없으면 JPEG
+ */
+public final class ImageResizer {
+
+    static final float QUALITY = 0.82f;
+
+    private static final String JPEG_METADATA = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1 = 0xE1;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    /**
+     * 사본 출력 형식
+     */
+    public enum Format {
+        WEBP("webp", "webp", "image/webp"),
+        JPEG("jpeg", "jpg", "image/jpeg");
+
+        private final String formatName;
+        private final String extension;
+        private final String contentType;
+
+        Format(String formatName, String extension, String contentType) {
+            this.formatName = formatName;
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        /**
+         * 이 JVM 에서 쓸 수 있는 가장 작은 출력 형식
+         */
+        public static Format preferred() {
+            return ImageIO.getImageWritersByFormatName(WEBP.formatName).hasNext() ? WEBP : JPEG;
+        }
+    }
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 긴 변이 maxSide 의 2배 이하가 될 때까지 서브샘플링하며 디코딩하고, EXIF Orientation 대로 돌려 놓는다
+     */
+    public static BufferedImage decode(InputStream in, int maxSide) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) {
+                throw new IOException("이미지 스트림을 열 수 없습니다.");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int limit = maxSide * 2;
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 올림 나눗셈 (내림이면 예를 들어 maxSide 의 5배인 원본이 간격 2 로 2.5배 크기까지 펼쳐진다)
+                int step = (int) Math.max(1, (longest + (long) limit - 1) / limit);
+                param.setSourceSubsampling(step, step, 0, 0);
+                int orientation = orientation(reader.getImageMetadata(0));
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG APP1 세그먼트의 EXIF IFD0 Orientation 값 (1~8, 없거나 읽을 수 없으면 1)
+     */
+    static int orientation(IIOMetadata metadata) {
+        if (metadata == null || !JPEG_METADATA.equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        Node root = metadata.getAsTree(JPEG_METADATA);
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!"markerSequence".equals(child.getNodeName())) {
+                continue;
+            }
+            for (Node marker = child.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (marker instanceof IIOMetadataNode node && "unknown".equals(node.getNodeName())
+                        && Integer.toString(APP1).equals(node.getAttribute("MarkerTag"))
+                        && node.getUserObject() instanceof byte[] data) {
+                    int orientation = exifOrientation(data);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                }
+            }
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0 에서 Orientation(SHORT) 을 찾는다. EXIF 가 아니거나 깨졌으면 0
+    private static int exifOrientation(byte[] data) {
+        int tiff = EXIF_HEADER.length;
+        if (data.length < tiff + 8) {
+            return 0;
+        }
+        for (int i = 0; i < tiff; i++) {
+            if (data[i] != EXIF_HEADER[i]) {
+                return 0;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data[tiff] == 'I' && data[tiff + 1] == 'I') {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (data[tiff] != 'M' || data[tiff + 1] != 'M') {
+            return 0;
+        }
+        long ifd = tiff + Integer.toUnsignedLong(buffer.getInt(tiff + 4));
+        if (ifd + 2 > data.length) {
+            return 0;
+        }
+        int entries = Short.toUnsignedInt(buffer.getShort((int) ifd));
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > data.length) {
+                return 0;
+            }
+            if (Short.toUnsignedInt(buffer.getShort(entry)) == TAG_ORIENTATION) {
+                int value = Short.toUnsignedInt(buffer.getShort(entry + 8));
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * EXIF Orientation(2~8) 대로 뒤집거나 돌린 이미지 (5~8 은 가로/세로가 바뀜, 1 이나 범위 밖이면 그대로)
+     */
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        // (m00, m10, m01, m11, m02, m12): x' = m00·x + m01·y + m02, y' = m10·x + m11·y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 주대각선 기준 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 부대각선 기준 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도
+        };
+        boolean swap = orientation >= 5;
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 비율을 유지해 긴 변이 maxSide 이하가 되도록 줄인다 (원본이 더 작으면 크기는 그대로, 색 형식만 RGB 로 맞춤)
+     */
+    public static BufferedImage resize(BufferedImage source, int maxSide) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSide / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source.getType() == BufferedImage.TYPE_INT_RGB ? source : draw(source, width, height);
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    public static byte[] encode(BufferedImage image, Format format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format.formatName);
+        if (!writers.hasNext()) {
+            throw new IOException("이미지 인코더가 없습니다: " + format.formatName);
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // 투명 배경은 흰색으로 채운다 (JPEG 는 알파 채널이 없음)
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
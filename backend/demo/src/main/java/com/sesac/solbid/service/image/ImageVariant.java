@@ -0,0 +1,35 @@
+package com.sesac.solbid.service.image;
+
+/**
+ * 상품 이미지 리사이즈 사본 종류 (긴 변 기준 최대 크기, 비율 유지)
+ * 큰 사본을 줄여 다음 사본을 만들므로 큰 것부터 선언한다.
+ */
+public enum ImageVariant {
+
+    DETAIL("detail", 1080),   // 상품 상세
+    LIST("list", 480),        // 상품 목록 카드
+    THUMBNAIL("thumb", 200);  // 썸네일/작은 미리보기
+
+    private final String suffix;
+    private final int maxSide;
+
+    ImageVariant(String suffix, int maxSide) {
+        this.suffix = suffix;
+        this.maxSide = maxSide;
+    }
+
+    public int maxSide() {
+        return maxSide;
+    }
+
+    /**
+     * 원본 옆에 저장할 사본 키 (예: "{원본 키}.thumb.jpg")
+     */
+    public String keyFor(String originalKey, String extension) {
+        return originalKey + "." + suffix + "." + extension;
+    }
+
+    static int largestSide() {
+        return DETAIL.maxSide;
+    }
+}
@@ -0,0 +1,137 @@
+package com.sesac.solbid.service.image;
+
+import com.sesac.solbid.service.storage.ObjectStorage;
+import com.sesac.solbid.service.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 상품 이미지 리사이즈 사본(상세/목록/썸네일) 생성
+ *
+ * - 등록 트랜잭션이 커밋된 뒤 submitAll 로 넘기면 CPU 전용 풀에서 원본을 스토리지에서 다시 읽어 사본을 만든다
+ * - 사본은 원본 키 옆에 저장하고 product_image 의 *_key 컬럼에 기록한다
+ * - 원본 키가 내용 해시라 같은 사진을 쓰는 다른 이미지 행에 사본이 있으면 다시 만들지 않고 그 키를 쓴다
+ * - 사본은 여러 행이 공유할 수 있어 여기서 지우지 않는다 (원본과 함께 ImageBlobStore GC 가 지움)
+ * - 대기열 + 처리 중인 작업 수를 image.variants.backlog 게이지로 노출한다
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    static final String UPDATE_SQL = "UPDATE product_image SET detail_key = ?, list_key = ?, thumbnail_key = ? "
+            + "WHERE product_id = ? AND sort_order = ?";
+    static final String EXISTING_SQL = "SELECT detail_key, list_key, thumbnail_key FROM product_image "
+            + "WHERE storage_key = ? AND thumbnail_key IS NOT NULL LIMIT 1";
+
+    private final ObjectStorage objectStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final ImageResizer.Format format = ImageResizer.Format.preferred();
+    private final Timer processingTimer;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public ImageVariantService(ObjectStorage objectStorage, JdbcTemplate jdbcTemplate,
+                               @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor executor,
+                               MeterRegistry meterRegistry) {
+        this.objectStorage = objectStorage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        Gauge.builder("image.variants.backlog", this, ImageVariantService::backlog)
+                .description("리사이즈 대기 + 처리 중인 이미지 수")
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("image.variants.processing")
+                .description("이미지 한 장의 사본 생성 시간")
+                .register(meterRegistry);
+        this.failedCounter = meterRegistry.counter("image.variants.failed");
+        this.rejectedCounter = meterRegistry.counter("image.variants.rejected");
+    }
+
+    /**
+     * 상품 이미지 키 목록(sort_order 순)의 사본 생성을 예약한다
+     * 대기열이 가득 차면 그 이미지는 건너뛴다 (사본 키가 null 로 남아 원본이 쓰임).
+     */
+    public void submitAll(Long productId, List<String> keys) {
+        for (int sortOrder = 0; sortOrder < keys.size(); sortOrder++) {
+            String key = keys.get(sortOrder);
+            int order = sortOrder;
+            try {
+                executor.execute(() -> process(productId, order, key));
+            } catch (TaskRejectedException e) {
+                rejectedCounter.increment();
+                log.warn("이미지 리사이즈 대기열이 가득 차 건너뜀: productId={}, key={}", productId, key);
+            }
+        }
+    }
+
+    public int backlog() {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        return pool.getQueue().size() + pool.getActiveCount();
+    }
+
+    void process(Long productId, int sortOrder, String key) {
+        Timer.Sample sample = Timer.start();
+        try {
+            Map<ImageVariant, String> variants = existingVariants(key);
+            if (variants == null) {
+                variants = createVariants(key);
+            }
+            jdbcTemplate.update(UPDATE_SQL, variants.get(ImageVariant.DETAIL),
+                    variants.get(ImageVariant.LIST), variants.get(ImageVariant.THUMBNAIL), productId, sortOrder);
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("이미지 사본 생성 실패: productId={}, key={}", productId, key, e);
+        } finally {
+            sample.stop(processingTimer);
+        }
+    }
+
+    private Map<ImageVariant, String> existingVariants(String key) {
+        List<Map<ImageVariant, String>> found = jdbcTemplate.query(EXISTING_SQL, (rs, rowNum) -> {
+            Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
+            variants.put(ImageVariant.DETAIL, rs.getString("detail_key"));
+            variants.put(ImageVariant.LIST, rs.getString("list_key"));
+            variants.put(ImageVariant.THUMBNAIL, rs.getString("thumbnail_key"));
+            return variants;
+        }, key);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * 원본을 한 번만 디코딩하고, 큰 사본을 줄여 다음 사본을 만든다
+     */
+    Map<ImageVariant, String> createVariants(String key) throws IOException {
+        BufferedImage current;
+        try (StoredObject original = objectStorage.open(key)
+                .orElseThrow(() -> new FileNotFoundException(key))) {
+            current = ImageResizer.decode(original.inputStream(), ImageVariant.largestSide());
+        }
+
+        Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            current = ImageResizer.resize(current, variant.maxSide());
+            byte[] encoded = ImageResizer.encode(current, format);
+            String variantKey = variant.keyFor(key, format.extension());
+            objectStorage.put(variantKey, new ByteArrayInputStream(encoded), encoded.length, format.contentType());
+            variants.put(variant, variantKey);
+        }
+        return variants;
+    }
+}
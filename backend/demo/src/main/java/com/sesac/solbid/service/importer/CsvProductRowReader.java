@@ -0,0 +1,150 @@
+package com.sesac.solbid.service.importer;
+
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CSV(RFC 4180) 상품 행 리더
+ *
+ * - 첫 행은 헤더이고 열 순서는 자유 (ProductImportRow.FIELDS 이름으로 찾음, 모르는 열은 무시)
+ * - 따옴표로 감싼 값 안의 쉼표/줄바꿈/"" 를 지원하고, CRLF 와 UTF-8 BOM(엑셀 저장 파일)을 허용한다
+ * - 잘못된 행은 건너뛰지 않고 malformed 행으로 돌려줘 호출한 쪽이 줄 번호와 함께 보고하게 한다
+ */
+final class CsvProductRowReader implements ProductRowReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    // FIELDS 순서별 CSV 열 위치
+    private final int[] columns;
+    private final int headerWidth;
+    // 다음에 읽을 문자의 줄 번호
+    private long line = 1;
+
+    private record Record(List<String> fields, String error) {
+    }
+
+    CsvProductRowReader(Reader reader) throws IOException {
+        this.reader = reader;
+        Record header = readRecord();
+        if (header == null || header.error() != null) {
+            throw new CustomException(ErrorCode.INVALID_IMPORT_HEADER);
+        }
+        List<String> names = header.fields();
+        columns = new int[ProductImportRow.FIELDS.size()];
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == BOM) {
+                name = name.substring(1);
+            }
+            int field = ProductImportRow.FIELDS.indexOf(name);
+            if (field >= 0) {
+                columns[field] = i;
+            }
+        }
+        for (int column : columns) {
+            if (column < 0) {
+                throw new CustomException(ErrorCode.INVALID_IMPORT_HEADER);
+            }
+        }
+        headerWidth = names.size();
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        while (true) {
+            long start = line;
+            Record record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.error() != null) {
+                return ProductImportRow.malformed(start, record.error());
+            }
+            List<String> fields = record.fields();
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (fields.size() != headerWidth) {
+                return ProductImportRow.malformed(start,
+                        "열 개수가 헤더와 다릅니다 (헤더 " + headerWidth + "개, 행 " + fields.size() + "개)");
+            }
+            String[] values = new String[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = fields.get(columns[i]);
+            }
+            return ProductImportRow.of(start, values);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 레코드 하나 (따옴표 안의 줄바꿈은 레코드를 끝내지 않음), 파일 끝이면 null
+     * MAX_ROW_CHARS 를 넘으면 값을 더 모으지 않고 레코드 끝까지 읽기만 한다.
+     */
+    private Record readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        String error = null;
+        boolean quoted = false;
+        int length = 0;
+        while (true) {
+            if (c == -1) {
+                if (quoted && error == null) {
+                    error = "따옴표가 닫히지 않았습니다";
+                }
+                fields.add(field.toString());
+                return new Record(fields, error);
+            }
+            if (++length > ProductRowReader.MAX_ROW_CHARS && error == null) {
+                error = "행이 너무 깁니다 (최대 " + ProductRowReader.MAX_ROW_CHARS + "자)";
+                fields.clear();
+                field.setLength(0);
+            }
+            if (quoted) {
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        // 닫는 따옴표, 방금 읽은 문자는 따옴표 밖에서 다시 처리
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                if (error == null) {
+                    field.append((char) c);
+                }
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return new Record(fields, error);
+            } else if (c == ',') {
+                if (error == null) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r' && error == null) {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sesac.solbid.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * NDJSON(JSON Lines) 상품 행 리더
+ * 한 줄에 상품 JSON 객체 하나 (필드 이름은 ProductRegisterDto 와 같음). 값은 문자열/숫자 모두 받는다.
+ * 줄마다 따로 파싱하므로 문법이 틀린 줄이 있어도 다음 줄부터 계속 읽는다.
+ */
+final class NdjsonProductRowReader implements ProductRowReader {
+
+    private final Reader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder buffer = new StringBuilder();
+    private long line;
+
+    NdjsonProductRowReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        while (true) {
+            Boolean fits = readLine();
+            if (fits == null) {
+                return null;
+            }
+            line++;
+            if (!fits) {
+                return ProductImportRow.malformed(line, "행이 너무 깁니다 (최대 " + MAX_ROW_CHARS + "자)");
+            }
+            if (buffer.toString().isBlank()) {
+                continue;
+            }
+            return parse(buffer.toString());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ProductImportRow parse(String json) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            return ProductImportRow.malformed(line, "JSON 형식이 잘못되었습니다: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            return ProductImportRow.malformed(line, "한 줄에 JSON 객체 하나가 있어야 합니다");
+        }
+        String[] values = new String[ProductImportRow.FIELDS.size()];
+        for (int i = 0; i < values.length; i++) {
+            String name = ProductImportRow.FIELDS.get(i);
+            JsonNode value = node.get(name);
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            if (!value.isValueNode()) {
+                return ProductImportRow.malformed(line, name + " 값은 문자열이나 숫자여야 합니다");
+            }
+            values[i] = value.asText();
+        }
+        return ProductImportRow.of(line, values);
+    }
+
+    /**
+     * 다음 줄을 buffer 에 읽는다. 파일 끝이면 null, MAX_ROW_CHARS 를 넘으면 나머지는 버리고 false
+     */
+    private Boolean readLine() throws IOException {
+        buffer.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        boolean fits = true;
+        while (c != -1 && c != '\n') {
+            if (c != '\r' && fits) {
+                if (buffer.length() == MAX_ROW_CHARS) {
+                    fits = false;
+                    buffer.setLength(0);
+                } else {
+                    buffer.append((char) c);
+                }
+            }
+            c = reader.read();
+        }
+        return fits;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sesac.solbid.service.importer;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 파일의 한 행 (검증 전 원본 문자열)
+ *
+ * @param line      행이 시작하는 줄 번호 (1부터, CSV 는 헤더 포함)
+ * @param malformed 행 자체를 읽지 못한 이유 (따옴표 오류, JSON 문법 오류 등), 정상이면 null
+ */
+public record ProductImportRow(long line, String name, String brand, String category, String size,
+                               String startPrice, String confirmationPrice, String startDate, String endDate,
+                               String condition, String description, String malformed) {
+
+    // CSV 헤더 / NDJSON 필드 이름 (ProductRegisterDto 필드와 같음)
+    public static final List<String> FIELDS = List.of("name", "brand", "category", "size", "startPrice",
+            "confirmationPrice", "startDate", "endDate", "condition", "description");
+
+    /**
+     * FIELDS 순서의 값으로 행 생성
+     */
+    static ProductImportRow of(long line, String[] values) {
+        return new ProductImportRow(line, values[0], values[1], values[2], values[3], values[4], values[5],
+                values[6], values[7], values[8], values[9], null);
+    }
+
+    static ProductImportRow malformed(long line, String reason) {
+        return new ProductImportRow(line, null, null, null, null, null, null, null, null, null, null, reason);
+    }
+
+    public boolean isMalformed() {
+        return malformed != null;
+    }
+}
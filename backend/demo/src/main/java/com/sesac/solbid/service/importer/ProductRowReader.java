@@ -0,0 +1,65 @@
+package com.sesac.solbid.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 일괄 등록 파일을 한 행씩 읽는 리더
+ * 파일 전체를 메모리에 올리지 않고, 한 행도 MAX_ROW_CHARS 를 넘으면 잘라 버리므로 메모리 사용량이 파일 크기와 무관하다.
+ */
+public interface ProductRowReader extends Closeable {
+
+    // 한 행의 최대 길이 (상품명 100자 + 설명 1000자에 여유를 둔 값)
+    int MAX_ROW_CHARS = 8 * 1024;
+
+    enum Format {
+        CSV(new MediaType("text", "csv")),
+        NDJSON(new MediaType("application", "x-ndjson"));
+
+        public static final String CSV_VALUE = "text/csv";
+        public static final String NDJSON_VALUE = "application/x-ndjson";
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public static Format from(MediaType contentType) {
+            for (Format format : values()) {
+                if (format.mediaType.isCompatibleWith(contentType)) {
+                    return format;
+                }
+            }
+            throw new CustomException(ErrorCode.UNSUPPORTED_IMPORT_FORMAT);
+        }
+    }
+
+    /**
+     * 다음 행, 끝이면 null
+     */
+    ProductImportRow next() throws IOException;
+
+    /**
+     * @param charset 요청 Content-Type 의 charset (없으면 UTF-8)
+     */
+    static ProductRowReader open(Format format, InputStream in, Charset charset, ObjectMapper objectMapper)
+            throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, charset != null ? charset : StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvProductRowReader(reader);
+            case NDJSON -> new NdjsonProductRowReader(reader, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.sesac.solbid.service.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 점수 순으로 항상 정렬된 상태를 유지하는 순위표
+ *
+ * - 점수 내림차순(동점이면 키 오름차순) skip list + 키별 현재 점수 맵
+ * - 점수 변경은 이전 항목 삭제 + 새 항목 삽입 (O(log n)), 쓰기끼리는 직렬화
+ * - 상위 N 조회는 잠금 없이 skip list 앞에서부터 N 개만 읽는다 (O(N))
+ */
+final class Leaderboard {
+
+    record Ranked(long key, double score) {
+    }
+
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparingLong(Ranked::key);
+
+    private final ConcurrentSkipListSet<Ranked> ranked = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+
+    synchronized void update(long key, double score) {
+        Double previous = scores.put(key, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            ranked.remove(new Ranked(key, previous));
+        }
+        ranked.add(new Ranked(key, score));
+    }
+
+    /**
+     * 기존 점수보다 클 때만 갱신 (최고 입찰가처럼 커지기만 하는 값, 늦게 도착한 이벤트 무시)
+     */
+    synchronized void updateIfHigher(long key, double score) {
+        Double previous = scores.get(key);
+        if (previous == null || score > previous) {
+            update(key, score);
+        }
+    }
+
+    /**
+     * 이미 순위표에 있는 키만 갱신 (집계 구간에서 빠지는 감소분 반영용, 제외된 키를 되살리지 않음)
+     */
+    synchronized void updateIfPresent(long key, double score) {
+        if (scores.containsKey(key)) {
+            update(key, score);
+        }
+    }
+
+    synchronized void remove(long key) {
+        Double previous = scores.remove(key);
+        if (previous != null) {
+            ranked.remove(new Ranked(key, previous));
+        }
+    }
+
+    Double score(long key) {
+        return scores.get(key);
+    }
+
+    List<Ranked> top(int n) {
+        List<Ranked> top = new ArrayList<>(Math.min(n, 100));
+        for (Ranked entry : ranked) {
+            if (top.size() >= n) {
+                break;
+            }
+            top.add(entry);
+        }
+        return top;
+    }
+
+    int size() {
+        return scores.size();
+    }
+}
@@ -0,0 +1,236 @@
+package com.sesac.solbid.service.ranking;
+
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.dto.RankingDto;
+import com.sesac.solbid.repository.ProductRepository;
+import com.sesac.solbid.repository.UserRepository;
+import com.sesac.solbid.repository.projection.ProductCurrentBidView;
+import com.sesac.solbid.repository.projection.SellerProfileView;
+import com.sesac.solbid.service.auction.AuctionClosedEvent;
+import com.sesac.solbid.service.auction.BidPlacedEvent;
+import com.sesac.solbid.service.auction.TrustScoreChangedEvent;
+import com.sesac.solbid.service.search.ProductDocument;
+import com.sesac.solbid.service.search.ProductSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 랭킹 페이지 실시간 순위표
+ *
+ * - 입찰/경매 마감/신뢰 온도 변경 이벤트로 순위표를 그때그때 갱신하고, 조회는 정렬된 순위표 앞부분만 읽는다
+ *   (조회 시 집계 쿼리 없음, 상위 N 개는 O(N))
+ * - 시간 구간(최근 1시간/1일/1주) 순위는 버킷 단위 슬라이딩 구간으로 유지한다
+ * - 현재 입찰가 순위표에는 입찰이 한 번 이상 있는 판매 중 상품만 올린다 (기동 시에도, 기동 후 입찰 이벤트로도 같은 기준)
+ * - 메모리 상태라 기동 시 현재 입찰가(DB)와 판매자 신뢰 온도만 다시 채운다.
+ *   구간 집계(입찰자 수, 낙찰 성공률)는 기동 이후 이벤트부터 다시 쌓인다
+ */
+@Slf4j
+@Service
+public class RankingService {
+
+    // 낙찰 성공률 순위는 윌슨 신뢰구간 하한으로 매긴다 (1건 중 1건 성공 = 100% 가 상위를 차지하지 않도록)
+    static final double WILSON_Z = 1.96;
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final Clock clock;
+
+    private final Leaderboard productsByCurrentBid = new Leaderboard();
+    private final Leaderboard sellersByTrustScore = new Leaderboard();
+    private final Map<RankingWindow, Leaderboard> productsByBidders = new EnumMap<>(RankingWindow.class);
+    private final Map<RankingWindow, WindowedDistinctCounter> bidderCounters = new EnumMap<>(RankingWindow.class);
+    private final Map<RankingWindow, Leaderboard> sellersBySuccessRate = new EnumMap<>(RankingWindow.class);
+    private final Map<RankingWindow, WindowedOutcomeCounter> sellerOutcomes = new EnumMap<>(RankingWindow.class);
+
+    @Autowired
+    public RankingService(ProductSearchIndex productSearchIndex, ProductRepository productRepository,
+                          UserRepository userRepository) {
+        this(productSearchIndex, productRepository, userRepository, Clock.systemDefaultZone());
+    }
+
+    RankingService(ProductSearchIndex productSearchIndex, ProductRepository productRepository,
+                   UserRepository userRepository, Clock clock) {
+        this.productSearchIndex = productSearchIndex;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.clock = clock;
+        for (RankingWindow window : RankingWindow.values()) {
+            Leaderboard byBidders = new Leaderboard();
+            productsByBidders.put(window, byBidders);
+            bidderCounters.put(window, new WindowedDistinctCounter(window,
+                    (productId, count, expired) -> apply(byBidders, productId, count, count, expired)));
+
+            Leaderboard bySuccessRate = new Leaderboard();
+            sellersBySuccessRate.put(window, bySuccessRate);
+            sellerOutcomes.put(window, new WindowedOutcomeCounter(window,
+                    (sellerId, outcome, expired) -> apply(bySuccessRate, sellerId, outcome.total(),
+                            wilsonLowerBound(outcome), expired)));
+        }
+    }
+
+    // ================= 이벤트 =================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        // 입찰이 없는 상품의 검색 인덱스 가격은 시작가이므로 쓰지 않는다
+        for (ProductCurrentBidView product : productRepository.findCurrentBids(ProductStatus.AVAILABLE)) {
+            productsByCurrentBid.updateIfHigher(product.productId(), product.currentPrice());
+        }
+        for (SellerProfileView seller : userRepository.findSellerProfiles()) {
+            if (seller.temperature() != null) {
+                sellersByTrustScore.update(seller.userId(), seller.temperature().doubleValue());
+            }
+        }
+        log.info("랭킹 초기화 완료: 상품 {}개, 판매자 {}명", productsByCurrentBid.size(), sellersByTrustScore.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidPlaced(BidPlacedEvent event) {
+        productsByCurrentBid.updateIfHigher(event.productId(), event.bidAmount().doubleValue());
+        // 검색 인덱스의 인기순 점수(인기순 정렬, 자동완성 가중치)와 가격 필터/정렬용 현재가도 입찰로 갱신한다
+        productSearchIndex.addPopularity(event.productId(), 1);
+        productSearchIndex.raisePrice(event.productId(), event.bidAmount().intValue());
+        long at = eventMillis(event.bidTime());
+        bidderCounters.values().forEach(counter -> counter.add(event.productId(), event.bidderId(), at));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        // 마감된 상품은 상품 랭킹에서 제외
+        productsByCurrentBid.remove(event.productId());
+        for (RankingWindow window : RankingWindow.values()) {
+            bidderCounters.get(window).remove(event.productId());
+            productsByBidders.get(window).remove(event.productId());
+        }
+        long at = eventMillis(event.closedAt());
+        sellerOutcomes.values().forEach(counter -> counter.add(event.sellerId(), event.sold(), at));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrustScoreChanged(TrustScoreChangedEvent event) {
+        sellersByTrustScore.update(event.userId(), event.temperature().doubleValue());
+    }
+
+    // 새 이벤트가 없어도 오래된 버킷이 구간에서 빠지도록 주기적으로 구간을 민다
+    @Scheduled(fixedDelayString = "${app.ranking.window-advance-interval-ms:60000}")
+    public void advanceWindows() {
+        long now = clock.millis();
+        bidderCounters.values().forEach(counter -> counter.advance(now));
+        sellerOutcomes.values().forEach(counter -> counter.advance(now));
+    }
+
+    // ================= 조회 =================
+
+    public List<RankingDto.ProductRank> topProducts(RankingDto.ProductRequest request) {
+        Leaderboard board = request.getSort() == RankingDto.ProductSort.BIDDERS
+                ? productsByBidders.get(request.getWindow())
+                : productsByCurrentBid;
+        WindowedDistinctCounter bidders = bidderCounters.get(request.getWindow());
+
+        List<RankingDto.ProductRank> ranks = new ArrayList<>(request.getSize());
+        for (Leaderboard.Ranked ranked : board.top(request.getSize())) {
+            ProductDocument doc = productSearchIndex.find(ranked.key());
+            // 삭제된 상품
+            if (doc == null) {
+                continue;
+            }
+            Double currentBid = productsByCurrentBid.score(ranked.key());
+            ranks.add(RankingDto.ProductRank.builder()
+                    .rank(ranks.size() + 1)
+                    .productId(doc.productId())
+                    .name(doc.name())
+                    .brand(doc.brand())
+                    .currentBid(currentBid != null ? currentBid.intValue() : doc.price())
+                    .bidders(bidders.count(ranked.key()))
+                    .build());
+        }
+        return ranks;
+    }
+
+    public List<RankingDto.SellerRank> topSellers(RankingDto.SellerRequest request) {
+        Leaderboard board = request.getSort() == RankingDto.SellerSort.TRUST_SCORE
+                ? sellersByTrustScore
+                : sellersBySuccessRate.get(request.getWindow());
+        WindowedOutcomeCounter outcomes = sellerOutcomes.get(request.getWindow());
+
+        List<Leaderboard.Ranked> top = board.top(request.getSize());
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        // 표시용 닉네임만 기본 키로 조회
+        Map<Long, SellerProfileView> profiles = userRepository.findSellerProfilesByIds(
+                        top.stream().map(Leaderboard.Ranked::key).toList())
+                .stream()
+                .collect(Collectors.toMap(SellerProfileView::userId, Function.identity()));
+
+        List<RankingDto.SellerRank> ranks = new ArrayList<>(top.size());
+        for (Leaderboard.Ranked ranked : top) {
+            SellerProfileView profile = profiles.get(ranked.key());
+            // 탈퇴 등으로 사라진 사용자
+            if (profile == null) {
+                continue;
+            }
+            WindowedOutcomeCounter.Outcome outcome = outcomes.get(ranked.key());
+            Double trustScore = sellersByTrustScore.score(ranked.key());
+            ranks.add(RankingDto.SellerRank.builder()
+                    .rank(ranks.size() + 1)
+                    .sellerId(profile.userId())
+                    .nickname(profile.nickname())
+                    .successRate(Math.round(outcome.rate() * 1000) / 10.0)
+                    .closedAuctions(outcome.total())
+                    .soldAuctions(outcome.succeeded())
+                    .trustScore(trustScore != null ? trustScore
+                            : profile.temperature() != null ? profile.temperature().doubleValue() : 0.0)
+                    .build());
+        }
+        return ranks;
+    }
+
+    // ================= 내부 =================
+
+    private static void apply(Leaderboard board, long key, long samples, double score, boolean expired) {
+        if (samples == 0) {
+            board.remove(key);
+        } else if (expired) {
+            board.updateIfPresent(key, score);
+        } else {
+            board.update(key, score);
+        }
+    }
+
+    static double wilsonLowerBound(WindowedOutcomeCounter.Outcome outcome) {
+        if (outcome.total() == 0) {
+            return 0.0;
+        }
+        double n = outcome.total();
+        double p = outcome.rate();
+        double z2 = WILSON_Z * WILSON_Z;
+        double centre = p + z2 / (2 * n);
+        double margin = WILSON_Z * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+        return (centre - margin) / (1 + z2 / n);
+    }
+
+    // 미래 시각(노드 간 시계 차이)은 현재 버킷으로 맞춘다
+    private long eventMillis(LocalDateTime time) {
+        long now = clock.millis();
+        if (time == null) {
+            return now;
+        }
+        return Math.min(time.atZone(clock.getZone()).toInstant().toEpochMilli(), now);
+    }
+}
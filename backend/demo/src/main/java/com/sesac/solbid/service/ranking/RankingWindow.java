@@ -0,0 +1,31 @@
+package com.sesac.solbid.service.ranking;
+
+import java.time.Duration;
+
+/**
+ * 랭킹 집계 구간
+ * 구간을 버킷으로 나눠 가장 오래된 버킷을 통째로 빼는 방식이라 경계 오차는 버킷 크기 이내
+ */
+public enum RankingWindow {
+    ALL(null, 0),
+    HOUR(Duration.ofMinutes(1), 60),
+    DAY(Duration.ofMinutes(30), 48),
+    WEEK(Duration.ofHours(3), 56);
+
+    private final Duration bucketSize;
+    private final int bucketCount;
+
+    RankingWindow(Duration bucketSize, int bucketCount) {
+        this.bucketSize = bucketSize;
+        this.bucketCount = bucketCount;
+    }
+
+    // ALL 이면 null (만료 없음)
+    Duration bucketSize() {
+        return bucketSize;
+    }
+
+    int bucketCount() {
+        return bucketCount;
+    }
+}
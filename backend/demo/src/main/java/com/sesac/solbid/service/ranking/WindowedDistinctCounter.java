@@ -0,0 +1,110 @@
+package com.sesac.solbid.service.ranking;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 키별 고유 멤버 수 (예: 상품별 입찰자 수) 를 슬라이딩 구간으로 유지
+ *
+ * - 구간을 고정 크기 버킷으로 나누고, (키, 멤버) 가 포함된 버킷 수를 세어 둔다
+ * - 가장 오래된 버킷이 빠질 때 그 버킷에 있던 쌍만 감소시키므로 구간 전체를 다시 세지 않는다
+ * - 값이 바뀐 키는 Listener 로 알린다 (순위표 갱신)
+ */
+final class WindowedDistinctCounter {
+
+    interface Listener {
+        /**
+         * @param expired 구간에서 빠져서 줄어든 경우 true
+         */
+        void changed(long key, int count, boolean expired);
+    }
+
+    private record Pair(long key, long member) {
+    }
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Listener listener;
+
+    // 버킷 번호(epoch / 버킷 크기) -> 그 버킷에 들어온 (키, 멤버) 쌍 (ALL 구간이면 사용하지 않음)
+    private final TreeMap<Long, Set<Pair>> buckets = new TreeMap<>();
+    // 지금까지 본 가장 최근 버킷 번호
+    private long latestIndex = Long.MIN_VALUE;
+    // 키 -> (멤버 -> 멤버가 포함된 버킷 수), 내부 맵 크기가 고유 멤버 수
+    private final Map<Long, Map<Long, Integer>> presence = new HashMap<>();
+
+    WindowedDistinctCounter(RankingWindow window, Listener listener) {
+        this.bucketMillis = window.bucketSize() != null ? window.bucketSize().toMillis() : 0L;
+        this.bucketCount = window.bucketCount();
+        this.listener = listener;
+    }
+
+    synchronized void add(long key, long member, long epochMillis) {
+        if (bucketMillis == 0) {
+            if (presence.computeIfAbsent(key, k -> new HashMap<>()).putIfAbsent(member, 1) == null) {
+                listener.changed(key, count(key), false);
+            }
+            return;
+        }
+        long index = epochMillis / bucketMillis;
+        latestIndex = Math.max(latestIndex, index);
+        // 구간을 이미 벗어난 늦은 이벤트는 버림
+        if (index <= latestIndex - bucketCount) {
+            return;
+        }
+        if (!buckets.computeIfAbsent(index, i -> new HashSet<>()).add(new Pair(key, member))) {
+            return;
+        }
+        if (presence.computeIfAbsent(key, k -> new HashMap<>()).merge(member, 1, Integer::sum) == 1) {
+            listener.changed(key, count(key), false);
+        }
+    }
+
+    /**
+     * nowMillis 기준으로 구간을 벗어난 버킷을 뺀다
+     */
+    synchronized void advance(long nowMillis) {
+        if (bucketMillis == 0) {
+            return;
+        }
+        latestIndex = Math.max(latestIndex, nowMillis / bucketMillis);
+        long oldestIndex = latestIndex - bucketCount + 1;
+        while (!buckets.isEmpty() && buckets.firstKey() < oldestIndex) {
+            Set<Long> changedKeys = new HashSet<>();
+            for (Pair pair : buckets.pollFirstEntry().getValue()) {
+                Map<Long, Integer> members = presence.get(pair.key());
+                // remove(key) 로 이미 제외된 키는 건너뜀
+                Integer containing = members != null ? members.get(pair.member()) : null;
+                if (containing == null) {
+                    continue;
+                }
+                if (containing == 1) {
+                    members.remove(pair.member());
+                    changedKeys.add(pair.key());
+                } else {
+                    members.put(pair.member(), containing - 1);
+                }
+            }
+            for (Long key : changedKeys) {
+                int count = count(key);
+                if (count == 0) {
+                    presence.remove(key);
+                }
+                listener.changed(key, count, true);
+            }
+        }
+    }
+
+    synchronized int count(long key) {
+        Map<Long, Integer> members = presence.get(key);
+        return members != null ? members.size() : 0;
+    }
+
+    // 키를 집계에서 제외 (남은 버킷의 쌍은 만료될 때 무시됨)
+    synchronized void remove(long key) {
+        presence.remove(key);
+    }
+}
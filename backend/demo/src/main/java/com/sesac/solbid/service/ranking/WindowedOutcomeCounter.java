@@ -0,0 +1,88 @@
+package com.sesac.solbid.service.ranking;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 키별 (전체 건수, 성공 건수) 를 슬라이딩 구간으로 유지 (예: 판매자별 마감 경매 수 / 낙찰 수)
+ *
+ * 버킷별 증가분을 따로 보관했다가 버킷이 구간에서 빠질 때 그만큼 빼므로 구간 전체를 다시 더하지 않는다.
+ */
+final class WindowedOutcomeCounter {
+
+    interface Listener {
+        /**
+         * @param expired 구간에서 빠져서 줄어든 경우 true
+         */
+        void changed(long key, Outcome outcome, boolean expired);
+    }
+
+    record Outcome(long total, long succeeded) {
+
+        static final Outcome EMPTY = new Outcome(0, 0);
+
+        Outcome plus(Outcome other) {
+            return new Outcome(total + other.total, succeeded + other.succeeded);
+        }
+
+        Outcome minus(Outcome other) {
+            return new Outcome(total - other.total, succeeded - other.succeeded);
+        }
+
+        double rate() {
+            return total == 0 ? 0.0 : (double) succeeded / total;
+        }
+    }
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Listener listener;
+
+    // 버킷 번호 -> 키별 증가분 (ALL 구간이면 사용하지 않음)
+    private final TreeMap<Long, Map<Long, Outcome>> buckets = new TreeMap<>();
+    private final Map<Long, Outcome> totals = new HashMap<>();
+    private long latestIndex = Long.MIN_VALUE;
+
+    WindowedOutcomeCounter(RankingWindow window, Listener listener) {
+        this.bucketMillis = window.bucketSize() != null ? window.bucketSize().toMillis() : 0L;
+        this.bucketCount = window.bucketCount();
+        this.listener = listener;
+    }
+
+    synchronized void add(long key, boolean succeeded, long epochMillis) {
+        Outcome delta = new Outcome(1, succeeded ? 1 : 0);
+        if (bucketMillis > 0) {
+            long index = epochMillis / bucketMillis;
+            latestIndex = Math.max(latestIndex, index);
+            if (index <= latestIndex - bucketCount) {
+                return;
+            }
+            buckets.computeIfAbsent(index, i -> new HashMap<>()).merge(key, delta, Outcome::plus);
+        }
+        listener.changed(key, totals.merge(key, delta, Outcome::plus), false);
+    }
+
+    synchronized void advance(long nowMillis) {
+        if (bucketMillis == 0) {
+            return;
+        }
+        latestIndex = Math.max(latestIndex, nowMillis / bucketMillis);
+        long oldestIndex = latestIndex - bucketCount + 1;
+        while (!buckets.isEmpty() && buckets.firstKey() < oldestIndex) {
+            buckets.pollFirstEntry().getValue().forEach((key, delta) -> {
+                Outcome remaining = totals.get(key).minus(delta);
+                if (remaining.total() == 0) {
+                    totals.remove(key);
+                } else {
+                    totals.put(key, remaining);
+                }
+                listener.changed(key, remaining, true);
+            });
+        }
+    }
+
+    synchronized Outcome get(long key) {
+        return totals.getOrDefault(key, Outcome.EMPTY);
+    }
+}
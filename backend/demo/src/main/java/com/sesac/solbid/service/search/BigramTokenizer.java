@@ -0,0 +1,76 @@
+package com.sesac.solbid.service.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 상품명/설명용 문자 바이그램 토크나이저
+ *
+ * - NFKC 정규화 + 소문자 변환 후, 같은 문자 종류(한글 / 그 외 문자·숫자)가 이어진 구간을 단위로 자른다
+ * - 각 구간은 연속한 두 글자(바이그램)로 쪼개고, 한 글자 구간은 그대로 쓴다
+ *   예) "나이키 덩크로우 DD1391" -> 나이, 이키, 덩크, 크로, 로우, dd, d1, 13, 39, 91
+ * - 형태소 분석 없이도 띄어쓰기가 다른 질의("덩크 로우" / "덩크로우")가 같은 토큰을 공유한다
+ */
+final class BigramTokenizer {
+
+    private static final int SEPARATOR = 0;
+    private static final int HANGUL = 1;
+    private static final int OTHER = 2;
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 토큰별 등장 횟수 (등장 순서 유지)
+     */
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        if (text == null || text.isBlank()) {
+            return frequencies;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int runStart = 0;
+        while (runStart < codePoints.length) {
+            int type = typeOf(codePoints[runStart]);
+            if (type == SEPARATOR) {
+                runStart++;
+                continue;
+            }
+            int runEnd = runStart + 1;
+            while (runEnd < codePoints.length && typeOf(codePoints[runEnd]) == type) {
+                runEnd++;
+            }
+            emitRun(codePoints, runStart, runEnd, frequencies);
+            runStart = runEnd;
+        }
+        return frequencies;
+    }
+
+    private static void emitRun(int[] codePoints, int start, int end, Map<String, Integer> frequencies) {
+        if (end - start == 1) {
+            frequencies.merge(new String(codePoints, start, 1), 1, Integer::sum);
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            frequencies.merge(new String(codePoints, i, 2), 1, Integer::sum);
+        }
+    }
+
+    private static int typeOf(int codePoint) {
+        if (isHangul(codePoint)) {
+            return HANGUL;
+        }
+        return Character.isLetterOrDigit(codePoint) ? OTHER : SEPARATOR;
+    }
+
+    private static boolean isHangul(int codePoint) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(codePoint);
+        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
+                || block == Character.UnicodeBlock.HANGUL_JAMO
+                || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO;
+    }
+}
@@ -0,0 +1,143 @@
+package com.sesac.solbid.service.search;
+
+import java.util.Arrays;
+
+/**
+ * 검색 인덱스 전용 docId 비트맵
+ * java.util.BitSet 과 달리 교집합 개수(andCardinality)를 중간 비트맵 생성 없이 계산할 수 있어
+ * 패싯 카운트처럼 "교집합의 크기만 필요한" 연산에 쓴다.
+ */
+final class DocIdBitmap {
+
+    private static final int ADDRESS_BITS = 6;
+
+    private long[] words;
+
+    DocIdBitmap() {
+        this(64);
+    }
+
+    DocIdBitmap(int capacity) {
+        this.words = new long[Math.max(1, wordIndex(Math.max(0, capacity - 1)) + 1)];
+    }
+
+    private DocIdBitmap(long[] words) {
+        this.words = words;
+    }
+
+    void set(int docId) {
+        int index = wordIndex(docId);
+        if (index >= words.length) {
+            words = Arrays.copyOf(words, Math.max(index + 1, words.length * 2));
+        }
+        words[index] |= 1L << docId;
+    }
+
+    void clear(int docId) {
+        int index = wordIndex(docId);
+        if (index < words.length) {
+            words[index] &= ~(1L << docId);
+        }
+    }
+
+    boolean get(int docId) {
+        int index = wordIndex(docId);
+        return index < words.length && (words[index] & (1L << docId)) != 0;
+    }
+
+    void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    DocIdBitmap copy() {
+        return new DocIdBitmap(words.clone());
+    }
+
+    void and(DocIdBitmap other) {
+        int common = Math.min(words.length, other.words.length);
+        for (int i = 0; i < common; i++) {
+            words[i] &= other.words[i];
+        }
+        Arrays.fill(words, common, words.length, 0L);
+    }
+
+    void or(DocIdBitmap other) {
+        if (other.words.length > words.length) {
+            words = Arrays.copyOf(words, other.words.length);
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * |this ∩ other| (두 비트맵 모두 변경하지 않음)
+     */
+    int andCardinality(DocIdBitmap other) {
+        int common = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < common; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * from 이상에서 첫 번째로 설정된 docId, 없으면 -1
+     */
+    int nextSetBit(int from) {
+        if (from < 0) {
+            from = 0;
+        }
+        int index = wordIndex(from);
+        if (index >= words.length) {
+            return -1;
+        }
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (index << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    /**
+     * from 이하에서 마지막으로 설정된 docId, 없으면 -1
+     */
+    int previousSetBit(int from) {
+        if (from < 0) {
+            return -1;
+        }
+        int index = wordIndex(from);
+        if (index >= words.length) {
+            index = words.length - 1;
+            from = (words.length << ADDRESS_BITS) - 1;
+        }
+        long word = words[index] & (-1L >>> -(from + 1));
+        while (true) {
+            if (word != 0) {
+                return ((index + 1) << ADDRESS_BITS) - 1 - Long.numberOfLeadingZeros(word);
+            }
+            if (index-- == 0) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    private static int wordIndex(int docId) {
+        return docId >> ADDRESS_BITS;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sesac.solbid.service.search;
+
+/**
+ * 전문 검색 질의 한 번의 세그먼트 문서 점수 누적기 (docIndex → 점수, 개방 주소 해시)
+ * 질의 토큰의 포스팅에 나온 문서만 담으므로 크기가 세그먼트 전체 문서 수가 아니라 포스팅 수에 비례한다.
+ */
+final class DocScores {
+
+    // docIndex + 1 을 저장 (0 은 빈 칸)
+    private final int[] keys;
+    private final float[] scores;
+    private final int mask;
+
+    /**
+     * @param expected 담길 최대 문서 수 (질의 토큰 df 합)
+     */
+    DocScores(int expected) {
+        // 적재율 1/2 이하
+        int capacity = Integer.highestOneBit(Math.max(expected, 1) * 2 - 1) << 1;
+        this.keys = new int[capacity];
+        this.scores = new float[capacity];
+        this.mask = capacity - 1;
+    }
+
+    void add(int docIndex, float score) {
+        int key = docIndex + 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                scores[slot] += score;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        scores[slot] = score;
+    }
+
+    /**
+     * 순회용 칸 수 (docIndex(slot) 이 -1 인 칸은 비어 있음)
+     */
+    int slots() {
+        return keys.length;
+    }
+
+    int docIndex(int slot) {
+        return keys[slot] - 1;
+    }
+
+    float score(int slot) {
+        return scores[slot];
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
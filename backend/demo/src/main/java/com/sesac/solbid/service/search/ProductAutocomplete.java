@@ -0,0 +1,121 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.dto.ProductSearchDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색창 자동완성 (상품명 + 브랜드)
+ *
+ * - 상품 검색 인덱스(ProductSearchIndex)의 메모리 데이터로 압축 트라이를 만들어 DB 를 전혀 조회하지 않는다
+ * - 후보 가중치는 등록 상품 수 + 입찰/찜 인기 점수 합계
+ * - 백그라운드에서 새 트라이를 만든 뒤 참조만 바꿔 끼우므로 조회는 잠금 없이 이전/새 스냅샷 중 하나를 본다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductAutocomplete {
+
+    static final int TOP_K = 10;
+
+    private final ProductSearchIndex productSearchIndex;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private record Snapshot(SuggestionTrie trie, List<ProductSearchDto.Suggestion> suggestions, long sourceVersion) {
+        static final Snapshot EMPTY = new Snapshot(new SuggestionTrie.Builder(TOP_K).build(), List.of(), -1L);
+    }
+
+    // 후보별 누적 가중치
+    private record Candidate(String text, ProductSearchDto.SuggestionType type, List<String> keys, long weight) {
+    }
+
+    public List<ProductSearchDto.Suggestion> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        int[] ranks = current.trie().lookup(prefix, Math.min(limit, TOP_K));
+        List<ProductSearchDto.Suggestion> result = new ArrayList<>(ranks.length);
+        for (int rank : ranks) {
+            result.add(current.suggestions().get(rank));
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 상품 인덱스가 바뀐 경우에만 재구성
+     */
+    @Scheduled(fixedDelayString = "${app.search.autocomplete.rebuild-interval-ms:30000}")
+    public void rebuildIfChanged() {
+        if (productSearchIndex.version() != snapshot.sourceVersion()) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        long sourceVersion = productSearchIndex.version();
+
+        Map<String, long[]> nameWeights = new HashMap<>();
+        Map<ProductBrand, long[]> brandWeights = new EnumMap<>(ProductBrand.class);
+        productSearchIndex.forEach((doc, popularity) -> {
+            if (doc.status() != ProductStatus.AVAILABLE) {
+                return;
+            }
+            long weight = 1L + popularity;
+            nameWeights.computeIfAbsent(doc.name().strip(), name -> new long[1])[0] += weight;
+            brandWeights.computeIfAbsent(doc.brand(), brand -> new long[1])[0] += weight;
+        });
+
+        List<Candidate> candidates = new ArrayList<>(nameWeights.size() + brandWeights.size());
+        nameWeights.forEach((name, weight) ->
+                candidates.add(new Candidate(name, ProductSearchDto.SuggestionType.PRODUCT, wordStarts(name), weight[0])));
+        brandWeights.forEach((brand, weight) ->
+                candidates.add(new Candidate(brand.name(), ProductSearchDto.SuggestionType.BRAND,
+                        List.of(SuggestionTrie.normalize(brand.name())), weight[0])));
+        candidates.sort(Comparator.comparingLong(Candidate::weight).reversed().thenComparing(Candidate::text));
+
+        SuggestionTrie.Builder builder = new SuggestionTrie.Builder(TOP_K);
+        List<ProductSearchDto.Suggestion> suggestions = new ArrayList<>(candidates.size());
+        for (int rank = 0; rank < candidates.size(); rank++) {
+            Candidate candidate = candidates.get(rank);
+            for (String key : candidate.keys()) {
+                builder.add(key, rank);
+            }
+            suggestions.add(new ProductSearchDto.Suggestion(candidate.text(), candidate.type()));
+        }
+        SuggestionTrie trie = builder.build();
+
+        snapshot = new Snapshot(trie, List.copyOf(suggestions), sourceVersion);
+        log.debug("자동완성 재구성: 후보 {}개, 노드 {}개", suggestions.size(), trie.nodeCount());
+    }
+
+    // "나이키 덩크 로우" -> ["나이키 덩크 로우", "덩크 로우", "로우"] (중간 단어부터 입력해도 찾도록)
+    private static List<String> wordStarts(String name) {
+        String normalized = SuggestionTrie.normalize(name);
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+}
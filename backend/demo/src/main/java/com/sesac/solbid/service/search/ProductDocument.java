@@ -0,0 +1,37 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.domain.Product;
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+
+/**
+ * 검색 인덱스에 저장되는 상품 스냅샷
+ * 트랜잭션 커밋 후 인덱스에 반영되므로 엔티티 대신 불변 값으로 보관한다.
+ */
+public record ProductDocument(Long productId, String name, ProductBrand brand, ProductCategory category,
+                              ProductCondition condition, ProductStatus status, int size, int price) {
+
+    public static ProductDocument from(Product product) {
+        return new ProductDocument(
+                product.getProductId(),
+                product.getName(),
+                product.getProductBrand(),
+                product.getProductCategory(),
+                product.getProductCondition(),
+                product.getProductStatus(),
+                product.getSize(),
+                // 입찰이 시작되면 현재 입찰가, 아니면 시작가 기준
+                product.getCurrentPrice() > 0 ? product.getCurrentPrice() : product.getStartPrice()
+        );
+    }
+
+    public ProductDocument withStatus(ProductStatus newStatus) {
+        return new ProductDocument(productId, name, brand, category, condition, newStatus, size, price);
+    }
+
+    public ProductDocument withPrice(int newPrice) {
+        return new ProductDocument(productId, name, brand, category, condition, status, size, newPrice);
+    }
+}
@@ -0,0 +1,692 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.domain.Product;
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.dto.ProductSearchDto;
+import com.sesac.solbid.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 상품 패싯 검색용 인메모리 비트맵 인덱스
+ *
+ * - 상품마다 0부터 증가하는 문서 번호(docId)를 부여하고, 브랜드/카테고리/컨디션/상태/사이즈 구간별로 비트맵을 둔다
+ * - 필터 조합은 비트맵 교집합으로 계산하고, 가격 범위와 가격 정렬은 (가격, docId) 정렬 컬럼으로 처리한다
+ * - 패싯 카운트는 검색과 같은 패스에서 비트맵 교집합 개수로 계산한다 (DB GROUP BY 없음)
+ * - 상품 등록/상태 변경은 ProductSearchIndexListener 가 커밋 후 upsert 로 반영한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 사이즈 구간 (mm)
+    private static final int SIZE_BUCKET = 5;
+    // 정렬 컬럼을 훑는 대신 후보만 모아 정렬하는 기준 (후보 수 * 이 값 < 전체 문서 수)
+    private static final int SORT_CANDIDATES_RATIO = 16;
+    // 이 개수를 넘는 가격 변경은 건별 삽입 대신 정렬 컬럼에 한 번에 병합
+    private static final int PRICE_MERGE_THRESHOLD = 32;
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> docIdByProductId = new HashMap<>();
+    private ProductDocument[] docs = new ProductDocument[INITIAL_CAPACITY];
+    private int[] popularity = new int[INITIAL_CAPACITY];
+    private int docCount;
+    // 쓰기마다 증가 (자동완성 등 파생 인덱스의 재구성 필요 여부 판단용)
+    private volatile long version;
+
+    private final DocIdBitmap live = new DocIdBitmap();
+    private final Map<ProductBrand, DocIdBitmap> brandBits = bitmaps(ProductBrand.class);
+    private final Map<ProductCategory, DocIdBitmap> categoryBits = bitmaps(ProductCategory.class);
+    private final Map<ProductCondition, DocIdBitmap> conditionBits = bitmaps(ProductCondition.class);
+    private final Map<ProductStatus, DocIdBitmap> statusBits = bitmaps(ProductStatus.class);
+    private final Map<Integer, DocIdBitmap> sizeBucketBits = new TreeMap<>();
+
+    // (가격 << 32 | docId) 오름차순 정렬 컬럼
+    private long[] priceColumn = new long[INITIAL_CAPACITY];
+    private int priceColumnLength;
+
+    /**
+     * 애플리케이션 기동 시 DB 의 전체 상품으로 인덱스 구성 (productId 기준 키셋 순회)
+     */
+    // 자동완성 등 이 인덱스를 읽어서 만드는 인덱스보다 먼저 구성
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastProductId = 0L;
+        int indexed = 0;
+        while (true) {
+            List<Product> batch = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                    lastProductId, Limit.of(REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            upsertAll(batch.stream().map(ProductDocument::from).toList());
+            indexed += batch.size();
+            lastProductId = batch.get(batch.size() - 1).getProductId();
+        }
+        log.info("상품 검색 인덱스 구성 완료: {}건", indexed);
+    }
+
+    public void upsert(ProductDocument doc) {
+        upsertAll(List.of(doc));
+    }
+
+    public void upsertAll(Collection<ProductDocument> documents) {
+        // 같은 상품이 여러 번 들어오면 마지막 값만 반영
+        Map<Long, ProductDocument> latest = new LinkedHashMap<>();
+        for (ProductDocument doc : documents) {
+            latest.put(doc.productId(), doc);
+        }
+
+        lock.writeLock().lock();
+        try {
+            version++;
+            long[] removedPrices = new long[latest.size()];
+            long[] addedPrices = new long[latest.size()];
+            int removed = 0;
+            int added = 0;
+            for (ProductDocument doc : latest.values()) {
+                Integer docId = docIdByProductId.get(doc.productId());
+                if (docId == null) {
+                    docId = docCount++;
+                    ensureCapacity(docCount);
+                    docIdByProductId.put(doc.productId(), docId);
+                } else {
+                    unindex(docId, docs[docId]);
+                    removedPrices[removed++] = priceKey(docs[docId].price(), docId);
+                }
+                docs[docId] = doc;
+                index(docId, doc);
+                addedPrices[added++] = priceKey(doc.price(), docId);
+            }
+            updatePriceColumn(removedPrices, removed, addedPrices, added);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateStatus(Long productId, ProductStatus status) {
+        ProductDocument doc = find(productId);
+        if (doc != null && doc.status() != status) {
+            upsert(doc.withStatus(status));
+        }
+    }
+
+    public void updatePrice(Long productId, int price) {
+        ProductDocument doc = find(productId);
+        if (doc != null && doc.price() != price) {
+            upsert(doc.withPrice(price));
+        }
+    }
+
+    /**
+     * 입찰로 현재가가 오른 경우 (늦게 도착한 낮은 입찰로 가격이 내려가지 않도록 더 높을 때만 반영)
+     */
+    public void raisePrice(Long productId, int price) {
+        lock.writeLock().lock();
+        try {
+            ProductDocument doc = find(productId);
+            if (doc != null && price > doc.price()) {
+                upsert(doc.withPrice(price));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기순 정렬용 점수 가산 (입찰/찜 등)
+     */
+    public void addPopularity(Long productId, int delta) {
+        lock.writeLock().lock();
+        try {
+            version++;
+            Integer docId = docIdByProductId.get(productId);
+            if (docId != null) {
+                popularity[docId] = Math.max(0, popularity[docId] + delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            version++;
+            Integer docId = docIdByProductId.remove(productId);
+            if (docId != null) {
+                unindex(docId, docs[docId]);
+                removePrice(priceKey(docs[docId].price(), docId));
+                docs[docId] = null;
+                popularity[docId] = 0;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public ProductDocument find(Long productId) {
+        lock.readLock().lock();
+        try {
+            Integer docId = docIdByProductId.get(productId);
+            return docId != null ? docs[docId] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * productId 순서를 유지한 상품 목록 (인덱스에 없는 상품은 제외)
+     */
+    public List<ProductSearchDto.ProductItem> items(List<Long> productIds) {
+        lock.readLock().lock();
+        try {
+            List<ProductSearchDto.ProductItem> items = new ArrayList<>(productIds.size());
+            for (Long productId : productIds) {
+                Integer docId = docIdByProductId.get(productId);
+                if (docId != null) {
+                    items.add(toItem(docs[docId]));
+                }
+            }
+            return items;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 모든 상품을 (문서, 인기 점수) 로 순회
+     */
+    public void forEach(ObjIntConsumer<ProductDocument> consumer) {
+        lock.readLock().lock();
+        try {
+            for (int docId = live.nextSetBit(0); docId >= 0; docId = live.nextSetBit(docId + 1)) {
+                consumer.accept(docs[docId], popularity[docId]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상태별 상품 수 (커밋 후 반영되므로 DB 와 잠시 다를 수 있다)
+     */
+    public int count(ProductStatus status) {
+        lock.readLock().lock();
+        try {
+            return live.andCardinality(statusBits.get(status));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ProductSearchDto.SearchResponse search(ProductSearchDto.SearchRequest request) {
+        lock.readLock().lock();
+        try {
+            Filters filters = filters(request);
+            DocIdBitmap matched = filters.matched();
+            int total = matched.cardinality();
+            int offset = (int) Math.min((long) request.getPage() * request.getPageSize(), Integer.MAX_VALUE);
+            int[] pageDocIds = page(matched, total, request.getSort(), offset, request.getPageSize());
+
+            List<ProductSearchDto.ProductItem> products = new ArrayList<>(pageDocIds.length);
+            for (int docId : pageDocIds) {
+                products.add(toItem(docs[docId]));
+            }
+            return ProductSearchDto.SearchResponse.builder()
+                    .total(total)
+                    .page(request.getPage())
+                    .pageSize(request.getPageSize())
+                    .products(products)
+                    .facets(facets(filters, matched))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 없이 패싯 카운트만 계산
+     */
+    public ProductSearchDto.Facets facets(ProductSearchDto.SearchRequest request) {
+        lock.readLock().lock();
+        try {
+            Filters filters = filters(request);
+            return facets(filters, filters.matched());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= 필터 =================
+
+    /**
+     * 항목별 필터 비트맵 (null 이면 조건 없음)
+     * base 는 상태/가격처럼 패싯으로 노출하지 않는 조건까지 적용한 집합
+     */
+    private record Filters(DocIdBitmap base, DocIdBitmap brand, DocIdBitmap category,
+                           DocIdBitmap condition, DocIdBitmap size) {
+
+        DocIdBitmap matched() {
+            return intersect(base, brand, category, condition, size);
+        }
+    }
+
+    private Filters filters(ProductSearchDto.SearchRequest request) {
+        DocIdBitmap base = live.copy();
+        if (request.getStatus() != null) {
+            base.and(statusBits.get(request.getStatus()));
+        }
+        applyPriceRange(base, request.getMinPrice(), request.getMaxPrice());
+        return new Filters(
+                base,
+                union(brandBits, request.getBrands()),
+                union(categoryBits, request.getCategories()),
+                union(conditionBits, request.getConditions()),
+                union(sizeBucketBits, sizeBuckets(request.getSizes()))
+        );
+    }
+
+    // 같은 항목의 값들은 OR
+    private static <K> DocIdBitmap union(Map<K, DocIdBitmap> bitmaps, Collection<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        DocIdBitmap union = new DocIdBitmap();
+        for (K key : keys) {
+            DocIdBitmap bits = bitmaps.get(key);
+            if (bits != null) {
+                union.or(bits);
+            }
+        }
+        return union;
+    }
+
+    // 항목끼리는 AND
+    private static DocIdBitmap intersect(DocIdBitmap base, DocIdBitmap... filters) {
+        DocIdBitmap result = base.copy();
+        for (DocIdBitmap filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private void applyPriceRange(DocIdBitmap candidates, Integer minPrice, Integer maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return;
+        }
+        int min = minPrice == null ? 0 : Math.max(0, minPrice);
+        int max = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+        if (min > max) {
+            candidates.clearAll();
+            return;
+        }
+        int from = lowerBound(priceKey(min, 0));
+        int to = max == Integer.MAX_VALUE ? priceColumnLength : lowerBound(priceKey(max + 1, 0));
+
+        // 가격 구간이 후보보다 좁으면 구간 비트맵과 교집합, 아니면 후보별로 가격 확인
+        if (to - from < candidates.cardinality()) {
+            DocIdBitmap inRange = new DocIdBitmap(docCount);
+            for (int i = from; i < to; i++) {
+                inRange.set(docIdOf(priceColumn[i]));
+            }
+            candidates.and(inRange);
+        } else {
+            for (int docId = candidates.nextSetBit(0); docId >= 0; docId = candidates.nextSetBit(docId + 1)) {
+                int price = docs[docId].price();
+                if (price < min || price > max) {
+                    candidates.clear(docId);
+                }
+            }
+        }
+    }
+
+    // ================= 패싯 =================
+
+    /**
+     * 항목별 개수는 자기 항목의 선택을 뺀 나머지 조건 기준으로 센다
+     * (나이키를 골라도 아디다스 개수가 0 이 되지 않도록). 자기 항목에 조건이 없으면 결과 집합을 그대로 쓴다.
+     */
+    private ProductSearchDto.Facets facets(Filters filters, DocIdBitmap matched) {
+        DocIdBitmap brandBase = filters.brand() == null ? matched
+                : intersect(filters.base(), filters.category(), filters.condition(), filters.size());
+        DocIdBitmap categoryBase = filters.category() == null ? matched
+                : intersect(filters.base(), filters.brand(), filters.condition(), filters.size());
+        DocIdBitmap conditionBase = filters.condition() == null ? matched
+                : intersect(filters.base(), filters.brand(), filters.category(), filters.size());
+        DocIdBitmap sizeBase = filters.size() == null ? matched
+                : intersect(filters.base(), filters.brand(), filters.category(), filters.condition());
+
+        Map<Integer, Integer> sizes = new LinkedHashMap<>();
+        sizeBucketBits.forEach((bucket, bits) -> {
+            int count = bits.andCardinality(sizeBase);
+            if (count > 0) {
+                sizes.put(bucket, count);
+            }
+        });
+
+        return ProductSearchDto.Facets.builder()
+                .brands(counts(ProductBrand.class, brandBits, brandBase))
+                .categories(counts(ProductCategory.class, categoryBits, categoryBase))
+                .conditions(counts(ProductCondition.class, conditionBits, conditionBase))
+                .sizes(sizes)
+                .build();
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> counts(Class<E> type, Map<E, DocIdBitmap> bitmaps,
+                                                             DocIdBitmap base) {
+        Map<E, Integer> counts = new EnumMap<>(type);
+        bitmaps.forEach((value, bits) -> counts.put(value, bits.andCardinality(base)));
+        return counts;
+    }
+
+    // ================= 정렬/페이지 =================
+
+    private int[] page(DocIdBitmap matched, int total, ProductSearchDto.SortType sort, int offset, int limit) {
+        if (offset >= total || limit <= 0) {
+            return new int[0];
+        }
+        int wanted = Math.min(limit, total - offset);
+        return switch (sort == null ? ProductSearchDto.SortType.POPULAR : sort) {
+            case LATEST -> latest(matched, offset, wanted);
+            case PRICE_ASC -> byPrice(matched, total, offset, wanted, true);
+            case PRICE_DESC -> byPrice(matched, total, offset, wanted, false);
+            case POPULAR -> popular(matched, offset, wanted);
+        };
+    }
+
+    // docId 는 등록 순서이므로 뒤에서부터 읽으면 최신순
+    private int[] latest(DocIdBitmap matched, int offset, int wanted) {
+        int[] result = new int[wanted];
+        int skipped = 0;
+        int filled = 0;
+        for (int docId = matched.previousSetBit(docCount - 1); docId >= 0 && filled < wanted;
+             docId = matched.previousSetBit(docId - 1)) {
+            if (skipped++ < offset) {
+                continue;
+            }
+            result[filled++] = docId;
+        }
+        return result;
+    }
+
+    private int[] byPrice(DocIdBitmap matched, int total, int offset, int wanted, boolean ascending) {
+        if ((long) total * SORT_CANDIDATES_RATIO < priceColumnLength) {
+            // 후보가 적으면 후보만 모아서 정렬
+            long[] keys = new long[total];
+            int n = 0;
+            for (int docId = matched.nextSetBit(0); docId >= 0; docId = matched.nextSetBit(docId + 1)) {
+                keys[n++] = priceKey(docs[docId].price(), docId);
+            }
+            Arrays.sort(keys);
+            int[] result = new int[wanted];
+            for (int i = 0; i < wanted; i++) {
+                int rank = offset + i;
+                result[i] = docIdOf(keys[ascending ? rank : total - 1 - rank]);
+            }
+            return result;
+        }
+
+        // 후보가 많으면 정렬 컬럼을 순서대로 훑으며 후보만 선택
+        int[] result = new int[wanted];
+        int skipped = 0;
+        int filled = 0;
+        for (int i = 0; i < priceColumnLength && filled < wanted; i++) {
+            int docId = docIdOf(priceColumn[ascending ? i : priceColumnLength - 1 - i]);
+            if (!matched.get(docId)) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            result[filled++] = docId;
+        }
+        return result;
+    }
+
+    // (인기 점수, docId) 기준 상위 offset + wanted 개만 최소 힙으로 유지, 동점이면 최신 상품 우선
+    private int[] popular(DocIdBitmap matched, int offset, int wanted) {
+        int capacity = offset + wanted;
+        long[] heap = new long[capacity];
+        int heapSize = 0;
+        for (int docId = matched.nextSetBit(0); docId >= 0; docId = matched.nextSetBit(docId + 1)) {
+            long key = priceKey(popularity[docId], docId);
+            if (heapSize < capacity) {
+                heap[heapSize] = key;
+                siftUp(heap, heapSize++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, heapSize, 0);
+            }
+        }
+        Arrays.sort(heap, 0, heapSize);
+        int[] result = new int[wanted];
+        for (int i = 0; i < wanted; i++) {
+            result[i] = docIdOf(heap[heapSize - 1 - offset - i]);
+        }
+        return result;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size, int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = (left + 1 < size && heap[left + 1] < heap[left]) ? left + 1 : left;
+            if (heap[index] <= heap[smallest]) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(long[] heap, int i, int j) {
+        long tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    // ================= 색인 유지 =================
+
+    private void index(int docId, ProductDocument doc) {
+        live.set(docId);
+        brandBits.get(doc.brand()).set(docId);
+        categoryBits.get(doc.category()).set(docId);
+        conditionBits.get(doc.condition()).set(docId);
+        statusBits.get(doc.status()).set(docId);
+        sizeBucketBits.computeIfAbsent(sizeBucket(doc.size()), bucket -> new DocIdBitmap()).set(docId);
+    }
+
+    private void unindex(int docId, ProductDocument doc) {
+        live.clear(docId);
+        brandBits.get(doc.brand()).clear(docId);
+        categoryBits.get(doc.category()).clear(docId);
+        conditionBits.get(doc.condition()).clear(docId);
+        statusBits.get(doc.status()).clear(docId);
+        DocIdBitmap sizeBits = sizeBucketBits.get(sizeBucket(doc.size()));
+        if (sizeBits != null) {
+            sizeBits.clear(docId);
+        }
+    }
+
+    private void updatePriceColumn(long[] removed, int removedCount, long[] added, int addedCount) {
+        if (removedCount + addedCount <= PRICE_MERGE_THRESHOLD) {
+            for (int i = 0; i < removedCount; i++) {
+                removePrice(removed[i]);
+            }
+            for (int i = 0; i < addedCount; i++) {
+                insertPrice(added[i]);
+            }
+            return;
+        }
+
+        // 대량 변경 (재구성/일괄 등록): 정렬 후 한 번의 병합으로 반영
+        Arrays.sort(removed, 0, removedCount);
+        Arrays.sort(added, 0, addedCount);
+        long[] merged = new long[Math.max(INITIAL_CAPACITY, priceColumnLength + addedCount)];
+        int length = 0;
+        int r = 0;
+        int a = 0;
+        for (int i = 0; i < priceColumnLength; i++) {
+            long key = priceColumn[i];
+            while (r < removedCount && removed[r] < key) {
+                r++;
+            }
+            if (r < removedCount && removed[r] == key) {
+                r++;
+                continue;
+            }
+            while (a < addedCount && added[a] < key) {
+                merged[length++] = added[a++];
+            }
+            merged[length++] = key;
+        }
+        while (a < addedCount) {
+            merged[length++] = added[a++];
+        }
+        priceColumn = merged;
+        priceColumnLength = length;
+    }
+
+    private void insertPrice(long key) {
+        int pos = Arrays.binarySearch(priceColumn, 0, priceColumnLength, key);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        if (priceColumnLength == priceColumn.length) {
+            priceColumn = Arrays.copyOf(priceColumn, priceColumn.length * 2);
+        }
+        System.arraycopy(priceColumn, pos, priceColumn, pos + 1, priceColumnLength - pos);
+        priceColumn[pos] = key;
+        priceColumnLength++;
+    }
+
+    private void removePrice(long key) {
+        int pos = Arrays.binarySearch(priceColumn, 0, priceColumnLength, key);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(priceColumn, pos + 1, priceColumn, pos, priceColumnLength - pos - 1);
+        priceColumnLength--;
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = priceColumnLength;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (priceColumn[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > docs.length) {
+            int newCapacity = Math.max(required, docs.length * 2);
+            docs = Arrays.copyOf(docs, newCapacity);
+            popularity = Arrays.copyOf(popularity, newCapacity);
+        }
+    }
+
+    private List<Integer> sizeBuckets(List<Integer> sizes) {
+        if (sizes == null || sizes.isEmpty()) {
+            return List.of();
+        }
+        return sizes.stream().map(ProductSearchIndex::sizeBucket).distinct().toList();
+    }
+
+    private static int sizeBucket(int size) {
+        return size - Math.floorMod(size, SIZE_BUCKET);
+    }
+
+    private static long priceKey(int value, int docId) {
+        return ((long) value << 32) | docId;
+    }
+
+    private static int docIdOf(long key) {
+        return (int) key;
+    }
+
+    private static <E extends Enum<E>> Map<E, DocIdBitmap> bitmaps(Class<E> type) {
+        Map<E, DocIdBitmap> bitmaps = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            bitmaps.put(value, new DocIdBitmap());
+        }
+        return bitmaps;
+    }
+
+    public static ProductSearchDto.ProductItem toItem(ProductDocument doc) {
+        return ProductSearchDto.ProductItem.builder()
+                .productId(doc.productId())
+                .name(doc.name())
+                .brand(doc.brand())
+                .category(doc.category())
+                .condition(doc.condition())
+                .status(doc.status())
+                .size(doc.size())
+                .price(doc.price())
+                .build();
+    }
+}
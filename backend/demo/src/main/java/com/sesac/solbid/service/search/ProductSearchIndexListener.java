@@ -0,0 +1,61 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.domain.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Product 변경을 검색 인덱스(패싯/전문)에 반영하는 JPA 엔티티 리스너
+ * 롤백된 변경이 인덱스에 남지 않도록 트랜잭션 커밋 이후에 반영한다.
+ */
+@Component
+public class ProductSearchIndexListener {
+
+    // 엔티티 리스너는 EntityManagerFactory 생성 중에 만들어지므로 인덱스는 지연 조회
+    private final ObjectProvider<ProductSearchIndex> productSearchIndex;
+    private final ObjectProvider<ProductTextIndex> productTextIndex;
+
+    public ProductSearchIndexListener(ObjectProvider<ProductSearchIndex> productSearchIndex,
+                                      ObjectProvider<ProductTextIndex> productTextIndex) {
+        this.productSearchIndex = productSearchIndex;
+        this.productTextIndex = productTextIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Product product) {
+        ProductDocument doc = ProductDocument.from(product);
+        String description = product.getDescription();
+        afterCommit(() -> {
+            productSearchIndex.ifAvailable(index -> index.upsert(doc));
+            productTextIndex.ifAvailable(index -> index.upsert(doc.productId(), doc.name(), description));
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        Long productId = product.getProductId();
+        afterCommit(() -> {
+            productSearchIndex.ifAvailable(index -> index.remove(productId));
+            productTextIndex.ifAvailable(index -> index.remove(productId));
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
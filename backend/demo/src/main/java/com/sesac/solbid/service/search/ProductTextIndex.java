@@ -0,0 +1,443 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.domain.Product;
+import com.sesac.solbid.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 상품명/설명 전문 검색 인덱스 (바이그램 역색인 + BM25)
+ *
+ * - 기본 세그먼트: 디스크에 기록된 읽기 전용 역색인 파일을 메모리 매핑해서 사용 (TextSegment)
+ * - 변경분: 등록/수정된 상품은 메모리의 delta 에, 삭제된 상품은 removed 에 쌓고 검색 시 세그먼트와 합쳐서 본다
+ * - 변경분이 쌓이면 기존 세그먼트 + 변경분을 새 세그먼트 파일로 병합하고 교체한다 (변경된 상품만 다시 토큰화)
+ * - 재기동 시에는 마지막 세그먼트를 열고, 세그먼트 기록 이후 수정된 상품만 DB 에서 읽어 반영한다
+ */
+@Slf4j
+@Component
+public class ProductTextIndex {
+
+    // 상품명 토큰 가중치 (설명보다 상품명 일치를 우선)
+    private static final int NAME_BOOST = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 세그먼트 기록 직전에 수정된 상품을 놓치지 않도록 워터마크를 앞당기는 여유
+    private static final long WATERMARK_MARGIN_MILLIS = 60_000L;
+    private static final Pattern SEGMENT_FILE = Pattern.compile("products-(\\d+)\\.seg");
+    // 점수 오름차순 (동점이면 productId 가 큰 쪽이 먼저 밀려난다)
+    private static final Comparator<ScoredProduct> BY_SCORE = Comparator.comparingDouble(ScoredProduct::score)
+            .thenComparing(ScoredProduct::productId, Comparator.reverseOrder());
+
+    private final ProductRepository productRepository;
+    private final Path directory;
+    private final int compactThreshold;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 세그먼트 파일 기록(fsync 포함) 동안 잡는 잠금. 모니터 대신 써서 가상 스레드가 캐리어 스레드를 붙잡지 않게 한다
+    private final Lock compactionLock = new ReentrantLock();
+
+    private TextSegment segment = TextSegment.empty();
+    private long generation;
+    private final Map<Long, DeltaDoc> delta = new HashMap<>();
+    private final Set<Long> removed = new HashSet<>();
+
+    // 메모리에 있는 변경분 문서 (토큰 빈도는 상품명 가중치 반영 후 값)
+    private record DeltaDoc(Map<String, Integer> termFrequencies, int length) {
+    }
+
+    public record SearchResult(int total, List<Long> productIds) {
+    }
+
+    public ProductTextIndex(ProductRepository productRepository,
+                            @Value("${app.search.text.dir:${java.io.tmpdir}/solbid-search}") Path directory,
+                            @Value("${app.search.text.compact-threshold:1000}") int compactThreshold) {
+        this.productRepository = productRepository;
+        this.directory = directory;
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * 기동 시 마지막 세그먼트를 열고 이후 변경분만 반영, 세그먼트가 없으면 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            Files.createDirectories(directory);
+            Optional<Path> latest = latestSegmentFile();
+            if (latest.isPresent()) {
+                openSegment(latest.get());
+                int caughtUp = catchUp(segment.watermark());
+                log.info("상품 전문 검색 세그먼트 로드: {} ({}건, 이후 변경 {}건)", latest.get(), segment.docCount(), caughtUp);
+            } else {
+                fullBuild();
+                log.info("상품 전문 검색 세그먼트 생성: {}건", segment.docCount());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 전문 검색 인덱스 초기화 실패", e);
+        }
+    }
+
+    public void upsert(Long productId, String name, String description) {
+        DeltaDoc doc = analyze(name, description);
+        lock.writeLock().lock();
+        try {
+            removed.remove(productId);
+            delta.put(productId, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            delta.remove(productId);
+            removed.add(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 점수 순 검색 (질의 토큰 중 하나라도 포함하는 상품)
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(BigramTokenizer.termFrequencies(query).keySet());
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchResult(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            TextSegment base = segment;
+            // 세그먼트 문서 중 변경분에 의해 가려진 문서는 통계와 결과에서 제외
+            int hiddenDocs = 0;
+            long hiddenLength = 0;
+            for (Long productId : shadowedProductIds()) {
+                int docIndex = base.docIndexOf(productId);
+                if (docIndex >= 0) {
+                    hiddenDocs++;
+                    hiddenLength += base.docLength(docIndex);
+                }
+            }
+            long deltaLength = delta.values().stream().mapToLong(DeltaDoc::length).sum();
+            int docCount = base.docCount() - hiddenDocs + delta.size();
+            if (docCount <= 0) {
+                return new SearchResult(0, List.of());
+            }
+            double averageLength = Math.max(1.0, (double) (base.totalLength() - hiddenLength + deltaLength) / docCount);
+
+            // 포스팅에 나온 문서만 누적 (세그먼트 전체 크기의 배열을 만들거나 훑지 않는다)
+            long postings = 0;
+            for (String term : terms) {
+                postings += base.docFrequency(term);
+            }
+            DocScores baseScores = new DocScores((int) Math.min(postings, base.docCount()));
+            Map<Long, Double> deltaScores = new HashMap<>();
+            for (String term : terms) {
+                int deltaFrequency = 0;
+                for (DeltaDoc doc : delta.values()) {
+                    if (doc.termFrequencies().containsKey(term)) {
+                        deltaFrequency++;
+                    }
+                }
+                // 세그먼트 df 에는 가려진 문서도 포함되므로 전체 문서 수를 넘지 않게 자른다
+                int documentFrequency = Math.min(docCount, base.docFrequency(term) + deltaFrequency);
+                if (documentFrequency == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                base.forEachPosting(term, (docIndex, tf) ->
+                        baseScores.add(docIndex, (float) bm25(idf, tf, base.docLength(docIndex), averageLength)));
+                if (deltaFrequency > 0) {
+                    delta.forEach((productId, doc) -> {
+                        Integer tf = doc.termFrequencies().get(term);
+                        if (tf != null) {
+                            deltaScores.merge(productId, bm25(idf, tf, doc.length(), averageLength), Double::sum);
+                        }
+                    });
+                }
+            }
+
+            PriorityQueue<ScoredProduct> top = new PriorityQueue<>(BY_SCORE);
+            int capacity = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+            int total = 0;
+            for (int slot = 0; slot < baseScores.slots(); slot++) {
+                int docIndex = baseScores.docIndex(slot);
+                if (docIndex < 0) {
+                    continue;
+                }
+                long productId = base.productId(docIndex);
+                if (delta.containsKey(productId) || removed.contains(productId)) {
+                    continue;
+                }
+                total++;
+                offer(top, capacity, new ScoredProduct(productId, baseScores.score(slot)));
+            }
+            for (Map.Entry<Long, Double> entry : deltaScores.entrySet()) {
+                total++;
+                offer(top, capacity, new ScoredProduct(entry.getKey(), entry.getValue()));
+            }
+
+            List<ScoredProduct> ranked = new ArrayList<>(top);
+            ranked.sort(BY_SCORE.reversed());
+            List<Long> productIds = ranked.stream().skip(offset).map(ScoredProduct::productId).toList();
+            return new SearchResult(total, productIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경분이 임계치 이상 쌓이면 세그먼트 병합 (이미 병합 중이면 기다리지 않고 다음 주기로 넘긴다)
+     */
+    @Scheduled(fixedDelayString = "${app.search.text.compact-interval-ms:60000}")
+    public void compactIfNeeded() {
+        if (pendingChanges() < compactThreshold || !compactionLock.tryLock()) {
+            return;
+        }
+        try {
+            merge();
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경분을 기록해 재기동 때 다시 읽을 상품을 줄인다
+     */
+    @PreDestroy
+    public void flush() {
+        if (pendingChanges() > 0) {
+            compact();
+        }
+    }
+
+    public int pendingChanges() {
+        lock.readLock().lock();
+        try {
+            return delta.size() + removed.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기존 세그먼트 + 변경분을 새 세그먼트 파일로 병합 후 교체
+     * 파일 기록은 잠금 없이 진행하고, 교체 시점에 병합에 포함된 변경분만 비운다.
+     */
+    public void compact() {
+        compactionLock.lock();
+        try {
+            merge();
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    // ================= 내부 =================
+
+    // compactionLock 을 잡은 상태에서 호출
+    private void merge() {
+        TextSegment base;
+        Map<Long, DeltaDoc> deltaSnapshot;
+        Set<Long> removedSnapshot;
+        long watermark = System.currentTimeMillis() - WATERMARK_MARGIN_MILLIS;
+        lock.readLock().lock();
+        try {
+            base = segment;
+            deltaSnapshot = new HashMap<>(delta);
+            removedSnapshot = new HashSet<>(removed);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        TextSegment.Builder builder = new TextSegment.Builder();
+        for (int docIndex = 0; docIndex < base.docCount(); docIndex++) {
+            long productId = base.productId(docIndex);
+            if (!deltaSnapshot.containsKey(productId) && !removedSnapshot.contains(productId)) {
+                builder.setLength(productId, base.docLength(docIndex));
+            }
+        }
+        for (String term : base.terms()) {
+            base.forEachPosting(term, (docIndex, tf) -> {
+                long productId = base.productId(docIndex);
+                if (!deltaSnapshot.containsKey(productId) && !removedSnapshot.contains(productId)) {
+                    builder.addPosting(term, productId, tf);
+                }
+            });
+        }
+        deltaSnapshot.forEach((productId, doc) -> builder.add(productId, doc.length(), doc.termFrequencies()));
+
+        TextSegment merged = writeSegment(builder, Math.max(watermark, base.watermark()));
+
+        lock.writeLock().lock();
+        try {
+            segment = merged;
+            // 병합 이후 다시 바뀐 상품은 변경분에 남긴다
+            deltaSnapshot.forEach((productId, doc) -> delta.remove(productId, doc));
+            removed.removeAll(removedSnapshot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        deleteQuietly(base.path());
+        log.debug("상품 전문 검색 세그먼트 병합: {}건 -> {}", merged.docCount(), merged.path());
+    }
+
+    private void fullBuild() throws IOException {
+        TextSegment.Builder builder = new TextSegment.Builder();
+        long watermark = System.currentTimeMillis() - WATERMARK_MARGIN_MILLIS;
+        long lastProductId = 0L;
+        while (true) {
+            List<Product> batch = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                    lastProductId, Limit.of(REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Product product : batch) {
+                DeltaDoc doc = analyze(product.getName(), product.getDescription());
+                builder.add(product.getProductId(), doc.length(), doc.termFrequencies());
+            }
+            lastProductId = batch.get(batch.size() - 1).getProductId();
+        }
+        TextSegment built = writeSegment(builder, watermark);
+        lock.writeLock().lock();
+        try {
+            segment = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 세그먼트 기록 이후 수정된 상품만 변경분으로 반영
+    private int catchUp(long watermark) {
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(watermark), ZoneId.systemDefault());
+        long lastProductId = 0L;
+        int count = 0;
+        while (true) {
+            List<Product> batch = productRepository.findByUpdatedAtAfterAndProductIdGreaterThanOrderByProductIdAsc(
+                    since, lastProductId, Limit.of(REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                return count;
+            }
+            for (Product product : batch) {
+                upsert(product.getProductId(), product.getName(), product.getDescription());
+            }
+            count += batch.size();
+            lastProductId = batch.get(batch.size() - 1).getProductId();
+        }
+    }
+
+    private void openSegment(Path path) throws IOException {
+        TextSegment opened = TextSegment.open(path);
+        lock.writeLock().lock();
+        try {
+            segment = opened;
+            generation = generationOf(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private TextSegment writeSegment(TextSegment.Builder builder, long watermark) {
+        try {
+            Path target = directory.resolve("products-" + (++generation) + ".seg");
+            builder.write(target, watermark);
+            return TextSegment.open(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 전문 검색 세그먼트 기록 실패", e);
+        }
+    }
+
+    private Optional<Path> latestSegmentFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> SEGMENT_FILE.matcher(path.getFileName().toString()).matches())
+                    .max(Comparator.comparingLong(ProductTextIndex::generationOf));
+        }
+    }
+
+    private static long generationOf(Path path) {
+        Matcher matcher = SEGMENT_FILE.matcher(path.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0L;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 매핑이 아직 해제되지 않은 OS(Windows) 에서는 다음 병합 때 다시 시도
+            log.debug("이전 세그먼트 삭제 실패: {}", path, e);
+        }
+    }
+
+    private Set<Long> shadowedProductIds() {
+        Set<Long> shadowed = new HashSet<>(delta.keySet());
+        shadowed.addAll(removed);
+        return shadowed;
+    }
+
+    private static DeltaDoc analyze(String name, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : BigramTokenizer.termFrequencies(name).entrySet()) {
+            frequencies.merge(entry.getKey(), entry.getValue() * NAME_BOOST, Integer::sum);
+            length += entry.getValue() * NAME_BOOST;
+        }
+        for (Map.Entry<String, Integer> entry : BigramTokenizer.termFrequencies(description).entrySet()) {
+            frequencies.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            length += entry.getValue();
+        }
+        return new DeltaDoc(frequencies, length);
+    }
+
+    private static double bm25(double idf, int termFrequency, int docLength, double averageLength) {
+        return idf * termFrequency * (K1 + 1) / (termFrequency + K1 * (1 - B + B * docLength / averageLength));
+    }
+
+    private record ScoredProduct(long productId, double score) {
+    }
+
+    private static void offer(PriorityQueue<ScoredProduct> top, int capacity, ScoredProduct candidate) {
+        if (top.size() < capacity) {
+            top.add(candidate);
+        } else if (BY_SCORE.compare(candidate, top.peek()) > 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+}
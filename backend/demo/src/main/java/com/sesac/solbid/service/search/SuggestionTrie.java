@@ -0,0 +1,277 @@
+package com.sesac.solbid.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 자동완성용 압축 트라이 (불변)
+ *
+ * - 단일 자식 경로를 하나의 간선으로 합친 radix trie 를 배열 몇 개로 표현한다
+ * - 노드마다 그 노드 아래 키들의 상위 K 개 후보를 미리 계산해 두므로
+ *   조회는 접두어 길이만큼 간선을 따라가는 것으로 끝난다 (후보 정렬/탐색 없음)
+ * - 후보 번호는 가중치 순위이다 (0 이 가장 높음)
+ * - 빌드는 키 정렬 후 공통 접두어로 범위를 나누는 방식이라 글자 단위 노드를 만들지 않는다
+ */
+final class SuggestionTrie {
+
+    private final char[] labels;
+    // 노드별 (들어오는 간선 라벨 위치/길이, 자식 시작/개수, 후보 시작/개수)
+    private final int[] labelStart;
+    private final int[] labelLength;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] topCount;
+    private final int[] topPool;
+
+    private SuggestionTrie(char[] labels, int[] labelStart, int[] labelLength, int[] firstChild, int[] childCount,
+                           int[] topStart, int[] topCount, int[] topPool) {
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.labelLength = labelLength;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.topPool = topPool;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 접두어로 시작하는 키의 후보 번호 (가중치 순, 최대 limit 개)
+     */
+    int[] lookup(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return new int[0];
+        }
+        int node = 0;
+        int i = 0;
+        while (i < key.length()) {
+            int child = findChild(node, key.charAt(i));
+            if (child < 0) {
+                return new int[0];
+            }
+            int start = labelStart[child];
+            int length = labelLength[child];
+            for (int j = 0; j < length && i < key.length(); j++, i++) {
+                if (labels[start + j] != key.charAt(i)) {
+                    return new int[0];
+                }
+            }
+            node = child;
+        }
+        int count = Math.min(limit, topCount[node]);
+        return Arrays.copyOfRange(topPool, topStart[node], topStart[node] + count);
+    }
+
+    int nodeCount() {
+        return labelStart.length;
+    }
+
+    // 자식은 간선 첫 글자 순으로 연속 배치되어 있어 이분 탐색
+    private int findChild(int node, char c) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = labels[labelStart[mid]];
+            if (first < c) {
+                low = mid + 1;
+            } else if (first > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * (키, 후보 번호) 를 모은 뒤 키를 정렬해 공통 접두어 단위로 나누며 트라이를 만든다
+     */
+    static final class Builder {
+
+        private final int topK;
+        private final List<String> keys = new ArrayList<>();
+        private final IntList suggestions = new IntList();
+
+        Builder(int topK) {
+            this.topK = topK;
+        }
+
+        /**
+         * @param key normalize() 를 거친 키
+         */
+        void add(String key, int suggestion) {
+            if (!key.isEmpty()) {
+                keys.add(key);
+                suggestions.add(suggestion);
+            }
+        }
+
+        SuggestionTrie build() {
+            KeyRef[] refs = new KeyRef[keys.size()];
+            for (int i = 0; i < refs.length; i++) {
+                refs[i] = new KeyRef(keys.get(i), suggestions.get(i));
+            }
+            Arrays.parallelSort(refs, Comparator.comparing(KeyRef::key));
+            String[] sortedKeys = new String[refs.length];
+            int[] sortedSuggestions = new int[refs.length];
+            for (int i = 0; i < refs.length; i++) {
+                sortedKeys[i] = refs[i].key();
+                sortedSuggestions[i] = refs[i].suggestion();
+            }
+
+            RadixNode root = new RadixNode("", 0, 0);
+            split(root, sortedKeys, sortedSuggestions, 0, sortedKeys.length, 0);
+            return flatten(root);
+        }
+
+        // [from, to) 범위의 키는 depth 까지 접두어가 같다
+        private void split(RadixNode node, String[] keys, int[] suggestions, int from, int to, int depth) {
+            int i = from;
+            IntList candidates = new IntList(topK);
+            // 이 노드에서 끝나는 키 (정렬상 범위 맨 앞)
+            while (i < to && keys[i].length() == depth) {
+                candidates.add(suggestions[i]);
+                i++;
+            }
+            while (i < to) {
+                char c = keys[i].charAt(depth);
+                int groupEnd = i + 1;
+                while (groupEnd < to && keys[groupEnd].charAt(depth) == c) {
+                    groupEnd++;
+                }
+                // 그룹 첫/마지막 키의 공통 접두어 = 그룹 전체의 공통 접두어 (정렬되어 있으므로)
+                int edgeEnd = depth + commonPrefixLength(keys[i], keys[groupEnd - 1], depth);
+                RadixNode child = new RadixNode(keys[i], depth, edgeEnd);
+                split(child, keys, suggestions, i, groupEnd, edgeEnd);
+                node.children.add(child);
+                for (int suggestion : child.top) {
+                    candidates.add(suggestion);
+                }
+                i = groupEnd;
+            }
+            node.top = smallestDistinct(candidates.toArray(), topK);
+        }
+
+        private static int commonPrefixLength(String a, String b, int from) {
+            int max = Math.min(a.length(), b.length());
+            int i = from;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i - from;
+        }
+
+        // 후보 번호가 작을수록 가중치가 높다
+        private static int[] smallestDistinct(int[] candidates, int k) {
+            Arrays.sort(candidates);
+            int[] top = new int[Math.min(k, candidates.length)];
+            int size = 0;
+            for (int i = 0; i < candidates.length && size < k; i++) {
+                if (size == 0 || top[size - 1] != candidates[i]) {
+                    top[size++] = candidates[i];
+                }
+            }
+            return Arrays.copyOf(top, size);
+        }
+
+        // 너비 우선으로 번호를 매겨 형제 노드가 연속되게 배열에 기록
+        private static SuggestionTrie flatten(RadixNode root) {
+            StringBuilder labels = new StringBuilder();
+            IntList labelStart = new IntList();
+            IntList labelLength = new IntList();
+            IntList firstChild = new IntList();
+            IntList childCount = new IntList();
+            IntList topStart = new IntList();
+            IntList topCount = new IntList();
+            IntList topPool = new IntList();
+
+            Deque<RadixNode> queue = new ArrayDeque<>();
+            queue.add(root);
+            int nextIndex = 1;
+            while (!queue.isEmpty()) {
+                RadixNode node = queue.poll();
+                labelStart.add(labels.length());
+                labelLength.add(node.edgeEnd - node.edgeStart);
+                labels.append(node.key, node.edgeStart, node.edgeEnd);
+                firstChild.add(nextIndex);
+                childCount.add(node.children.size());
+                topStart.add(topPool.size());
+                topCount.add(node.top.length);
+                for (int suggestion : node.top) {
+                    topPool.add(suggestion);
+                }
+                nextIndex += node.children.size();
+                queue.addAll(node.children);
+            }
+            return new SuggestionTrie(labels.toString().toCharArray(), labelStart.toArray(), labelLength.toArray(),
+                    firstChild.toArray(), childCount.toArray(), topStart.toArray(), topCount.toArray(), topPool.toArray());
+        }
+    }
+
+    private record KeyRef(String key, int suggestion) {
+    }
+
+    // 빌드 중에만 쓰는 노드 (들어오는 간선 라벨 = key[edgeStart, edgeEnd))
+    private static final class RadixNode {
+        private final String key;
+        private final int edgeStart;
+        private final int edgeEnd;
+        private final List<RadixNode> children = new ArrayList<>(2);
+        private int[] top;
+
+        RadixNode(String key, int edgeStart, int edgeEnd) {
+            this.key = key;
+            this.edgeStart = edgeStart;
+            this.edgeEnd = edgeEnd;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values;
+        private int size;
+
+        IntList() {
+            this(256);
+        }
+
+        IntList(int capacity) {
+            values = new int[capacity];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.sesac.solbid.service.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 전문 검색 역색인 세그먼트 (읽기 전용, 메모리 매핑 파일)
+ *
+ * 파일 구조 (big-endian)
+ * <pre>
+ * header   : magic(int) version(int) watermark(long) docCount(int) termCount(int) totalLength(long) termTableOffset(long)
+ * docs     : docCount x (productId(long) length(int))     -- productId 오름차순, 순번이 세그먼트 내 docIndex
+ * postings : 용어별 (docIndex 증가분, tf) varint 쌍
+ * terms    : termCount x (termLength(short) term(UTF-8) df(int) postingsOffset(long) postingsLength(int))
+ * </pre>
+ * 용어 사전만 힙에 올리고 포스팅은 매핑된 버퍼에서 바로 디코딩한다.
+ */
+final class TextSegment {
+
+    private static final int MAGIC = 0x53425458; // "SBTX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4 + 8 + 8;
+    private static final int DOC_ENTRY_BYTES = 8 + 4;
+
+    private final Path path;
+    private final long watermark;
+    private final long[] productIds;
+    private final int[] docLengths;
+    private final long totalLength;
+    private final Map<String, TermInfo> dictionary;
+    private final ByteBuffer postings;
+
+    private record TermInfo(int docFrequency, int offset, int length) {
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int docIndex, int termFrequency);
+    }
+
+    private TextSegment(Path path, long watermark, long[] productIds, int[] docLengths, long totalLength,
+                        Map<String, TermInfo> dictionary, ByteBuffer postings) {
+        this.path = path;
+        this.watermark = watermark;
+        this.productIds = productIds;
+        this.docLengths = docLengths;
+        this.totalLength = totalLength;
+        this.dictionary = dictionary;
+        this.postings = postings;
+    }
+
+    static TextSegment empty() {
+        return new TextSegment(null, 0L, new long[0], new int[0], 0L, Map.of(), ByteBuffer.allocate(0));
+    }
+
+    static TextSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("검색 세그먼트 형식이 올바르지 않습니다: " + path);
+            }
+            long watermark = buffer.getLong(8);
+            int docCount = buffer.getInt(16);
+            int termCount = buffer.getInt(20);
+            long totalLength = buffer.getLong(24);
+            int termTableOffset = Math.toIntExact(buffer.getLong(32));
+
+            long[] productIds = new long[docCount];
+            int[] docLengths = new int[docCount];
+            int position = HEADER_BYTES;
+            for (int i = 0; i < docCount; i++) {
+                productIds[i] = buffer.getLong(position);
+                docLengths[i] = buffer.getInt(position + 8);
+                position += DOC_ENTRY_BYTES;
+            }
+
+            Map<String, TermInfo> dictionary = new HashMap<>(termCount * 2);
+            ByteBuffer terms = buffer.duplicate().position(termTableOffset);
+            for (int i = 0; i < termCount; i++) {
+                byte[] termBytes = new byte[terms.getShort()];
+                terms.get(termBytes);
+                int docFrequency = terms.getInt();
+                int offset = Math.toIntExact(terms.getLong());
+                int length = terms.getInt();
+                dictionary.put(new String(termBytes, StandardCharsets.UTF_8), new TermInfo(docFrequency, offset, length));
+            }
+            // 매핑은 채널을 닫아도 유지된다
+            ByteBuffer postings = buffer.slice(position, termTableOffset - position);
+            return new TextSegment(path, watermark, productIds, docLengths, totalLength, dictionary, postings);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * 이 세그먼트가 반영하고 있는 상품 변경 시각 (epoch ms)
+     */
+    long watermark() {
+        return watermark;
+    }
+
+    int docCount() {
+        return productIds.length;
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    long productId(int docIndex) {
+        return productIds[docIndex];
+    }
+
+    int docLength(int docIndex) {
+        return docLengths[docIndex];
+    }
+
+    /**
+     * productId 의 docIndex, 없으면 음수
+     */
+    int docIndexOf(long productId) {
+        return Arrays.binarySearch(productIds, productId);
+    }
+
+    int docFrequency(String term) {
+        TermInfo info = dictionary.get(term);
+        return info == null ? 0 : info.docFrequency();
+    }
+
+    Set<String> terms() {
+        return Collections.unmodifiableSet(dictionary.keySet());
+    }
+
+    void forEachPosting(String term, PostingConsumer consumer) {
+        TermInfo info = dictionary.get(term);
+        if (info == null) {
+            return;
+        }
+        int position = info.offset();
+        int end = info.offset() + info.length();
+        int docIndex = 0;
+        while (position < end) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = postings.get(position++);
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int termFrequency = 0;
+            shift = 0;
+            do {
+                b = postings.get(position++);
+                termFrequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            docIndex += delta;
+            consumer.accept(docIndex, termFrequency);
+        }
+    }
+
+    /**
+     * 세그먼트 파일 작성기
+     * 문서별 토큰 빈도를 모아 용어 순으로 정렬한 뒤 한 번에 기록한다.
+     */
+    static final class Builder {
+
+        private final Map<Long, Integer> docLengths = new HashMap<>();
+        private final Map<String, PostingBuffer> postings = new TreeMap<>();
+
+        void add(long productId, int length, Map<String, Integer> termFrequencies) {
+            docLengths.put(productId, length);
+            termFrequencies.forEach((term, tf) -> addPosting(term, productId, tf));
+        }
+
+        void addPosting(String term, long productId, int termFrequency) {
+            postings.computeIfAbsent(term, t -> new PostingBuffer()).add(productId, termFrequency);
+        }
+
+        void setLength(long productId, int length) {
+            docLengths.put(productId, length);
+        }
+
+        int docCount() {
+            return docLengths.size();
+        }
+
+        /**
+         * 임시 파일에 기록한 뒤 원자적으로 이동
+         */
+        void write(Path target, long watermark) throws IOException {
+            long[] productIds = docLengths.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            long totalLength = 0;
+
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer docs = ByteBuffer.allocate(productIds.length * DOC_ENTRY_BYTES);
+                for (long productId : productIds) {
+                    int length = docLengths.get(productId);
+                    docs.putLong(productId).putInt(length);
+                    totalLength += length;
+                }
+                channel.position(HEADER_BYTES);
+                writeFully(channel, docs.flip());
+
+                // 포스팅 기록 후 용어 사전을 뒤에 붙인다 (오프셋은 포스팅 영역 시작 기준)
+                long postingsStart = channel.position();
+                ByteBuffer termTable = ByteBuffer.allocate(64 * 1024);
+                VarIntBuffer encoded = new VarIntBuffer();
+                for (Map.Entry<String, PostingBuffer> entry : postings.entrySet()) {
+                    PostingBuffer buffer = entry.getValue();
+                    long[] sorted = buffer.toSortedDocIndexes(productIds);
+                    encoded.clear();
+                    int previous = 0;
+                    for (long packed : sorted) {
+                        int docIndex = (int) (packed >>> 32);
+                        encoded.put(docIndex - previous);
+                        encoded.put((int) packed);
+                        previous = docIndex;
+                    }
+                    long offset = channel.position() - postingsStart;
+                    writeFully(channel, encoded.asBuffer());
+
+                    byte[] termBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                    termTable = ensureRemaining(termTable, 2 + termBytes.length + 4 + 8 + 4);
+                    termTable.putShort((short) termBytes.length).put(termBytes)
+                            .putInt(sorted.length).putLong(offset).putInt(encoded.size());
+                }
+                long termTableOffset = channel.position();
+                writeFully(channel, termTable.flip());
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                        .putInt(MAGIC).putInt(VERSION).putLong(watermark)
+                        .putInt(productIds.length).putInt(postings.size())
+                        .putLong(totalLength).putLong(termTableOffset);
+                channel.position(0);
+                writeFully(channel, header.flip());
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private static ByteBuffer ensureRemaining(ByteBuffer buffer, int required) {
+            if (buffer.remaining() >= required) {
+                return buffer;
+            }
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + required));
+            return larger.put(buffer.flip());
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    // 용어 하나의 (productId, tf) 목록
+    private static final class PostingBuffer {
+        private long[] productIds = new long[4];
+        private int[] termFrequencies = new int[4];
+        private int size;
+
+        void add(long productId, int termFrequency) {
+            if (size == productIds.length) {
+                productIds = Arrays.copyOf(productIds, size * 2);
+                termFrequencies = Arrays.copyOf(termFrequencies, size * 2);
+            }
+            productIds[size] = productId;
+            termFrequencies[size] = termFrequency;
+            size++;
+        }
+
+        // (docIndex << 32 | tf) 오름차순
+        long[] toSortedDocIndexes(long[] sortedProductIds) {
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                long docIndex = Arrays.binarySearch(sortedProductIds, productIds[i]);
+                packed[i] = (docIndex << 32) | termFrequencies[i];
+            }
+            Arrays.sort(packed);
+            return packed;
+        }
+    }
+
+    // 포스팅 varint 인코딩 버퍼 (7비트 단위, 상위 비트는 다음 바이트 존재 여부)
+    private static final class VarIntBuffer {
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        void put(int value) {
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        ByteBuffer asBuffer() {
+            return ByteBuffer.wrap(bytes, 0, size);
+        }
+    }
+}
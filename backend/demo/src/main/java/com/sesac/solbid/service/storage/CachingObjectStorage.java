@@ -0,0 +1,310 @@
+package com.sesac.solbid.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 원격 저장소(S3) 앞에 두는 로컬 디스크 다운로드 캐시
+ *
+ * - 받은 객체를 캐시 디렉터리에 파일로 두고, 다음부터는 FileChannel 로 연다 (FileChannel.transferTo 로 전송)
+ * - 전체 크기를 maxBytes 로 제한하고 가장 오래 쓰지 않은 객체부터 지운다 (LRU)
+ * - 같은 키를 동시에 요청하면 한 요청만 원격에서 받고 나머지는 그 결과를 기다린다
+ * - 캐시 파일 이름은 항목마다 달라서, 교체/삭제된 파일을 읽고 있던 요청도 연 채널로 끝까지 읽는다
+ *   (같은 이유로 localFile 을 내주지 않는다. 경로로 다시 여는 sendfile 은 응답 도중 밀려난 파일을 열지 못한다)
+ * - 메타데이터(ETag, Content-Type)는 메모리에만 있으므로 시작할 때 이전 캐시 파일을 지운다
+ */
+@Slf4j
+public class CachingObjectStorage implements ObjectStorage {
+
+    private static final String FILE_SUFFIX = ".obj";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    // 대표 요청의 결과 중 캐시 항목이 아닌 것
+    private static final Entry MISSING = new Entry(null, null, -1, null, null);
+    private static final Entry UNCACHEABLE = new Entry(null, null, -1, null, null);
+
+    private final ObjectStorage delegate;
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // 접근 순서 LinkedHashMap: 맨 앞이 가장 오래 쓰지 않은 항목 (get 도 순서를 바꾸므로 항상 잠금 안에서 사용)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final Map<String, CompletableFuture<Entry>> loads = new ConcurrentHashMap<>();
+    private final AtomicLong fileSequence = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    record Entry(String key, Path file, long size, String contentType, String eTag) {
+    }
+
+    /**
+     * @param maxBytes      캐시 파일 전체 크기 상한
+     * @param maxEntryBytes 이보다 큰 객체는 캐시하지 않고 원격 스트림을 그대로 넘긴다
+     */
+    public CachingObjectStorage(ObjectStorage delegate, Path directory, long maxBytes, long maxEntryBytes)
+            throws IOException {
+        this.delegate = delegate;
+        this.directory = Files.createDirectories(directory).toRealPath();
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        removeLeftovers();
+    }
+
+    @Override
+    public void put(String key, InputStream in, long size, String contentType) throws IOException {
+        invalidate(key);
+        try {
+            delegate.put(key, in, size, contentType);
+        } finally {
+            // 쓰는 동안 다른 요청이 이전 내용을 캐시했을 수 있다
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> open(String key) throws IOException {
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            Optional<StoredObject> hit = openFile(cached);
+            if (hit.isPresent()) {
+                hits.increment();
+                return hit;
+            }
+        }
+        misses.increment();
+        return load(key);
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        synchronized (entries) {
+            if (entries.containsKey(key)) {
+                return true;
+            }
+        }
+        return delegate.exists(key);
+    }
+
+    @Override
+    public void delete(Collection<String> keys) throws IOException {
+        try {
+            delegate.delete(keys);
+        } finally {
+            keys.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return delegate.url(key);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long cachedBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    public int cachedObjects() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // ================= 내부 =================
+
+    private Optional<StoredObject> load(String key) throws IOException {
+        CompletableFuture<Entry> loading = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlight = loads.putIfAbsent(key, loading);
+        if (inFlight != null) {
+            return awaitLoad(key, inFlight);
+        }
+
+        try {
+            Optional<StoredObject> remote = delegate.open(key);
+            if (remote.isEmpty()) {
+                loading.complete(MISSING);
+                return Optional.empty();
+            }
+            StoredObject object = remote.get();
+            long size = object.contentLength();
+            if (size < 0 || size > maxEntryBytes) {
+                loading.complete(UNCACHEABLE);
+                return remote;
+            }
+            Entry entry;
+            try (object) {
+                entry = store(key, object);
+            }
+            loading.complete(entry);
+            return openOrFetch(entry);
+        } catch (IOException | RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, loading);
+        }
+    }
+
+    private Optional<StoredObject> awaitLoad(String key, CompletableFuture<Entry> inFlight) throws IOException {
+        Entry entry;
+        try {
+            entry = inFlight.join();
+        } catch (CompletionException e) {
+            // 원격 저장소 장애 시 기다리던 요청이 한꺼번에 다시 요청하지 않도록 같은 오류로 실패시킨다
+            throw new IOException("캐시 적재 실패: " + key, e.getCause());
+        }
+        if (entry == MISSING) {
+            return Optional.empty();
+        }
+        if (entry == UNCACHEABLE) {
+            return delegate.open(key);
+        }
+        return openOrFetch(entry);
+    }
+
+    // 적재 직후 곧바로 밀려났으면 원격에서 직접 연다
+    private Optional<StoredObject> openOrFetch(Entry entry) throws IOException {
+        Optional<StoredObject> cached = openFile(entry);
+        return cached.isPresent() ? cached : delegate.open(entry.key());
+    }
+
+    private Optional<StoredObject> openFile(Entry entry) throws IOException {
+        try {
+            FileChannel channel = FileChannel.open(entry.file(), StandardOpenOption.READ);
+            return Optional.of(new FileStoredObject(null, channel, entry.size(), entry.contentType(), entry.eTag()));
+        } catch (NoSuchFileException e) {
+            remove(entry);
+            return Optional.empty();
+        }
+    }
+
+    private Entry store(String key, StoredObject object) throws IOException {
+        Path temp = Files.createTempFile(directory, "fetch-", TEMP_SUFFIX);
+        try {
+            long written;
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.TRUNCATE_EXISTING)) {
+                written = object.transferTo(out);
+            }
+            if (written != object.contentLength()) {
+                throw new IOException("받은 크기가 다릅니다: key=" + key + ", expected=" + object.contentLength()
+                        + ", actual=" + written);
+            }
+            Path file = directory.resolve(ContentHash.sha256Hex(key.getBytes(StandardCharsets.UTF_8))
+                    + "-" + fileSequence.incrementAndGet() + FILE_SUFFIX);
+            move(temp, file);
+            Entry entry = new Entry(key, file, written, object.contentType(), object.eTag());
+            admit(entry);
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private void admit(Entry entry) {
+        List<Entry> evicted = new ArrayList<>();
+        synchronized (entries) {
+            Entry previous = entries.put(entry.key(), entry);
+            if (previous != null) {
+                totalBytes -= previous.size();
+                evicted.add(previous);
+            }
+            totalBytes += entry.size();
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Entry candidate = eldest.next();
+                if (candidate == entry) {
+                    continue;
+                }
+                eldest.remove();
+                totalBytes -= candidate.size();
+                evicted.add(candidate);
+            }
+        }
+        evicted.forEach(CachingObjectStorage::deleteFile);
+    }
+
+    private void invalidate(String key) {
+        Entry removed;
+        synchronized (entries) {
+            removed = entries.remove(key);
+            if (removed != null) {
+                totalBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteFile(removed);
+        }
+    }
+
+    private void remove(Entry entry) {
+        synchronized (entries) {
+            if (entries.remove(entry.key(), entry)) {
+                totalBytes -= entry.size();
+            }
+        }
+    }
+
+    private void removeLeftovers() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*{" + FILE_SUFFIX + "," + TEMP_SUFFIX + "}")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static void deleteFile(Entry entry) {
+        try {
+            Files.deleteIfExists(entry.file());
+        } catch (IOException e) {
+            log.warn("캐시 파일 삭제 실패: {}", entry.file(), e);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sesac.solbid.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 스토리지 객체 내용 해시 (SHA-256, 16진수 소문자)
+ */
+public final class ContentHash {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ContentHash() {
+    }
+
+    /**
+     * 스트림을 끝까지 읽으며 해시를 계산한다 (버퍼 하나만 사용, 스트림은 호출한 쪽에서 닫음)
+     */
+    public static String sha256Hex(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String sha256Hex(byte[] content) {
+        return HexFormat.of().formatHex(newDigest().digest(content));
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 이 SHA-256 을 제공해야 한다 (MessageDigest 명세)
+            throw new IllegalStateException(e);
+        }
+    }
+}
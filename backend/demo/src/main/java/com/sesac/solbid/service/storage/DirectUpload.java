@@ -0,0 +1,12 @@
+package com.sesac.solbid.service.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 앱 서버를 거치지 않고 저장소로 바로 보내는 업로드 요청
+ *
+ * @param headers 요청에 그대로 붙여야 하는 헤더 (서명에 포함됨)
+ */
+public record DirectUpload(String url, String method, Map<String, String> headers, Instant expiresAt) {
+}
@@ -0,0 +1,12 @@
+package com.sesac.solbid.service.storage;
+
+import java.time.Duration;
+
+/**
+ * 직접 업로드 URL 발급 (s3: 미리 서명한 PUT URL, local: 서명 토큰을 붙인 앱 서버 PUT 주소)
+ * 발급한 URL 로는 지정한 키에 크기/Content-Type/SHA-256 이 모두 일치하는 내용만 쓸 수 있다.
+ */
+public interface DirectUploadSigner {
+
+    DirectUpload sign(String key, String contentType, long size, String sha256Hex, Duration expiresIn);
+}
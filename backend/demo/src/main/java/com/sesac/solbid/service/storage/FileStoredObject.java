@@ -0,0 +1,81 @@
+package com.sesac.solbid.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * 디스크 파일로 있는 객체 (로컬 저장소, 다운로드 캐시)
+ * 채널을 연 뒤에 파일이 교체/삭제되어도 이 객체는 연 시점의 내용을 끝까지 읽는다.
+ * (단 localFile() 경로로 다시 여는 sendfile 은 그렇지 않으므로, 언제든 지워질 수 있는 파일은 file 을 null 로 만든다)
+ */
+final class FileStoredObject implements StoredObject {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long size;
+    private final String contentType;
+    private final String eTag;
+
+    /**
+     * @param file sendfile 로 다시 열어도 되는 경로, 없으면 null (채널로만 읽음)
+     */
+    FileStoredObject(Path file, FileChannel channel, long size, String contentType, String eTag) {
+        this.file = file;
+        this.channel = channel;
+        this.size = size;
+        this.contentType = contentType;
+        this.eTag = eTag;
+    }
+
+    @Override
+    public String contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return size;
+    }
+
+    @Override
+    public String eTag() {
+        return eTag;
+    }
+
+    @Override
+    public Path localFile() {
+        return file;
+    }
+
+    @Override
+    public InputStream inputStream() {
+        return Channels.newInputStream(channel);
+    }
+
+    /**
+     * FileChannel.transferTo 로 복사 (out 이 소켓 채널이면 커널 안에서 바로 전송되고, 아니어도 힙에 전체를 올리지 않음)
+     */
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        long position = 0;
+        while (position < size) {
+            long transferred = channel.transferTo(position, size - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
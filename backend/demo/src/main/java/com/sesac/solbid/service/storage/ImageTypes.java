@@ -0,0 +1,55 @@
+package com.sesac.solbid.service.storage;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 이미지로 받는 래스터 형식 (JPEG, PNG, WebP, GIF)
+ * SVG, HTML 처럼 스크립트를 담을 수 있는 형식은 이미지 주소와 같은 출처에서 열리면 저장형 XSS 가 되므로
+ * 업로드에서 거부하고, 저장소 키 확장자와 이미지 응답의 인라인 Content-Type 에도 이 목록만 쓴다.
+ */
+public final class ImageTypes {
+
+    /**
+     * 허용 Content-Type 정규식 (Bean Validation @Pattern 용, 전체 일치)
+     */
+    public static final String CONTENT_TYPE_PATTERN = "image/(jpeg|png|webp|gif)";
+
+    private static final Map<String, String> CONTENT_TYPE_BY_EXTENSION = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "webp", "image/webp",
+            "gif", "image/gif");
+
+    private static final Set<String> CONTENT_TYPES = Set.copyOf(CONTENT_TYPE_BY_EXTENSION.values());
+
+    private ImageTypes() {
+    }
+
+    /**
+     * 허용 형식인가 (파라미터는 무시, 대소문자 구분 없음)
+     */
+    public static boolean isAllowed(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return CONTENT_TYPES.contains(mediaType.getType() + "/" + mediaType.getSubtype());
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 허용 형식의 확장자인가 (대소문자 구분 없음)
+     */
+    public static boolean isAllowedExtension(String extension) {
+        return extension != null && CONTENT_TYPE_BY_EXTENSION.containsKey(extension.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,98 @@
+package com.sesac.solbid.service.storage;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 로컬 저장소용 직접 업로드 토큰 (S3 미리 서명 URL 과 같은 역할)
+ *
+ * - 토큰 = base64url(키, Content-Type, 크기, SHA-256, 만료 시각) + "." + HMAC-SHA256 서명
+ * - 서버에 상태를 두지 않으므로 어느 노드에서 발급했든 같은 비밀 키를 쓰는 노드면 검증할 수 있다
+ * - 로컬 저장소는 결국 앱 서버가 받으므로 대역폭 절감은 없고, s3 와 같은 클라이언트 흐름을 개발 환경에서 쓰기 위한 것이다
+ */
+public class LocalDirectUploadSigner implements DirectUploadSigner {
+
+    private static final String HMAC = "HmacSHA256";
+    private static final String SEPARATOR = "\n";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String uploadUrl;
+    private final SecretKeySpec secret;
+    private final Clock clock;
+
+    /**
+     * 토큰이 검증한 업로드 조건
+     */
+    public record Grant(String key, String contentType, long size, String sha256Hex) {
+    }
+
+    /**
+     * @param uploadUrl 토큰을 붙일 업로드 주소 (예: /api/images/uploads)
+     */
+    public LocalDirectUploadSigner(String uploadUrl, byte[] secret, Clock clock) {
+        if (secret.length < 32) {
+            throw new IllegalArgumentException("업로드 토큰 비밀 키는 32바이트 이상이어야 합니다.");
+        }
+        this.uploadUrl = uploadUrl.endsWith("/") ? uploadUrl.substring(0, uploadUrl.length() - 1) : uploadUrl;
+        this.secret = new SecretKeySpec(secret, HMAC);
+        this.clock = clock;
+    }
+
+    @Override
+    public DirectUpload sign(String key, String contentType, long size, String sha256Hex, Duration expiresIn) {
+        if (key.contains(SEPARATOR) || contentType.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("키와 Content-Type 에는 줄바꿈을 쓸 수 없습니다.");
+        }
+        Instant expiresAt = clock.instant().plus(expiresIn);
+        String payload = String.join(SEPARATOR, key, contentType, Long.toString(size), sha256Hex,
+                Long.toString(expiresAt.getEpochSecond()));
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        String token = ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(mac(payloadBytes));
+        return new DirectUpload(uploadUrl + "/" + token, "PUT", Map.of("Content-Type", contentType), expiresAt);
+    }
+
+    /**
+     * 서명이 맞고 만료되지 않은 토큰이면 업로드 조건을 돌려준다
+     */
+    public Optional<Grant> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            // 시간 차로 서명을 추측하지 못하도록 상수 시간 비교
+            if (!MessageDigest.isEqual(mac(payload), signature)) {
+                return Optional.empty();
+            }
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split(SEPARATOR, -1);
+            if (fields.length != 5 || clock.instant().getEpochSecond() > Long.parseLong(fields[4])) {
+                return Optional.empty();
+            }
+            return Optional.of(new Grant(fields[0], fields[1], Long.parseLong(fields[2]), fields[3]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(secret);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
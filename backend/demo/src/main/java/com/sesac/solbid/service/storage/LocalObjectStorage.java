@@ -0,0 +1,145 @@
+package com.sesac.solbid.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 로컬 디스크 저장소 (개발 PC, CI, 벤치마크용)
+ *
+ * - 키는 루트 디렉터리 아래 상대 경로이며, 루트 밖을 가리키는 키는 거부한다
+ * - 임시 파일에 다 쓴 뒤 원자적으로 옮기므로 읽는 쪽이 반쯤 쓴 파일을 보지 않는다
+ * - 읽기는 FileChannel.transferTo 로 복사하고, 서블릿 컨테이너가 sendfile 을 지원하면 localFile() 로 커널에서 바로 전송한다
+ */
+@Slf4j
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final String publicUrl;
+
+    public LocalObjectStorage(Path root, String publicUrl) throws IOException {
+        this.root = Files.createDirectories(root).toRealPath();
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+    }
+
+    @Override
+    public void put(String key, InputStream in, long size, String contentType) throws IOException {
+        write(key, in, size, null);
+    }
+
+    /**
+     * 내용의 SHA-256 이 sha256Hex 와 같을 때만 저장한다 (직접 업로드: S3 의 x-amz-checksum-sha256 검사와 같은 역할)
+     * 임시 파일에 쓰면서 해시를 계산하므로 일치하지 않으면 기존 객체는 그대로 남는다.
+     */
+    public void putVerified(String key, InputStream in, long size, String sha256Hex) throws IOException {
+        write(key, in, size, sha256Hex);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    private void write(String key, InputStream in, long size, String sha256Hex) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            long written;
+            String digest;
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (sha256Hex == null) {
+                    written = in.transferTo(out);
+                    digest = null;
+                } else {
+                    MessageDigest sha256 = ContentHash.newDigest();
+                    written = in.transferTo(new DigestOutputStream(out, sha256));
+                    digest = HexFormat.of().formatHex(sha256.digest());
+                }
+            }
+            if (size >= 0 && written != size) {
+                throw new IOException("업로드 크기가 다릅니다: key=" + key + ", expected=" + size + ", actual=" + written);
+            }
+            if (sha256Hex != null && !sha256Hex.equalsIgnoreCase(digest)) {
+                throw new IOException("업로드 내용의 SHA-256 이 다릅니다: key=" + key);
+            }
+            move(temp, target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> open(String key) throws IOException {
+        Path file = resolve(key);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                // 연 채널 기준 크기 (이후 같은 키로 덮어써도 이 채널은 이전 파일을 계속 가리킴)
+                long size = channel.size();
+                long lastModified = Files.getLastModifiedTime(file).toMillis();
+                return Optional.of(new FileStoredObject(file, channel, size, contentType(file),
+                        "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\""));
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String contentType(Path file) {
+        return MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+
+    @Override
+    public void delete(Collection<String> keys) throws IOException {
+        for (String key : keys) {
+            Files.deleteIfExists(resolve(key));
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return publicUrl + "/" + key;
+    }
+
+    private Path resolve(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("저장소 키가 비어 있습니다.");
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("저장소 루트 밖을 가리키는 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
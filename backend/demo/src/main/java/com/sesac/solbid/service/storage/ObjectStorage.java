@@ -0,0 +1,55 @@
+package com.sesac.solbid.service.storage;
+
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 이미지 등 파일 저장소 (app.storage.type 으로 구현 선택: s3 | local)
+ * 키는 '/' 로 구분한 상대 경로 형태이며 구현마다 버킷 객체 키 또는 루트 디렉터리 아래 파일 경로가 된다.
+ */
+public interface ObjectStorage {
+
+    /**
+     * 입력 스트림을 끝까지 읽어 저장한다 (스트림은 호출한 쪽에서 닫음)
+     *
+     * @param size 바이트 수, 모르면 -1
+     */
+    void put(String key, InputStream in, long size, String contentType) throws IOException;
+
+    /**
+     * 저장된 객체를 연다 (없으면 empty). 다 쓴 뒤 반드시 닫아야 한다.
+     */
+    Optional<StoredObject> open(String key) throws IOException;
+
+    /**
+     * 객체가 있는가 (내용은 읽지 않음)
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 여러 객체 삭제 (없는 키는 무시)
+     */
+    void delete(Collection<String> keys) throws IOException;
+
+    /**
+     * 클라이언트가 객체를 받을 수 있는 주소
+     */
+    String url(String key);
+
+    /**
+     * 내용 해시로 정한 키 (같은 바이트는 파일 이름과 상관없이 같은 키)
+     * 확장자는 로컬 저장소가 Content-Type 을 정하는 데 쓰므로 허용된 이미지 확장자(ImageTypes)만 소문자로 맞춰 붙인다.
+     */
+    static String contentKey(String sha256Hex, String originalFilename) {
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+        if (!ImageTypes.isAllowedExtension(extension)) {
+            return sha256Hex;
+        }
+        return sha256Hex + "." + extension.toLowerCase(Locale.ROOT);
+    }
+}
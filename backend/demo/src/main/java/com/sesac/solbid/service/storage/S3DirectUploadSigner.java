@@ -0,0 +1,56 @@
+package com.sesac.solbid.service.storage;
+
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 미리 서명한 PUT URL 발급
+ * x-amz-checksum-sha256 을 서명에 넣어 S3 가 받은 내용의 해시를 검사하므로, 해시 키와 다른 내용은 저장되지 않는다.
+ * 브라우저에서 보내려면 버킷 CORS 에 PUT 과 응답 헤더의 서명 헤더들을 허용해야 한다.
+ */
+public class S3DirectUploadSigner implements DirectUploadSigner {
+
+    // 브라우저/HTTP 클라이언트가 직접 정하는 헤더는 돌려주지 않는다
+    private static final List<String> CLIENT_MANAGED_HEADERS = List.of("host", "content-length");
+
+    private final S3Presigner presigner;
+    private final String bucket;
+
+    public S3DirectUploadSigner(S3Presigner presigner, String bucket) {
+        this.presigner = presigner;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public DirectUpload sign(String key, String contentType, long size, String sha256Hex, Duration expiresIn) {
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .acl(ObjectCannedACL.PUBLIC_READ)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256Hex)))
+                        .build())
+                .build());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!CLIENT_MANAGED_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new DirectUpload(presigned.url().toString(), "PUT", headers, presigned.expiration());
+    }
+}
@@ -0,0 +1,268 @@
+package com.sesac.solbid.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * S3 저장소 (파일 전체를 힙에 올리지 않고 스트리밍)
+ *
+ * - 크기를 알고 파트 크기 이하인 파일은 PutObject 한 번으로 입력 스트림을 그대로 전송한다
+ * - 그보다 크거나 크기를 모르면 멀티파트 업로드로 파트 크기 버퍼 하나만 재사용하며 보낸다
+ * - 파트 버퍼는 동시 업로드 수만큼만 만들어 재사용하므로 업로드가 몰려도 힙 사용량은 (파트 크기 x 동시 업로드 수) 이내
+ * - 다운로드는 응답 스트림을 그대로 넘겨 호출한 쪽이 출력으로 흘려보낸다
+ */
+@Slf4j
+public class S3ObjectStorage implements ObjectStorage {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    static final int MAX_DELETE_KEYS = 1000;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String publicUrl;
+    private final int partSize;
+    private final Semaphore partBufferPermits;
+    private final Queue<byte[]> freePartBuffers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param publicUrl 객체 주소 앞부분 (예: https://버킷.s3.리전.amazonaws.com 또는 CDN 주소)
+     */
+    public S3ObjectStorage(S3Client s3Client, String bucket, String publicUrl, int partSize,
+                           int maxConcurrentMultipartUploads) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("파트 크기는 5MB 이상이어야 합니다: " + partSize);
+        }
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+        this.partSize = partSize;
+        this.partBufferPermits = new Semaphore(maxConcurrentMultipartUploads, true);
+    }
+
+    @Override
+    public void put(String key, InputStream in, long size, String contentType) throws IOException {
+        if (size >= 0 && size <= partSize) {
+            putObject(key, contentType, in, size);
+            return;
+        }
+
+        byte[] buffer = acquirePartBuffer();
+        try {
+            int read = in.readNBytes(buffer, 0, partSize);
+            // 크기를 몰랐지만 파트 하나에 다 들어오는 작은 파일
+            if (read < partSize) {
+                putObject(key, contentType, new ByteArrayInputStream(buffer, 0, read), read);
+                return;
+            }
+            uploadMultipart(key, contentType, in, buffer, read);
+        } finally {
+            releasePartBuffer(buffer);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> open(String key) {
+        try {
+            return Optional.of(new S3StoredObject(s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build())));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 여러 객체를 DeleteObjects 요청 하나로 삭제 (요청당 최대 1000개)
+     */
+    @Override
+    public void delete(Collection<String> keys) {
+        List<ObjectIdentifier> identifiers = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        for (int from = 0; from < identifiers.size(); from += MAX_DELETE_KEYS) {
+            List<ObjectIdentifier> chunk = identifiers.subList(from, Math.min(from + MAX_DELETE_KEYS, identifiers.size()));
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(chunk).quiet(true).build())
+                    .build());
+            response.errors().forEach(error ->
+                    log.warn("S3 객체 삭제 실패: key={}, code={}", error.key(), error.code()));
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return publicUrl + "/" + key;
+    }
+
+    // ================= 내부 =================
+
+    private void putObject(String key, String contentType, InputStream in, long size) {
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .acl(ObjectCannedACL.PUBLIC_READ)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromInputStream(in, size)
+        );
+    }
+
+    private void uploadMultipart(String key, String contentType, InputStream in, byte[] buffer, int firstPartLength)
+            throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .acl(ObjectCannedACL.PUBLIC_READ)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int read = firstPartLength;
+            while (read > 0) {
+                int partNumber = parts.size() + 1;
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                        .bucket(bucket)
+                                        .key(key)
+                                        .uploadId(uploadId)
+                                        .partNumber(partNumber)
+                                        .contentLength((long) read)
+                                        .build(),
+                                RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read))
+                        .eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                read = read < partSize ? 0 : in.readNBytes(buffer, 0, partSize);
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            abortMultipart(key, uploadId, e);
+            throw e;
+        }
+    }
+
+    // 완료되지 않은 멀티파트 업로드는 업로드된 파트만큼 저장 비용이 계속 나가므로 실패 시 바로 취소
+    private void abortMultipart(String key, String uploadId, Exception cause) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException abortFailure) {
+            cause.addSuppressed(abortFailure);
+            log.warn("멀티파트 업로드 취소 실패: key={}, uploadId={}", key, uploadId, abortFailure);
+        }
+    }
+
+    private byte[] acquirePartBuffer() throws InterruptedIOException {
+        try {
+            partBufferPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("업로드 버퍼 대기 중 인터럽트");
+        }
+        byte[] buffer = freePartBuffers.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    private void releasePartBuffer(byte[] buffer) {
+        freePartBuffers.offer(buffer);
+        partBufferPermits.release();
+    }
+
+    /**
+     * S3 응답 스트림 (다 읽었거나 중단할 때 닫아야 HTTP 연결이 풀로 돌아감)
+     */
+    private static final class S3StoredObject implements StoredObject {
+        private final ResponseInputStream<GetObjectResponse> in;
+
+        private S3StoredObject(ResponseInputStream<GetObjectResponse> in) {
+            this.in = in;
+        }
+
+        @Override
+        public String contentType() {
+            return in.response().contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            Long length = in.response().contentLength();
+            return length != null ? length : -1;
+        }
+
+        @Override
+        public String eTag() {
+            return in.response().eTag();
+        }
+
+        @Override
+        public InputStream inputStream() {
+            return in;
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            return in.transferTo(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.sesac.solbid.service.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * ObjectStorage.open 으로 연 객체 (내용 + 메타데이터)
+ */
+public interface StoredObject extends Closeable {
+
+    String contentType();
+
+    long contentLength();
+
+    // 따옴표를 포함한 강한 ETag
+    String eTag();
+
+    /**
+     * 로컬 디스크 파일이면 그 경로 (서블릿 컨테이너의 sendfile 로 커널에서 바로 전송할 수 있음), 아니면 null
+     * sendfile 은 이 객체를 닫은 뒤 경로로 파일을 다시 열므로, 응답 도중 지워지거나 바뀔 수 있는 파일이면 null 을 돌려준다.
+     */
+    default Path localFile() {
+        return null;
+    }
+
+    /**
+     * 내용을 읽는 스트림 (StoredObject 를 닫으면 함께 닫힘)
+     */
+    InputStream inputStream() throws IOException;
+
+    /**
+     * 내용을 out 으로 복사한다 (전체를 힙에 올리지 않음)
+     */
+    long transferTo(OutputStream out) throws IOException;
+}
@@ -0,0 +1,50 @@
+package com.sesac.solbid.util;
+
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ *
+ * 마지막으로 내려준 행의 (정렬 키, id) 를 담아 다음 페이지를 "이 행 다음부터" 조회한다.
+ * OFFSET 없이 인덱스 위치로 바로 찾아가므로 몇 번째 페이지든 조회 비용이 같다.
+ * 클라이언트에는 불투명한 문자열로 내려주며, 다른 정렬의 커서를 넘기면 거부한다.
+ */
+public record KeysetCursor(String sort, long key, long id) {
+
+    private static final String VERSION = "1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static KeysetCursor of(String sort, long key, long id) {
+        return new KeysetCursor(sort, key, id);
+    }
+
+    public String encode() {
+        String raw = VERSION + ":" + sort + ":" + key + ":" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param expectedSort 현재 요청의 정렬 (커서를 만든 정렬과 달라지면 INVALID_CURSOR)
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor, String expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0]) || !parts[1].equals(expectedSort)) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, 숫자 형식 오류
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sesac.solbid.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별 SQL 실행 횟수 카운터
+ * Hibernate StatementInspector 로 등록되어 준비되는 모든 SQL 문을 현재 스레드 기준으로 센다.
+ * 요청 단위 측정은 {@link #open()} 으로 구간을 열고 {@link Scope#count()} 로 확인한다.
+ */
+public final class QueryCounter implements StatementInspector {
+
+    public static final QueryCounter INSTANCE = new QueryCounter();
+
+    // 스레드별 누적 실행 횟수 (구간 측정은 시작 시점 값과의 차이로 계산하므로 중첩 구간도 안전)
+    private static final ThreadLocal<long[]> EXECUTED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueryCounter() {
+    }
+
+    @Override
+    public String inspect(String sql) {
+        EXECUTED.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 현재 스레드의 측정 구간 시작
+     */
+    public static Scope open() {
+        long[] counter = EXECUTED.get();
+        return new Scope(counter, counter[0]);
+    }
+
+    public static final class Scope {
+        private final long[] counter;
+        private final long start;
+
+        private Scope(long[] counter, long start) {
+            this.counter = counter;
+            this.start = start;
+        }
+
+        /**
+         * 구간 시작 이후 실행된 SQL 문 개수
+         */
+        public long count() {
+            return counter[0] - start;
+        }
+    }
+}
@@ -1,62 +0,0 @@
-package com.sesac.solbid.util;
-
-import org.springframework.util.FileCopyUtils;
-import org.springframework.web.multipart.MultipartFile;
-
-import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-
-public class S3MultipartFile implements MultipartFile {
-
-    private final byte[] content;
-    private final String fileName;
-    private final String contentType;
-
-    public S3MultipartFile(byte[] content, String fileName, String contentType) {
-        this.content = content;
-        this.fileName = fileName;
-        this.contentType = contentType;
-    }
-
-    @Override
-    public String getName() {
-        return fileName;
-    }
-
-    @Override
-    public String getOriginalFilename() {
-        return fileName;
-    }
-
-    @Override
-    public String getContentType() {
-        return contentType;
-    }
-
-    @Override
-    public boolean isEmpty() {
-        return content.length == 0;
-    }
-
-    @Override
-    public long getSize() {
-        return content.length;
-    }
-
-    @Override
-    public byte[] getBytes() {
-        return content;
-    }
-
-    @Override
-    public InputStream getInputStream() {
-        return new ByteArrayInputStream(content);
-    }
-
-    @Override
-    public void transferTo(File dest) throws IOException, IllegalStateException {
-        FileCopyUtils.copy(getBytes(), dest);
-    }
-}
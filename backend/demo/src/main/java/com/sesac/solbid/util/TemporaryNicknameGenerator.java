@@ -0,0 +1,65 @@
+package com.sesac.solbid.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 소셜 신규 가입자용 임시 닉네임 생성기
+ * (타임스탬프 | 노드 ID | 시퀀스) 를 64비트로 인코딩한 뒤 base36 으로 표기하여
+ * DB 중복 조회 없이도 노드 간 충돌이 발생하지 않도록 한다.
+ *
+ * - 노드마다 app.node-id 를 서로 다르게 설정해야 한다 (0 ~ 1023)
+ * - 사용자가 직접 설정하는 닉네임은 user_ 접두를 쓸 수 없으므로 사용자 닉네임과도 겹치지 않는다
+ */
+@Component
+public class TemporaryNicknameGenerator {
+
+    public static final String PREFIX = "user_";
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1735689600000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final Clock clock;
+
+    // (경과 ms << SEQUENCE_BITS | 시퀀스) 형태의 마지막 발급 값
+    private final AtomicLong lastStamp = new AtomicLong();
+
+    @Autowired
+    public TemporaryNicknameGenerator(@Value("${app.node-id:0}") long nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    public TemporaryNicknameGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node-id는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 임시 닉네임 생성: user_ + base36(타임스탬프 | 노드 ID | 시퀀스)
+     */
+    public String generate() {
+        return PREFIX + Long.toString(nextId(), Character.MAX_RADIX);
+    }
+
+    long nextId() {
+        long now = (clock.millis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        // 같은 ms 안에서는 시퀀스를 올리고, 시퀀스가 넘치거나 시계가 뒤로 가면 다음 ms 값을 앞당겨 사용
+        long stamp = lastStamp.updateAndGet(prev -> Math.max(now, prev + 1));
+
+        long elapsedMillis = stamp >>> SEQUENCE_BITS;
+        long sequence = stamp & SEQUENCE_MASK;
+        return (elapsedMillis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
@@ -0,0 +1,113 @@
+package db.migration;
+
+import com.sesac.solbid.config.FlywayConfig;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 (V8)
+ *
+ * - 기준 스키마의 parent_id / is_active 유니크 제약은 부모당 자식 하나, 활성/비활성 행 하나씩만 허용해 트리를 만들 수 없으므로 제거한다
+ * - 제약 이름은 DB 마다 다르다 (V1 로 만든 DB 는 uk_category_*, ddl-auto 로 만든 뒤 V1 을 기준선으로 표시한 DB 는 Hibernate 가 지은 UK... )
+ *   그래서 SQL 스크립트 대신 information_schema 에서 두 컬럼 하나씩만 덮는 유니크 제약을 찾아 지운다
+ * - updated_at(카테고리 트리 캐시의 버전 스탬프)과 parent_id 인덱스는 ddl-auto 가 이미 만들었을 수 있으므로 없을 때만 추가한다
+ */
+public class V8__category_tree extends BaseJavaMigration {
+
+    private static final String TABLE = "category";
+    private static final Set<String> NON_UNIQUE_COLUMNS = Set.of("parent_id", "is_active");
+    private static final String PARENT_INDEX = "idx_category_parent_id";
+
+    private static final String UNIQUE_CONSTRAINTS_SQL =
+            "SELECT tc.constraint_name, kcu.column_name FROM information_schema.table_constraints tc "
+                    + "JOIN information_schema.key_column_usage kcu "
+                    + "ON kcu.constraint_schema = tc.constraint_schema AND kcu.constraint_name = tc.constraint_name "
+                    + "AND kcu.table_name = tc.table_name "
+                    + "WHERE tc.constraint_type = 'UNIQUE' AND LOWER(tc.table_schema) = LOWER(?) "
+                    + "AND LOWER(tc.table_name) = ?";
+
+    // 직접 SQL 로 고쳐도 DB 가 갱신한다 (JPA 로 고칠 때는 엔티티가 값을 넣는다)
+    private static final String ADD_UPDATED_AT_SQL = "ALTER TABLE category ADD COLUMN updated_at DATETIME(6) NOT NULL "
+            + "DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean mysql = FlywayConfig.isMySql(connection.getMetaData().getDatabaseProductName());
+        // MySQL 은 데이터베이스가 카탈로그, H2 는 스키마
+        String schema = mysql ? connection.getCatalog() : connection.getSchema();
+
+        try (Statement statement = connection.createStatement()) {
+            for (String constraint : singleColumnUniqueConstraints(connection, schema)) {
+                statement.execute("ALTER TABLE category "
+                        + (mysql ? "DROP INDEX `" + constraint + "`" : "DROP CONSTRAINT \"" + constraint + "\""));
+            }
+            if (!hasColumn(connection, "updated_at")) {
+                statement.execute(ADD_UPDATED_AT_SQL);
+            }
+            if (!hasIndex(connection, PARENT_INDEX)) {
+                String onlineDdl = context.getConfiguration().getPlaceholders()
+                        .getOrDefault(FlywayConfig.ONLINE_DDL_PLACEHOLDER, "");
+                statement.execute("CREATE INDEX " + PARENT_INDEX + " ON category (parent_id)" + onlineDdl);
+            }
+        }
+    }
+
+    // parent_id 또는 is_active 한 컬럼만으로 된 유니크 제약 (name/description 유니크와 복합 제약은 그대로 둔다)
+    private static List<String> singleColumnUniqueConstraints(Connection connection, String schema) throws SQLException {
+        Map<String, List<String>> columnsByConstraint = new LinkedHashMap<>();
+        try (PreparedStatement query = connection.prepareStatement(UNIQUE_CONSTRAINTS_SQL)) {
+            query.setString(1, schema);
+            query.setString(2, TABLE);
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    columnsByConstraint.computeIfAbsent(rs.getString(1), name -> new ArrayList<>())
+                            .add(rs.getString(2).toLowerCase());
+                }
+            }
+        }
+        List<String> constraints = new ArrayList<>();
+        columnsByConstraint.forEach((name, columns) -> {
+            if (columns.size() == 1 && NON_UNIQUE_COLUMNS.contains(columns.get(0))) {
+                constraints.add(name);
+            }
+        });
+        return constraints;
+    }
+
+    private static boolean hasColumn(Connection connection, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), TABLE, null)) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasIndex(Connection connection, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), TABLE, false, true)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,197 @@
+-- 기준 스키마 (엔티티 매핑 기준)
+-- ddl-auto 로 이미 테이블이 만들어진 DB 는 baseline-on-migrate 로 이 버전을 적용된 것으로 표시하고 V2 부터 실행한다.
+-- MySQL 과 테스트용 H2(MODE=MySQL) 에서 모두 실행되도록 공통 문법만 사용한다.
+
+CREATE TABLE `user` (
+    user_id      BIGINT        NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6)   NOT NULL,
+    updated_at   DATETIME(6)   NOT NULL,
+    email        VARCHAR(100)  NOT NULL,
+    password     VARCHAR(255),
+    nickname     VARCHAR(50)   NOT NULL,
+    name         VARCHAR(50),
+    phone        VARCHAR(20),
+    user_type    VARCHAR(20),
+    temperature  DECIMAL(38, 2) NOT NULL DEFAULT 36.5,
+    point        DECIMAL(38, 2) NOT NULL DEFAULT 0,
+    user_status  VARCHAR(20),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_nickname UNIQUE (nickname),
+    CONSTRAINT uk_user_phone UNIQUE (phone)
+);
+
+CREATE TABLE social_login (
+    social_id    BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT        NOT NULL,
+    provider     VARCHAR(20)   NOT NULL,
+    provider_id  VARCHAR(100)  NOT NULL,
+    created_at   DATETIME(6)   NOT NULL,
+    PRIMARY KEY (social_id),
+    CONSTRAINT uk_social_login_provider_provider_id UNIQUE (provider, provider_id),
+    CONSTRAINT fk_social_login_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE category (
+    category_id  BIGINT        NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(255),
+    description  VARCHAR(255),
+    parent_id    BIGINT,
+    is_active    BOOLEAN       NOT NULL,
+    created_at   DATETIME(6),
+    PRIMARY KEY (category_id),
+    CONSTRAINT uk_category_name UNIQUE (name),
+    CONSTRAINT uk_category_description UNIQUE (description),
+    CONSTRAINT uk_category_parent_id UNIQUE (parent_id),
+    CONSTRAINT uk_category_is_active UNIQUE (is_active)
+);
+
+CREATE TABLE product (
+    product_id          BIGINT        NOT NULL AUTO_INCREMENT,
+    created_at          DATETIME(6)   NOT NULL,
+    updated_at          DATETIME(6)   NOT NULL,
+    seller_id           BIGINT        NOT NULL,
+    product_category    VARCHAR(255)  NOT NULL,
+    product_status      VARCHAR(255)  NOT NULL,
+    product_condition   VARCHAR(255)  NOT NULL,
+    product_brand       VARCHAR(255)  NOT NULL,
+    size                INT           NOT NULL,
+    name                VARCHAR(100)  NOT NULL,
+    description         VARCHAR(1000) NOT NULL,
+    start_price         INT           NOT NULL,
+    confirmation_price  INT           NOT NULL,
+    start_date          DATE          NOT NULL,
+    end_date            DATE          NOT NULL,
+    current_price       INT           NOT NULL DEFAULT 0,
+    PRIMARY KEY (product_id),
+    CONSTRAINT fk_product_seller FOREIGN KEY (seller_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE product_image (
+    image_id      BIGINT        NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6)   NOT NULL,
+    updated_at    DATETIME(6)   NOT NULL,
+    product_id    BIGINT        NOT NULL,
+    file_path     VARCHAR(255)  NOT NULL,
+    file_name     VARCHAR(255)  NOT NULL,
+    sort_order    INT           NOT NULL,
+    is_thumbnail  BOOLEAN       NOT NULL,
+    PRIMARY KEY (image_id),
+    CONSTRAINT fk_product_image_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
+CREATE TABLE wishlist (
+    wish_list_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    product_id    BIGINT       NOT NULL,
+    PRIMARY KEY (wish_list_id),
+    CONSTRAINT fk_wishlist_user FOREIGN KEY (user_id) REFERENCES `user` (user_id),
+    CONSTRAINT fk_wishlist_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
+CREATE TABLE carts (
+    cart_id        BIGINT         NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6)    NOT NULL,
+    updated_at     DATETIME(6)    NOT NULL,
+    user_id        BIGINT         NOT NULL,
+    product_id     BIGINT         NOT NULL,
+    product_price  DECIMAL(10, 2) NOT NULL,
+    PRIMARY KEY (cart_id),
+    CONSTRAINT fk_carts_user FOREIGN KEY (user_id) REFERENCES `user` (user_id),
+    CONSTRAINT fk_carts_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
+CREATE TABLE auctionevent (
+    auction_event_id  BIGINT         NOT NULL AUTO_INCREMENT,
+    created_at        DATETIME(6)    NOT NULL,
+    updated_at        DATETIME(6)    NOT NULL,
+    product_id        BIGINT         NOT NULL,
+    start_price       DECIMAL(15, 2) NOT NULL,
+    buyout_price      DECIMAL(15, 2),
+    event_type        VARCHAR(255),
+    view_count        INT            NOT NULL DEFAULT 0,
+    is_blind          BOOLEAN        NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (auction_event_id),
+    CONSTRAINT fk_auctionevent_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
+CREATE TABLE bid (
+    bid_id            BIGINT         NOT NULL AUTO_INCREMENT,
+    auction_event_id  BIGINT         NOT NULL,
+    bid_amount        DECIMAL(38, 2) NOT NULL,
+    is_winning        BOOLEAN        NOT NULL DEFAULT FALSE,
+    bidder_id         BIGINT         NOT NULL,
+    bid_time          DATETIME(6),
+    PRIMARY KEY (bid_id),
+    CONSTRAINT uk_bid_bid_amount UNIQUE (bid_amount),
+    CONSTRAINT uk_bid_is_winning UNIQUE (is_winning),
+    CONSTRAINT fk_bid_auctionevent FOREIGN KEY (auction_event_id) REFERENCES auctionevent (auction_event_id),
+    CONSTRAINT fk_bid_bidder FOREIGN KEY (bidder_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE order_info (
+    order_id          BIGINT         NOT NULL AUTO_INCREMENT,
+    auction_event_id  BIGINT,
+    winner_id         BIGINT,
+    seller_id         BIGINT         NOT NULL,
+    final_price       DECIMAL(15, 2) NOT NULL,
+    payment_status    VARCHAR(50)    NOT NULL,
+    delivery_status   VARCHAR(50)    NOT NULL,
+    delivery_address  TEXT           NOT NULL,
+    tracking_number   VARCHAR(255),
+    order_date        DATETIME(6)    NOT NULL,
+    payment_date      DATETIME(6),
+    delivery_date     DATETIME(6),
+    PRIMARY KEY (order_id),
+    CONSTRAINT fk_order_info_auctionevent FOREIGN KEY (auction_event_id) REFERENCES auctionevent (auction_event_id),
+    CONSTRAINT fk_order_info_winner FOREIGN KEY (winner_id) REFERENCES `user` (user_id),
+    CONSTRAINT fk_order_info_seller FOREIGN KEY (seller_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE notification (
+    notification_id    BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id            BIGINT        NOT NULL,
+    notification_type  VARCHAR(255),
+    title              VARCHAR(100)  NOT NULL,
+    content            TEXT          NOT NULL,
+    link_url           VARCHAR(500),
+    is_read            BOOLEAN       DEFAULT FALSE,
+    create_at          DATETIME(6),
+    PRIMARY KEY (notification_id),
+    CONSTRAINT fk_notification_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE payments (
+    payment_id       BIGINT        NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6)   NOT NULL,
+    updated_at       DATETIME(6)   NOT NULL,
+    user_id          BIGINT,
+    amount           INT           NOT NULL,
+    payment_method   VARCHAR(20)   NOT NULL,
+    transaction_id   VARCHAR(100),
+    provider         VARCHAR(30)   NOT NULL,
+    order_id         VARCHAR(100)  NOT NULL,
+    payment_status   VARCHAR(255),
+    converted_point  INT           NOT NULL DEFAULT 0,
+    is_charged       BOOLEAN       NOT NULL DEFAULT FALSE,
+    requested_at     DATETIME(6),
+    confirmed_at     DATETIME(6),
+    PRIMARY KEY (payment_id),
+    CONSTRAINT fk_payments_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE point_transaction (
+    transaction_id  BIGINT         NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT,
+    trans_enum      VARCHAR(255),
+    balance_after   DECIMAL(38, 2) NOT NULL,
+    description     VARCHAR(225),
+    payment_id      BIGINT,
+    created_at      DATETIME(6)    NOT NULL,
+    point           INT            NOT NULL,
+    PRIMARY KEY (transaction_id),
+    CONSTRAINT fk_point_transaction_user FOREIGN KEY (user_id) REFERENCES `user` (user_id),
+    CONSTRAINT fk_point_transaction_payments FOREIGN KEY (payment_id) REFERENCES payments (payment_id)
+);
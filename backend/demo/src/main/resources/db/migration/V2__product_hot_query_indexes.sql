@@ -0,0 +1,15 @@
+-- 상품 조회 경로 인덱스
+-- ${online_ddl} 은 MySQL 에서 ALGORITHM=INPLACE LOCK=NONE 으로 치환되어 인덱스를 만드는 동안에도 읽기/쓰기가 막히지 않는다.
+-- 인덱스마다 별도 문장으로 두어 실패 시 어디까지 적용됐는지 바로 알 수 있게 한다.
+
+-- 경매 마감 대상 조회
+CREATE INDEX idx_product_status_end_date ON product (product_status, end_date)${online_ddl};
+
+-- 상품 목록 최신순 키셋
+CREATE INDEX idx_product_status_product_id ON product (product_status, product_id)${online_ddl};
+
+-- 상품 목록 가격순 키셋
+CREATE INDEX idx_product_status_start_price ON product (product_status, start_price, product_id)${online_ddl};
+
+-- 전문 검색 세그먼트 이후 변경분 따라잡기
+CREATE INDEX idx_product_updated_at ON product (updated_at, product_id)${online_ddl};
@@ -0,0 +1,4 @@
+-- 입찰 조회 경로 인덱스 (온라인 생성: 인덱스를 만드는 동안에도 입찰 INSERT 가 막히지 않는다)
+
+-- 경매별 최고 입찰가 조회
+CREATE INDEX idx_bid_auction_event_id_bid_amount ON bid (auction_event_id, bid_amount)${online_ddl};
@@ -0,0 +1,16 @@
+-- 사용자별 조회 경로 인덱스 (찜, 알림, 포인트 내역, 주문 내역)
+
+-- 사용자가 이 상품을 찜했는지 확인
+CREATE INDEX idx_wishlist_user_id_product_id ON wishlist (user_id, product_id)${online_ddl};
+
+-- 사용자 찜 목록 키셋
+CREATE INDEX idx_wishlist_user_id_wish_list_id ON wishlist (user_id, wish_list_id)${online_ddl};
+
+-- 사용자별 안 읽은 알림 조회/개수
+CREATE INDEX idx_notification_user_id_is_read ON notification (user_id, is_read)${online_ddl};
+
+-- 사용자 포인트 내역 (최신순)
+CREATE INDEX idx_point_transaction_user_id_created_at ON point_transaction (user_id, created_at)${online_ddl};
+
+-- 낙찰자 주문 내역 키셋
+CREATE INDEX idx_order_info_winner_id_order_id ON order_info (winner_id, order_id)${online_ddl};
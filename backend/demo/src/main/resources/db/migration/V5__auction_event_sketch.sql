@@ -0,0 +1,10 @@
+-- 경매별 고유 조회자/입찰자 HyperLogLog 스케치 (경매당 약 3KB x 2)
+CREATE TABLE auction_event_sketch (
+    auction_event_id  BIGINT          NOT NULL,
+    viewer_sketch     VARBINARY(4096),
+    bidder_sketch     VARBINARY(4096),
+    updated_at        DATETIME(6)     NOT NULL,
+    PRIMARY KEY (auction_event_id),
+    CONSTRAINT fk_auction_event_sketch_auctionevent FOREIGN KEY (auction_event_id)
+        REFERENCES auctionevent (auction_event_id)
+);
@@ -0,0 +1,7 @@
+-- 상품 이미지 원본 키와 리사이즈 사본(썸네일/목록/상세) 키
+-- 사본은 등록 후 비동기로 만들어지므로 그 전까지는 NULL (클라이언트는 원본 file_path 를 사용)
+-- 끝에 붙는 NULL 허용 컬럼이라 MySQL 8.0 에서는 테이블 재작성 없이 메타데이터만 바뀐다 (ALGORITHM=INSTANT)
+ALTER TABLE product_image ADD COLUMN storage_key VARCHAR(255);
+ALTER TABLE product_image ADD COLUMN thumbnail_key VARCHAR(255);
+ALTER TABLE product_image ADD COLUMN list_key VARCHAR(255);
+ALTER TABLE product_image ADD COLUMN detail_key VARCHAR(255);
@@ -0,0 +1,13 @@
+-- 내용 해시(SHA-256)로 이름 붙인 이미지 객체의 참조 수
+-- 참조가 0 이고 유예 시간이 지난 행을 GC 가 찾으므로 (ref_count, updated_at) 인덱스를 둔다
+CREATE TABLE image_blob (
+    content_key  VARCHAR(255)  NOT NULL,
+    ref_count    INT           NOT NULL,
+    created_at   DATETIME(6)   NOT NULL,
+    updated_at   DATETIME(6)   NOT NULL,
+    PRIMARY KEY (content_key)
+);
+CREATE INDEX idx_image_blob_ref_count_updated_at ON image_blob (ref_count, updated_at)${online_ddl};
+
+-- 같은 내용을 가리키는 다른 이미지 행의 리사이즈 사본을 재사용할 때 사용
+CREATE INDEX idx_product_image_storage_key ON product_image (storage_key)${online_ddl};
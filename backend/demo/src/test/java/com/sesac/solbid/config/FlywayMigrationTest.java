@@ -0,0 +1,194 @@
+package com.sesac.solbid.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 마이그레이션 검증
+ * 빈 H2(MySQL 모드) DB 에 마이그레이션을 모두 적용한 뒤, 엔티티 매핑이 그 스키마로 동작하는지 확인한다.
+ * ddl-auto 로 만들어진 DB 를 기준선으로 표시하고 이어서 적용하는 경우도 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FlywayConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Flyway 마이그레이션 테스트")
+class FlywayMigrationTest {
+
+    private static final Pattern CREATE_INDEX = Pattern.compile("CREATE\\s+(UNIQUE\\s+)?INDEX[^;]*;",
+            Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("모든 마이그레이션이 빈 DB 에 순서대로 적용된다")
+    void migrate_AppliesAllVersions() throws IOException {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(applied).hasSize(migrationScripts().length + javaMigrations().length);
+        assertThat(Arrays.stream(applied).map(info -> info.getState().isFailed())).containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("마이그레이션으로 만든 스키마에서 모든 엔티티를 조회할 수 있다 (테이블/컬럼 누락 없음)")
+    void migratedSchema_MatchesEntityMappings() {
+        for (EntityType<?> entity : entityManager.getMetamodel().getEntities()) {
+            // 매핑된 모든 컬럼을 SELECT 하므로 테이블이나 컬럼이 없으면 여기서 실패한다
+            entityManager.createQuery("select e from " + entity.getName() + " e")
+                    .setMaxResults(1)
+                    .getResultList();
+        }
+    }
+
+    @Test
+    @DisplayName("핫 쿼리 인덱스가 마이그레이션으로 생성된다")
+    void migratedSchema_HasHotQueryIndexes() {
+        assertThat(indexColumns("product", "idx_product_status_end_date"))
+                .containsExactly("product_status", "end_date");
+        assertThat(indexColumns("bid", "idx_bid_auction_event_id_bid_amount"))
+                .containsExactly("auction_event_id", "bid_amount");
+        assertThat(indexColumns("point_transaction", "idx_point_transaction_user_id_created_at"))
+                .containsExactly("user_id", "created_at");
+    }
+
+    @Test
+    @DisplayName("기준 스키마 이후의 인덱스 생성은 모두 온라인 DDL 절을 붙인다")
+    void indexMigrations_UseOnlineDdl() throws IOException {
+        for (Resource script : migrationScripts()) {
+            if (script.getFilename().startsWith("V1__")) {
+                continue;
+            }
+            String sql = script.getContentAsString(StandardCharsets.UTF_8);
+            Matcher matcher = CREATE_INDEX.matcher(sql);
+            while (matcher.find()) {
+                assertThat(matcher.group())
+                        .as("%s: MySQL 에서 테이블 잠금 없이 생성되어야 함", script.getFilename())
+                        .endsWith("${" + FlywayConfig.ONLINE_DDL_PLACEHOLDER + "};");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ddl-auto 로 만든 DB 도 기준선 표시 후 V2 부터 적용되고, 카테고리 유니크 제약은 Hibernate 가 지은 이름으로도 지워진다")
+    void migrate_FromBaselinedDdlAutoSchema() throws IOException, SQLException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:ddl_auto_baseline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        // 기준 스키마와 같지만 유니크 제약 이름은 ddl-auto(Hibernate) 가 해시로 짓는다
+        String ddlAutoSchema = baselineScript()
+                .replace("uk_category_name", "UK46ccwnsi9409t36lurvtyljak")
+                .replace("uk_category_description", "UKq8l5cgbv3lrxf0rcrnxbs3lt4")
+                .replace("uk_category_parent_id", "UK8kmkmm8pfhn1f9ja1p9e2dxvx")
+                .replace("uk_category_is_active", "UKlnwh0yw16f2kq5ud4w0sa6yr1");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ByteArrayResource(ddlAutoSchema.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .placeholders(Map.of(FlywayConfig.ONLINE_DDL_PLACEHOLDER, ""))
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO category (category_id, name, parent_id, is_active) VALUES (1, '신발', NULL, TRUE)");
+        // 같은 부모의 자식 여럿, 활성 행 여럿
+        jdbcTemplate.update("INSERT INTO category (category_id, name, parent_id, is_active) VALUES (2, '운동화', 1, TRUE)");
+        jdbcTemplate.update("INSERT INTO category (category_id, name, parent_id, is_active) VALUES (3, '구두', 1, TRUE)");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category WHERE updated_at IS NOT NULL", Integer.class))
+                .isEqualTo(3);
+        // 이름 유니크 제약은 남는다
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO category (category_id, name, parent_id, is_active) VALUES (4, '구두', 2, TRUE)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.index_columns "
+                        + "WHERE LOWER(table_name) = 'category' AND LOWER(index_name) = 'idx_category_parent_id'",
+                String.class))
+                .containsExactly("parent_id");
+    }
+
+    @Test
+    @DisplayName("MySQL/MariaDB 에서만 온라인 DDL 절을 사용한다")
+    void isMySql_DetectsVendor() {
+        assertThat(FlywayConfig.isMySql("MySQL")).isTrue();
+        assertThat(FlywayConfig.isMySql("MariaDB")).isTrue();
+        assertThat(FlywayConfig.isMySql("H2")).isFalse();
+        assertThat(FlywayConfig.MYSQL_ONLINE_DDL).contains("ALGORITHM=INPLACE").contains("LOCK=NONE");
+    }
+
+    private Resource[] migrationScripts() throws IOException {
+        return new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql");
+    }
+
+    // db.migration 패키지의 Java 마이그레이션 (내부 클래스 제외)
+    private Resource[] javaMigrations() throws IOException {
+        return Arrays.stream(new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.class"))
+                .filter(resource -> !resource.getFilename().contains("$"))
+                .toArray(Resource[]::new);
+    }
+
+    private String baselineScript() throws IOException {
+        return Arrays.stream(migrationScripts())
+                .filter(script -> script.getFilename().startsWith("V1__"))
+                .findFirst()
+                .orElseThrow()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> indexColumns(String table, String index) {
+        return ((List<Object>) entityManager.createNativeQuery(
+                        "SELECT column_name FROM information_schema.index_columns "
+                                + "WHERE LOWER(table_name) = :table AND LOWER(index_name) = :index "
+                                + "ORDER BY ordinal_position")
+                .setParameter("table", table)
+                .setParameter("index", index)
+                .getResultList())
+                .stream()
+                .map(column -> String.valueOf(column).toLowerCase())
+                .toList();
+    }
+}
@@ -53,7 +53,8 @@ class AuthTokenControllerTest {
         when(jwtUtil.validateToken(refresh)).thenReturn(true);
         when(jwtUtil.getUsernameFromToken(refresh)).thenReturn(email);
         // 사용자 존재 확인만 통과하면 되므로 반환값은 사용되지 않음
-        when(userService.getByEmail(email)).thenReturn(mock(com.sesac.solbid.domain.User.class));
+        when(userService.getPrincipalByEmail(email)).thenReturn(new com.sesac.solbid.repository.projection.UserPrincipalView(
+                1L, email, "tester", com.sesac.solbid.domain.enums.UserType.USER, com.sesac.solbid.domain.enums.UserStatus.ACTIVE));
         when(jwtUtil.generateToken(email)).thenReturn("new-access");
         when(jwtUtil.generateRefreshToken(email)).thenReturn("new-refresh");
         when(jwtUtil.getAccessTokenValiditySeconds()).thenReturn(3600L);
@@ -81,7 +82,7 @@ class AuthTokenControllerTest {
 
         verify(jwtUtil).validateToken(refresh);
         verify(jwtUtil).getUsernameFromToken(refresh);
-        verify(userService).getByEmail(email);
+        verify(userService).getPrincipalByEmail(email);
         verify(jwtUtil).generateToken(email);
         verify(jwtUtil).generateRefreshToken(email);
     }
@@ -121,7 +122,7 @@ class AuthTokenControllerTest {
         String email = "no@ex.com";
         when(jwtUtil.validateToken(refresh)).thenReturn(true);
         when(jwtUtil.getUsernameFromToken(refresh)).thenReturn(email);
-        when(userService.getByEmail(email)).thenThrow(new RuntimeException("not found"));
+        when(userService.getPrincipalByEmail(email)).thenThrow(new RuntimeException("not found"));
 
         mockMvc.perform(post("/api/auth/refresh")
                         .with(csrf())
@@ -0,0 +1,79 @@
+package com.sesac.solbid.controller;
+
+import com.sesac.solbid.service.storage.LocalObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ImageController 응답 헤더 테스트 (로컬 저장소 사용)
+ */
+@DisplayName("ImageController 응답 헤더 테스트")
+class ImageControllerTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalObjectStorage(root, "/api/images/");
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageController(storage)).build();
+    }
+
+    @Test
+    @DisplayName("허용 형식은 그 Content-Type 으로 인라인 응답하고 nosniff 를 붙인다")
+    void image_AllowedType_Inline() throws Exception {
+        byte[] photo = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00};
+        storage.put("photo.jpg", new ByteArrayInputStream(photo), photo.length, "image/jpeg");
+
+        MvcResult result = mockMvc.perform(get("/api/images/photo.jpg"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                .andExpect(header().string(ImageController.HEADER_CONTENT_TYPE_OPTIONS, ImageController.NOSNIFF))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION))
+                .andExpect(content().bytes(photo));
+    }
+
+    @Test
+    @DisplayName("SVG 처럼 스크립트를 담을 수 있는 형식은 octet-stream 첨부 파일로 내려준다")
+    void image_ScriptableType_Attachment() throws Exception {
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>"
+                .getBytes(StandardCharsets.UTF_8);
+        storage.put("logo.svg", new ByteArrayInputStream(svg), svg.length, "image/svg+xml");
+
+        MvcResult result = mockMvc.perform(get("/api/images/logo.svg"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string(ImageController.HEADER_CONTENT_TYPE_OPTIONS, ImageController.NOSNIFF))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment"));
+    }
+}
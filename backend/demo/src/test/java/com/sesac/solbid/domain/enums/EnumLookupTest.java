@@ -0,0 +1,72 @@
+package com.sesac.solbid.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("EnumLookup 테스트")
+class EnumLookupTest {
+
+    @Test
+    @DisplayName("모든 상수를 대소문자와 무관하게 찾는다")
+    void find_IgnoresCase() {
+        for (ProductBrand brand : ProductBrand.values()) {
+            assertThat(ProductBrand.from(brand.name().toLowerCase())).isSameAs(brand);
+        }
+        assertThat(ProductCategory.from("Running")).isSameAs(ProductCategory.RUNNING);
+        assertThat(ProductCondition.from("used")).isSameAs(ProductCondition.USED);
+        assertThat(ProductStatus.from("sold_OUT")).isSameAs(ProductStatus.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("없는 이름은 기존과 같은 메시지의 IllegalArgumentException")
+    void parse_Unknown_Throws() {
+        EnumLookup<ProductStatus> lookup = EnumLookup.of(ProductStatus.class, "상태");
+
+        assertThat(lookup.find("SOLD")).isNull();
+        assertThat(lookup.find(null)).isNull();
+        assertThatThrownBy(() -> ProductBrand.from("FILA"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 브랜드: FILA");
+        assertThatThrownBy(() -> ProductCondition.from(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 컨디션: null");
+    }
+
+    /**
+     * JMH 대신 스레드 할당량으로 확인 (values() 스트림 방식은 호출마다 배열/스트림/람다를 할당했다)
+     */
+    @Test
+    @DisplayName("조회는 힙을 할당하지 않는다")
+    void from_DoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        String[] inputs = {"nike", "Adidas", "ASICS", "vans", "Reebok"};
+        int iterations = 200_000;
+        // 워밍업 (클래스 로딩, JIT)
+        int checksum = lookups(inputs, iterations);
+
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        checksum += lookups(inputs, iterations);
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+
+        assertThat(checksum).isPositive();
+        // 호출당 1바이트 미만 (측정 자체의 할당 여유만 허용)
+        assertThat(allocated).isLessThan(iterations);
+    }
+
+    private static int lookups(String[] inputs, int iterations) {
+        int checksum = 0;
+        for (int i = 0; i < iterations; i++) {
+            checksum += ProductBrand.from(inputs[i % inputs.length]).ordinal() + 1;
+        }
+        return checksum;
+    }
+}
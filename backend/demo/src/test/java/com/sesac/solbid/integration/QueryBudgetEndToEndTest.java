@@ -0,0 +1,86 @@
+package com.sesac.solbid.integration;
+
+import com.sesac.solbid.domain.User;
+import com.sesac.solbid.repository.UserRepository;
+import com.sesac.solbid.support.QueryBudget;
+import com.sesac.solbid.util.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("인증 엔드포인트 쿼리 예산 테스트")
+class QueryBudgetEndToEndTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("/api/users/me 는 사용자 조회 1회 이내")
+    void me_WithinBudget() throws Throwable {
+        User user = userRepository.save(User.builder()
+                .email("budget-me@test.com")
+                .nickname("예산미")
+                .build());
+        String accessToken = jwtUtil.generateToken(user.getEmail());
+
+        QueryBudget.atMost(1, () -> mockMvc.perform(get("/api/users/me")
+                        .cookie(new Cookie("accessToken", accessToken)))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("/api/auth/refresh 는 사용자 조회 1회 이내")
+    void refresh_WithinBudget() throws Throwable {
+        User user = userRepository.save(User.builder()
+                .email("budget-refresh@test.com")
+                .nickname("예산리프")
+                .build());
+        String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
+
+        QueryBudget.atMost(1, () -> mockMvc.perform(post("/api/auth/refresh")
+                        .with(csrf())
+                        .cookie(new Cookie("refreshToken", refreshToken)))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 테스트가 실패한다")
+    void budgetExceeded_Fails() throws Throwable {
+        userRepository.save(User.builder()
+                .email("budget-over@test.com")
+                .nickname("예산초과")
+                .build());
+
+        long executed = QueryBudget.count(() -> {
+            userRepository.findByEmail("budget-over@test.com");
+            userRepository.findByNickname("예산초과");
+        });
+        assertThat(executed).isEqualTo(2);
+
+        assertThatThrownBy(() -> QueryBudget.atMost(1, () -> {
+            userRepository.findByEmail("budget-over@test.com");
+            userRepository.findByNickname("예산초과");
+        })).isInstanceOf(AssertionError.class);
+    }
+}
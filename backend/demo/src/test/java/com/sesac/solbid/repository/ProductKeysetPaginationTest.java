@@ -0,0 +1,146 @@
+package com.sesac.solbid.repository;
+
+import com.sesac.solbid.domain.Product;
+import com.sesac.solbid.domain.User;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 키셋 페이지네이션 쿼리 테스트
+ * 페이지를 이어 붙인 결과가 전체 정렬 결과와 같아야 한다 (가격이 같은 상품도 누락/중복 없이).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+@ActiveProfiles("test")
+@DisplayName("상품 키셋 페이지네이션 테스트")
+class ProductKeysetPaginationTest {
+
+    private static final int PAGE_SIZE = 4;
+    // 같은 가격이 여러 번 나오도록 구성
+    private static final int[] PRICES = {30000, 10000, 20000, 10000, 50000, 20000, 10000, 40000, 30000, 20000, 10000};
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Product> saved;
+
+    @BeforeEach
+    void setUp() {
+        User seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .password("encoded-password")
+                .nickname("판매자")
+                .build());
+        saved = new ArrayList<>();
+        for (int i = 0; i < PRICES.length; i++) {
+            saved.add(productRepository.save(Product.builder()
+                    .name("상품 " + i)
+                    .brand("NIKE")
+                    .category("SNEAKERS")
+                    .condition("NEW")
+                    .size("270")
+                    .startPrice(PRICES[i])
+                    .confirmationPrice(PRICES[i] * 2)
+                    .startDate("2025-01-01")
+                    .endDate("2025-01-31")
+                    .description("설명")
+                    .seller(seller)
+                    .build()));
+        }
+        // 목록에서 빠져야 하는 상품
+        saved.get(0).changeStatus(ProductStatus.SOLD_OUT);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("최신순: productId 내림차순으로 이어진다")
+    void latest_PagesAreContiguous() {
+        List<Long> collected = new ArrayList<>();
+        long lastProductId = Long.MAX_VALUE;
+        while (true) {
+            List<Product> page = productRepository.findPageLatest(ProductStatus.AVAILABLE, lastProductId,
+                    Limit.of(PAGE_SIZE));
+            page.forEach(product -> collected.add(product.getProductId()));
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            lastProductId = page.get(page.size() - 1).getProductId();
+        }
+
+        assertThat(collected).containsExactlyElementsOf(available().stream()
+                .sorted(Comparator.comparing(Product::getProductId).reversed())
+                .map(Product::getProductId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("가격 낮은순: 같은 가격은 productId 로 이어진다")
+    void priceAsc_PagesAreContiguous() {
+        List<Long> collected = new ArrayList<>();
+        int lastPrice = Integer.MIN_VALUE;
+        long lastProductId = Long.MIN_VALUE;
+        while (true) {
+            List<Product> page = productRepository.findPageByPriceAsc(ProductStatus.AVAILABLE, lastPrice,
+                    lastProductId, Limit.of(PAGE_SIZE));
+            page.forEach(product -> collected.add(product.getProductId()));
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            Product last = page.get(page.size() - 1);
+            lastPrice = last.getStartPrice();
+            lastProductId = last.getProductId();
+        }
+
+        assertThat(collected).containsExactlyElementsOf(available().stream()
+                .sorted(Comparator.comparingInt(Product::getStartPrice).thenComparing(Product::getProductId))
+                .map(Product::getProductId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("가격 높은순: 같은 가격은 productId 역순으로 이어진다")
+    void priceDesc_PagesAreContiguous() {
+        List<Long> collected = new ArrayList<>();
+        int lastPrice = Integer.MAX_VALUE;
+        long lastProductId = Long.MAX_VALUE;
+        while (true) {
+            List<Product> page = productRepository.findPageByPriceDesc(ProductStatus.AVAILABLE, lastPrice,
+                    lastProductId, Limit.of(PAGE_SIZE));
+            page.forEach(product -> collected.add(product.getProductId()));
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            Product last = page.get(page.size() - 1);
+            lastPrice = last.getStartPrice();
+            lastProductId = last.getProductId();
+        }
+
+        assertThat(collected).containsExactlyElementsOf(available().stream()
+                .sorted(Comparator.comparingInt(Product::getStartPrice).thenComparing(Product::getProductId).reversed())
+                .map(Product::getProductId)
+                .toList());
+    }
+
+    private List<Product> available() {
+        return saved.subList(1, saved.size());
+    }
+}
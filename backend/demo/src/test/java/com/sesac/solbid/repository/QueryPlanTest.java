@@ -0,0 +1,112 @@
+package com.sesac.solbid.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 쿼리 실행 계획 테스트 (H2 EXPLAIN)
+ *
+ * 엔티티 @Table(indexes) 로 생성된 스키마에서 주요 조회가 테이블 전체 스캔을 하지 않는지 확인한다.
+ * 새 조회 경로를 추가하면 hotQueries() 에 대표 SQL 과 기대 인덱스를 함께 등록한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+@ActiveProfiles("test")
+@DisplayName("핫 쿼리 실행 계획 테스트")
+class QueryPlanTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("경매 마감 대상 상품",
+                        "SELECT product_id FROM product WHERE product_status = 'AVAILABLE' AND end_date < DATE '2025-01-01'",
+                        "product", "idx_product_status_end_date", List.of("product_status", "end_date")),
+                Arguments.of("상품 목록 최신순",
+                        "SELECT product_id FROM product WHERE product_status = 'AVAILABLE' AND product_id < 1000 "
+                                + "ORDER BY product_id DESC FETCH FIRST 21 ROWS ONLY",
+                        "product", "idx_product_status_product_id", List.of("product_status", "product_id")),
+                Arguments.of("상품 목록 가격순",
+                        "SELECT product_id FROM product WHERE product_status = 'AVAILABLE' AND start_price >= 10000 "
+                                + "AND (start_price > 10000 OR product_id > 10) "
+                                + "ORDER BY start_price, product_id FETCH FIRST 21 ROWS ONLY",
+                        "product", "idx_product_status_start_price",
+                        List.of("product_status", "start_price", "product_id")),
+                Arguments.of("경매별 최고 입찰가",
+                        "SELECT MAX(bid_amount) FROM bid WHERE auction_event_id = 1",
+                        "bid", "idx_bid_auction_event_id_bid_amount", List.of("auction_event_id", "bid_amount")),
+                Arguments.of("찜 여부 확인",
+                        "SELECT wish_list_id FROM wishlist WHERE user_id = 1 AND product_id = 1",
+                        "wishlist", "idx_wishlist_user_id_product_id", List.of("user_id", "product_id")),
+                Arguments.of("찜 목록",
+                        "SELECT wish_list_id FROM wishlist WHERE user_id = 1 AND wish_list_id < 1000 "
+                                + "ORDER BY wish_list_id DESC FETCH FIRST 21 ROWS ONLY",
+                        "wishlist", "idx_wishlist_user_id_wish_list_id", List.of("user_id", "wish_list_id")),
+                Arguments.of("안 읽은 알림 개수",
+                        "SELECT COUNT(*) FROM notification WHERE user_id = 1 AND is_read = FALSE",
+                        "notification", "idx_notification_user_id_is_read", List.of("user_id", "is_read")),
+                Arguments.of("포인트 내역",
+                        "SELECT transaction_id FROM point_transaction WHERE user_id = 1 "
+                                + "ORDER BY created_at DESC FETCH FIRST 20 ROWS ONLY",
+                        "point_transaction", "idx_point_transaction_user_id_created_at",
+                        List.of("user_id", "created_at")),
+                Arguments.of("주문 내역",
+                        "SELECT order_id FROM order_info WHERE winner_id = 1 AND order_id < 1000 "
+                                + "ORDER BY order_id DESC FETCH FIRST 21 ROWS ONLY",
+                        "order_info", "idx_order_info_winner_id_order_id", List.of("winner_id", "order_id"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("핫 쿼리는 선언된 인덱스가 있고 테이블 전체 스캔을 하지 않는다")
+    void hotQuery_UsesIndex(String description, String sql, String table, String index, List<String> columns) {
+        assertThat(indexColumns(table, index))
+                .as("%s: %s.%s 인덱스 컬럼", description, table, index)
+                .containsExactlyElementsOf(columns);
+
+        String plan = explain(sql);
+        assertThat(plan)
+                .as("%s 실행 계획:%n%s", description, plan)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("인덱스가 없는 조건은 전체 스캔으로 잡힌다 (검사 자체가 동작하는지 확인)")
+    void unindexedQuery_IsReportedAsTableScan() {
+        String plan = explain("SELECT product_id FROM product WHERE description = 'x'");
+
+        assertThat(plan).containsIgnoringCase("tableScan");
+    }
+
+    private String explain(String sql) {
+        List<?> rows = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+        return rows.stream().map(String::valueOf).reduce("", String::concat);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> indexColumns(String table, String index) {
+        return ((List<Object>) entityManager.createNativeQuery(
+                        "SELECT column_name FROM information_schema.index_columns "
+                                + "WHERE UPPER(table_name) = UPPER(:table) AND UPPER(index_name) = UPPER(:index) "
+                                + "ORDER BY ordinal_position")
+                .setParameter("table", table)
+                .setParameter("index", index)
+                .getResultList())
+                .stream()
+                .map(column -> String.valueOf(column).toLowerCase())
+                .toList();
+    }
+}
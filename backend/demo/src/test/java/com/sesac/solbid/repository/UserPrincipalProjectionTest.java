@@ -0,0 +1,113 @@
+package com.sesac.solbid.repository;
+
+import com.sesac.solbid.domain.User;
+import com.sesac.solbid.domain.enums.UserStatus;
+import com.sesac.solbid.domain.enums.UserType;
+import com.sesac.solbid.repository.projection.UserCredentialView;
+import com.sesac.solbid.repository.projection.UserPrincipalView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 인증용 프로젝션 조회 테스트
+ * 엔티티 조회 대비 영속성 컨텍스트 적재 여부와 요청당 할당량을 비교한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+@ActiveProfiles("test")
+@DisplayName("UserPrincipalView 프로젝션 테스트")
+class UserPrincipalProjectionTest {
+
+    private static final String EMAIL = "principal@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .password("encoded-password")
+                .nickname("프린시펄")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("필요한 컬럼만 조회하고 User 엔티티는 영속성 컨텍스트에 올리지 않는다")
+    void findPrincipalByEmail_DoesNotLoadEntity() {
+        UserPrincipalView principal = userRepository.findPrincipalByEmail(EMAIL).orElseThrow();
+
+        assertThat(principal.userId()).isNotNull();
+        assertThat(principal.email()).isEqualTo(EMAIL);
+        assertThat(principal.nickname()).isEqualTo("프린시펄");
+        assertThat(principal.userType()).isEqualTo(UserType.USER);
+        assertThat(principal.userStatus()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그인용 프로젝션은 비밀번호 해시를 포함한다")
+    void findCredentialByEmail_IncludesPassword() {
+        UserCredentialView credential = userRepository.findCredentialByEmail(EMAIL).orElseThrow();
+
+        assertThat(credential.password()).isEqualTo("encoded-password");
+        assertThat(credential.toPrincipal().email()).isEqualTo(EMAIL);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청당 할당량: 프로젝션 조회가 엔티티 조회보다 적다")
+    void findPrincipalByEmail_AllocatesLessThanEntity() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+
+        int warmup = 200;
+        int iterations = 1_000;
+        Runnable entityLookup = () -> {
+            userRepository.findByEmail(EMAIL);
+            entityManager.clear();
+        };
+        Runnable principalLookup = () -> {
+            userRepository.findPrincipalByEmail(EMAIL);
+            entityManager.clear();
+        };
+
+        repeat(entityLookup, warmup);
+        repeat(principalLookup, warmup);
+        long entityBytes = allocatedPerCall(threadMXBean, entityLookup, iterations);
+        long principalBytes = allocatedPerCall(threadMXBean, principalLookup, iterations);
+
+        assertThat(principalBytes)
+                .as("findPrincipalByEmail: %d B/call, findByEmail: %d B/call", principalBytes, entityBytes)
+                .isLessThan(entityBytes);
+    }
+
+    private long allocatedPerCall(com.sun.management.ThreadMXBean threadMXBean, Runnable action, int iterations) {
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        repeat(action, iterations);
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / iterations;
+    }
+
+    private void repeat(Runnable action, int times) {
+        for (int i = 0; i < times; i++) {
+            action.run();
+        }
+    }
+}
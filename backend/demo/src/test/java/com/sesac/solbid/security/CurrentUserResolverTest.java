@@ -0,0 +1,78 @@
+package com.sesac.solbid.security;
+
+import com.sesac.solbid.domain.enums.UserStatus;
+import com.sesac.solbid.domain.enums.UserType;
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.repository.projection.UserPrincipalView;
+import com.sesac.solbid.service.UserService;
+import com.sesac.solbid.util.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CurrentUserResolver 단위 테스트")
+class CurrentUserResolverTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private CurrentUserResolver currentUserResolver;
+
+    @Test
+    @DisplayName("유효한 accessToken 쿠키면 사용자 ID 를 돌려준다")
+    void currentUserId_ValidToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("refreshToken", "refresh"), new Cookie("accessToken", "access"));
+        when(jwtUtil.validateToken("access")).thenReturn(true);
+        when(jwtUtil.getUsernameFromToken("access")).thenReturn("test@example.com");
+        when(userService.getPrincipalByEmail("test@example.com")).thenReturn(
+                new UserPrincipalView(7L, "test@example.com", "tester", UserType.USER, UserStatus.ACTIVE));
+
+        assertThat(currentUserResolver.currentUserId(request)).contains(7L);
+    }
+
+    @Test
+    @DisplayName("쿠키가 없으면 토큰을 검사하지 않고 empty")
+    void currentUserId_NoCookie() {
+        assertThat(currentUserResolver.currentUserId(new MockHttpServletRequest())).isEmpty();
+        verifyNoInteractions(jwtUtil, userService);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이면 empty")
+    void currentUserId_InvalidToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("accessToken", "expired"));
+        when(jwtUtil.validateToken("expired")).thenReturn(false);
+
+        assertThat(currentUserResolver.currentUserId(request)).isEmpty();
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("토큰의 사용자가 없으면 empty")
+    void currentUserId_UnknownUser() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("accessToken", "access"));
+        when(jwtUtil.validateToken("access")).thenReturn(true);
+        when(jwtUtil.getUsernameFromToken("access")).thenReturn("gone@example.com");
+        when(userService.getPrincipalByEmail("gone@example.com")).thenThrow(new CustomException(ErrorCode.LOGIN_FAILED));
+
+        assertThat(currentUserResolver.currentUserId(request)).isEmpty();
+    }
+}
@@ -0,0 +1,156 @@
+package com.sesac.solbid.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sesac.solbid.domain.User;
+import com.sesac.solbid.dto.ProductBulkImportDto;
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.repository.UserRepository;
+import com.sesac.solbid.service.importer.ProductRowReader;
+import com.sesac.solbid.service.search.ProductSearchIndex;
+import com.sesac.solbid.service.search.ProductTextIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ProductBulkImportService 테스트 (H2 MySQL 모드)
+ * 스트리밍 파싱, 행 검증/오류 보고, 배치 저장과 검색 인덱스 반영을 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.datasource.url=jdbc:h2:mem:product_import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@DisplayName("ProductBulkImportService 테스트")
+class ProductBulkImportServiceTest {
+
+    private static final String HEADER =
+            "brand,name,category,size,startPrice,confirmationPrice,startDate,endDate,condition,description";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ProductSearchIndex productSearchIndex;
+    private ProductTextIndex productTextIndex;
+    private ProductBulkImportService service;
+    private Long sellerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM product");
+        userRepository.deleteAll();
+        sellerId = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .password("encoded-password")
+                .nickname("판매자")
+                .build()).getUserId();
+        productSearchIndex = mock(ProductSearchIndex.class);
+        productTextIndex = mock(ProductTextIndex.class);
+        service = new ProductBulkImportService(jdbcTemplate, new TransactionTemplate(transactionManager),
+                productSearchIndex, productTextIndex, new ObjectMapper(), 2, 10);
+    }
+
+    @Test
+    @DisplayName("CSV: 잘못된 행은 줄 번호와 이유를 보고하고 나머지는 배치로 저장한다")
+    void importCsv_ReportsInvalidRowsAndSavesRest() throws IOException {
+        String csv = "\uFEFF" + HEADER + "\r\n"
+                + "NIKE,에어포스 1,SNEAKERS,270,100000,150000,2025-03-01,2025-03-10,NEW,\"깨끗함, 박스 포함\r\n두 번째 줄\"\r\n"
+                + "puma,스웨이드,CANVAS,250,50000,80000,2025-03-01,2025-03-05,USED,\r\n"
+                + "FILA,디스럽터,SNEAKERS,260,30000,50000,2025-03-01,2025-03-05,NEW,\r\n"
+                + "NB,990,RUNNING,310,30000,50000,2025-03-05,2025-03-01,NEW,\r\n"
+                + "\r\n"
+                + "ASICS,젤 카야노,RUNNING,280,10000,20000,2025-03-01,2025-03-02,NEW,\"\"\"한정판\"\"\"";
+
+        ProductBulkImportDto.Result result = importAs(ProductRowReader.Format.CSV, csv);
+
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ProductBulkImportDto.RowError::getLine).containsExactly(5L, 6L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("FILA");
+        assertThat(result.getErrors().get(1).getMessage()).contains("size", "endDate");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT product_brand FROM product WHERE seller_id = ? ORDER BY product_id", String.class, sellerId))
+                .containsExactly("NIKE", "PUMA", "ASICS");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT description FROM product WHERE product_brand = 'NIKE'", String.class))
+                .startsWith("깨끗함, 박스 포함").endsWith("두 번째 줄");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT description FROM product WHERE product_brand = 'ASICS'", String.class))
+                .isEqualTo("\"한정판\"");
+        verify(productSearchIndex, times(2)).upsertAll(anyCollection());
+        verify(productTextIndex, times(3)).upsert(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("NDJSON: 문법이 틀린 줄이 있어도 다음 줄부터 계속 읽는다")
+    void importNdjson_ContinuesAfterMalformedLine() throws IOException {
+        String ndjson = """
+                {"name":"조던 1","brand":"nike","category":"BASKETBALL","size":275,"startPrice":200000,"confirmationPrice":300000,"startDate":"2025-04-01","endDate":"2025-04-07","condition":"NEW","description":"미개봉"}
+                {"name":"broken",
+                {"name":"","brand":"NIKE"}
+
+                {"name":"척테일러","brand":"CONVERSE","category":"CANVAS","size":"265","startPrice":30000,"confirmationPrice":45000,"startDate":"2025-04-01","endDate":"2025-04-03","condition":"USED"}
+                """;
+
+        ProductBulkImportDto.Result result = importAs(ProductRowReader.Format.NDJSON, ndjson);
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ProductBulkImportDto.RowError::getLine).containsExactly(2L, 3L);
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("JSON 형식이 잘못되었습니다");
+        assertThat(result.getErrors().get(1).getMessage()).contains("name", "category", "startDate");
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM product ORDER BY product_id", String.class))
+                .containsExactly("조던 1", "척테일러");
+    }
+
+    @Test
+    @DisplayName("필수 열이 빠진 CSV 헤더는 아무것도 저장하지 않고 거부한다")
+    void importCsv_MissingColumn_Rejected() {
+        String csv = "brand,name,category\nNIKE,에어포스 1,SNEAKERS\n";
+
+        assertThatThrownBy(() -> importAs(ProductRowReader.Format.CSV, csv))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_IMPORT_HEADER);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Integer.class)).isZero();
+    }
+
+    private ProductBulkImportDto.Result importAs(ProductRowReader.Format format, String body) throws IOException {
+        return service.importProducts(sellerId, format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+}
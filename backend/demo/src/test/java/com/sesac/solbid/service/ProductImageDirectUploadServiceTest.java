@@ -0,0 +1,126 @@
+package com.sesac.solbid.service;
+
+import com.sesac.solbid.dto.ProductImageUploadDto;
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.service.image.ImageBlobStore;
+import com.sesac.solbid.service.storage.DirectUpload;
+import com.sesac.solbid.service.storage.DirectUploadSigner;
+import com.sesac.solbid.service.storage.ObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ProductImageDirectUploadService 단위 테스트
+ * 업로드 주소 발급, 이미 있는 내용의 업로드 생략, 등록 시 업로드 확인을 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductImageDirectUploadService 단위 테스트")
+class ProductImageDirectUploadServiceTest {
+
+    private static final String SHA256 = "0f".repeat(32);
+    private static final String KEY = SHA256 + ".jpg";
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    @Mock
+    private DirectUploadSigner signer;
+
+    @Mock
+    private ImageBlobStore imageBlobStore;
+
+    private ProductImageDirectUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProductImageDirectUploadService(objectStorage, signer, imageBlobStore, 1024 * 1024, 15);
+    }
+
+    @Test
+    @DisplayName("새 내용은 해시 키로 업로드 주소를 발급하고 GC 유예를 시작한다")
+    void prepare_NewContent_IssuesUploadUrl() {
+        DirectUpload upload = new DirectUpload("https://bucket/put", "PUT",
+                Map.of("x-amz-checksum-sha256", "..."), Instant.parse("2025-03-01T00:15:00Z"));
+        when(signer.sign(KEY, "image/jpeg", 2048, SHA256, Duration.ofMinutes(15))).thenReturn(upload);
+
+        List<ProductImageUploadDto.UploadTicket> tickets = service.prepare(List.of(
+                new ProductImageUploadDto.FileSpec("Shoe.JPG", "image/jpeg", 2048, SHA256.toUpperCase())));
+
+        assertThat(tickets).singleElement().satisfies(ticket -> {
+            assertThat(ticket.getKey()).isEqualTo(KEY);
+            assertThat(ticket.isUploadRequired()).isTrue();
+            assertThat(ticket.getUrl()).isEqualTo("https://bucket/put");
+            assertThat(ticket.getHeaders()).containsKey("x-amz-checksum-sha256");
+        });
+        verify(imageBlobStore).touch(KEY);
+    }
+
+    @Test
+    @DisplayName("이미 참조 중인 내용은 업로드 주소 없이 키만 돌려준다")
+    void prepare_ExistingContent_SkipsUpload() {
+        when(imageBlobStore.isReferenced(KEY)).thenReturn(true);
+
+        List<ProductImageUploadDto.UploadTicket> tickets = service.prepare(List.of(
+                new ProductImageUploadDto.FileSpec("again.jpg", "image/jpeg", 2048, SHA256)));
+
+        assertThat(tickets).singleElement().satisfies(ticket -> {
+            assertThat(ticket.getKey()).isEqualTo(KEY);
+            assertThat(ticket.isUploadRequired()).isFalse();
+            assertThat(ticket.getUrl()).isNull();
+        });
+        verify(signer, never()).sign(anyString(), anyString(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 이미지는 주소를 발급하지 않는다")
+    void prepare_TooLarge_Rejected() {
+        assertThatThrownBy(() -> service.prepare(List.of(
+                new ProductImageUploadDto.FileSpec("big.jpg", "image/jpeg", 1024 * 1024 + 1, SHA256))))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IMAGE_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("등록할 때 저장소에 올라온 해시 키만 받아들인다")
+    void confirm_RequiresUploadedContentKey() throws IOException {
+        String missing = "1a".repeat(32) + ".jpg";
+        when(objectStorage.exists(KEY)).thenReturn(true);
+        when(objectStorage.exists(missing)).thenReturn(false);
+        when(objectStorage.url(KEY)).thenReturn("https://cdn/" + KEY);
+
+        List<ProductImageService.UploadedImage> images = service.confirm(List.of(
+                new ProductImageUploadDto.UploadedFile(KEY, "shoe.jpg")));
+
+        assertThat(images).containsExactly(new ProductImageService.UploadedImage(KEY, "https://cdn/" + KEY, "shoe.jpg"));
+        assertThatThrownBy(() -> service.confirm(List.of(
+                new ProductImageUploadDto.UploadedFile(KEY + ".thumb.jpg", "shoe.jpg"))))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IMAGE_NOT_UPLOADED);
+        assertThatThrownBy(() -> service.confirm(List.of(
+                new ProductImageUploadDto.UploadedFile(missing, "other.jpg"))))
+                .isInstanceOf(CustomException.class);
+        verify(imageBlobStore).touch(missing);
+    }
+}
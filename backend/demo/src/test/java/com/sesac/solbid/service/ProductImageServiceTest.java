@@ -0,0 +1,169 @@
+package com.sesac.solbid.service;
+
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import com.sesac.solbid.repository.ProductImageRepository;
+import com.sesac.solbid.service.image.ImageBlobStore;
+import com.sesac.solbid.service.storage.ContentHash;
+import com.sesac.solbid.service.storage.ObjectStorage;
+import com.sesac.solbid.service.storage.S3ObjectStorage;
+import com.sesac.solbid.support.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ProductImageService 병렬 업로드 테스트 (로컬 S3 대역 사용)
+ */
+@DisplayName("ProductImageService 병렬 업로드 테스트")
+class ProductImageServiceTest {
+
+    private static final String BUCKET = "solbid-test";
+    private static final int CONCURRENCY = 8;
+
+    private FakeS3Server s3;
+    private ThreadPoolTaskExecutor executor;
+    private JdbcTemplate jdbcTemplate;
+    private ImageBlobStore imageBlobStore;
+    private ProductImageService productImageService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new FakeS3Server();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(CONCURRENCY);
+        executor.setMaxPoolSize(CONCURRENCY);
+        executor.initialize();
+        jdbcTemplate = mock(JdbcTemplate.class);
+        imageBlobStore = mock(ImageBlobStore.class);
+        ObjectStorage storage = new S3ObjectStorage(s3.client(), BUCKET, "https://cdn.example.com", 8 * 1024 * 1024, 2);
+        productImageService = new ProductImageService(mock(ProductImageRepository.class), storage, imageBlobStore,
+                jdbcTemplate, executor);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        executor.shutdown();
+        s3.close();
+    }
+
+    @Test
+    @DisplayName("이미지를 동시에 올려 전체 시간이 가장 느린 한 장에 가깝고, 결과는 입력 순서를 유지한다")
+    void uploadAll_UploadsConcurrentlyInOrder() {
+        long latency = 250;
+        s3.latency(latency);
+        List<MultipartFile> files = images(CONCURRENCY);
+
+        long started = System.nanoTime();
+        List<ProductImageService.UploadedImage> uploaded = productImageService.uploadAll(files);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(uploaded).extracting(ProductImageService.UploadedImage::fileName)
+                .containsExactly(files.stream().map(MultipartFile::getOriginalFilename).toArray(String[]::new));
+        assertThat(s3.objectCount()).isEqualTo(CONCURRENCY);
+        // 순차 업로드면 latency x 8 = 2초
+        assertThat(elapsedMillis).isLessThan(latency * CONCURRENCY / 2);
+    }
+
+    @Test
+    @DisplayName("한 장이라도 실패하면 FILE_UPLOAD_FAILED, 먼저 올라간 이미지는 공유 중일 수 있어 바로 지우지 않는다")
+    void uploadAll_PartialFailure_LeavesCleanupToGc() {
+        List<MultipartFile> files = images(6);
+        s3.failPutsEndingWith(contentKey(files.get(3)));
+
+        assertThatThrownBy(() -> productImageService.uploadAll(files))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FILE_UPLOAD_FAILED);
+
+        assertThat(s3.operations()).doesNotContain("DeleteObjects");
+        // 쓰기 전에 참조 0 행을 만들어 두므로 남은 객체는 GC 대상이 된다
+        files.forEach(file -> verify(imageBlobStore).touch(contentKey(file)));
+    }
+
+    @Test
+    @DisplayName("허용하지 않는 형식(SVG 등)이 섞여 있으면 한 장도 올리지 않고 UNSUPPORTED_IMAGE_TYPE")
+    void uploadAll_UnsupportedType_UploadsNothing() {
+        MultipartFile svg = new MockMultipartFile("files", "logo.svg", "image/svg+xml",
+                "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>".getBytes());
+        List<MultipartFile> files = List.of(images(1).get(0), svg);
+
+        assertThatThrownBy(() -> productImageService.uploadAll(files))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UNSUPPORTED_IMAGE_TYPE);
+
+        assertThat(s3.objectCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 이미지는 파일 이름과 상관없이 같은 키가 되고, 이미 참조 중이면 다시 올리지 않는다")
+    void uploadAll_SameContent_SkipsStorageWrite() {
+        byte[] photo = new byte[32 * 1024];
+        photo[0] = 1;
+        MultipartFile first = new MockMultipartFile("files", "shoe.JPG", "image/jpeg", photo);
+        MultipartFile second = new MockMultipartFile("files", "same-shoe.jpg", "image/jpeg", photo);
+        String key = ContentHash.sha256Hex(photo) + ".jpg";
+
+        List<ProductImageService.UploadedImage> uploaded = productImageService.uploadAll(List.of(first));
+        when(imageBlobStore.isReferenced(key)).thenReturn(true);
+        List<ProductImageService.UploadedImage> reused = productImageService.uploadAll(List.of(second));
+
+        assertThat(uploaded.get(0).key()).isEqualTo(key);
+        assertThat(reused.get(0).key()).isEqualTo(key);
+        assertThat(reused.get(0).fileName()).isEqualTo("same-shoe.jpg");
+        assertThat(s3.operations()).containsOnlyOnce("PutObject");
+        assertThat(s3.object(BUCKET, key).content()).isEqualTo(photo);
+    }
+
+    @Test
+    @DisplayName("이미지 행은 배치 INSERT 한 번으로 저장하고 첫 번째 이미지를 썸네일로 표시하며 참조 수를 올린다")
+    @SuppressWarnings("unchecked")
+    void insertAll_SingleBatch() {
+        List<ProductImageService.UploadedImage> images = List.of(
+                new ProductImageService.UploadedImage("k0", "https://cdn/k0", "a.jpg"),
+                new ProductImageService.UploadedImage("k1", "https://cdn/k1", "b.jpg"),
+                new ProductImageService.UploadedImage("k2", "https://cdn/k2", "c.jpg"));
+
+        productImageService.insertAll(7L, images);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(ProductImageService.INSERT_SQL), rows.capture());
+        assertThat(rows.getValue())
+                .extracting(row -> row[0] + ":" + row[1] + ":" + row[3] + ":" + row[4])
+                .containsExactly("7:https://cdn/k0:0:true", "7:https://cdn/k1:1:false", "7:https://cdn/k2:2:false");
+        verify(imageBlobStore).acquire(List.of("k0", "k1", "k2"));
+    }
+
+    private static String contentKey(MultipartFile file) {
+        try {
+            return ContentHash.sha256Hex(file.getBytes()) + ".jpg";
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<MultipartFile> images(int count) {
+        return IntStream.range(0, count)
+                .<MultipartFile>mapToObj(i -> new MockMultipartFile("files", "photo" + i + ".jpg", "image/jpeg",
+                        new byte[64 * 1024 + i]))
+                .toList();
+    }
+}
@@ -0,0 +1,141 @@
+package com.sesac.solbid.service;
+
+import com.sesac.solbid.domain.SocialLogin;
+import com.sesac.solbid.domain.User;
+import com.sesac.solbid.domain.enums.ProviderType;
+import com.sesac.solbid.exception.OAuth2Exception;
+import com.sesac.solbid.repository.SocialLoginRepository;
+import com.sesac.solbid.repository.UserRepository;
+import com.sesac.solbid.util.JwtUtil;
+import com.sesac.solbid.util.TemporaryNicknameGenerator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 소셜로그인 saveOrUpdate 가 실행하는 SQL 문 개수 검증 (Hibernate Statistics)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@ActiveProfiles("test")
+@Import({UserService.class, TemporaryNicknameGenerator.class})
+@DisplayName("UserService 소셜로그인 쿼리 수 테스트")
+class UserServiceSocialLoginQueryCountTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SocialLoginRepository socialLoginRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("재방문 소셜 사용자 - SQL 1회 (social_login + user fetch join)")
+    void saveOrUpdate_ExistingSocialUser_SingleStatement() {
+        User user = userRepository.save(User.builder().email("returning@example.com").nickname("재방문").build());
+        socialLoginRepository.save(SocialLogin.builder().user(user).provider(ProviderType.Google).providerId("g-1").build());
+        resetPersistenceContext();
+
+        User result = userService.saveOrUpdate("google", googleAttributes("g-1", "returning@example.com"));
+        entityManager.flush();
+
+        assertThat(result.getEmail()).isEqualTo("returning@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기존 이메일 사용자 소셜 연결 - 조회 2회 + INSERT 1회")
+    void saveOrUpdate_ExistingEmailUser_ThreeStatements() {
+        userRepository.save(User.builder().email("email@example.com").nickname("이메일유저").build());
+        resetPersistenceContext();
+
+        userService.saveOrUpdate("google", googleAttributes("g-2", "email@example.com"));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "g-2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("신규 사용자 - 조회 2회 + INSERT 2회, 닉네임 중복 조회 없음")
+    void saveOrUpdate_NewUser_FourStatements() {
+        resetPersistenceContext();
+
+        User result = userService.saveOrUpdate("google", googleAttributes("g-3", "new@example.com"));
+        entityManager.flush();
+
+        assertThat(result.getNickname()).startsWith(TemporaryNicknameGenerator.PREFIX);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 provider 로 연결된 이메일 - 충돌 예외")
+    void saveOrUpdate_EmailLinkedToOtherProvider_ThrowsConflict() {
+        User user = userRepository.save(User.builder().email("conflict@example.com").nickname("카카오유저").build());
+        socialLoginRepository.save(SocialLogin.builder().user(user).provider(ProviderType.Kakao).providerId("k-1").build());
+
+        assertThatThrownBy(() -> userService.saveOrUpdate("google", googleAttributes("g-4", "conflict@example.com")))
+                .isInstanceOf(OAuth2Exception.class);
+    }
+
+    @Test
+    @DisplayName("social_login(provider, provider_id) 유니크 제약")
+    void socialLogin_DuplicateProviderId_Rejected() {
+        User first = userRepository.save(User.builder().email("first@example.com").nickname("첫번째").build());
+        User second = userRepository.save(User.builder().email("second@example.com").nickname("두번째").build());
+        socialLoginRepository.save(SocialLogin.builder().user(first).provider(ProviderType.Google).providerId("dup").build());
+
+        assertThatThrownBy(() -> socialLoginRepository.saveAndFlush(
+                SocialLogin.builder().user(second).provider(ProviderType.Google).providerId("dup").build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void resetPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Map<String, Object> googleAttributes(String sub, String email) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("sub", sub);
+        attributes.put("email", email);
+        attributes.put("name", "Google User");
+        return attributes;
+    }
+}
@@ -5,19 +5,24 @@ import com.sesac.solbid.domain.User;
 import com.sesac.solbid.domain.enums.ProviderType;
 import com.sesac.solbid.domain.enums.UserStatus;
 import com.sesac.solbid.domain.enums.UserType;
+import com.sesac.solbid.exception.OAuth2Exception;
 import com.sesac.solbid.repository.SocialLoginRepository;
 import com.sesac.solbid.repository.UserRepository;
+import com.sesac.solbid.repository.projection.UserSocialLinkView;
 import com.sesac.solbid.util.JwtUtil;
+import com.sesac.solbid.util.TemporaryNicknameGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -45,6 +50,9 @@ class UserServiceSocialLoginTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Spy
+    private TemporaryNicknameGenerator temporaryNicknameGenerator = new TemporaryNicknameGenerator(0);
+
     @InjectMocks
     private UserService userService;
 
@@ -109,7 +117,7 @@ class UserServiceSocialLoginTest {
         assertThat(result.getNickname()).isEqualTo("기존사용자");
 
         verify(socialLoginRepository).findByProviderAndProviderId(ProviderType.Google, "google-user-123");
-        verify(userRepository, never()).findByEmail(any());
+        verify(userRepository, never()).findSocialLinksByEmail(any());
         verify(userRepository, never()).save(any());
         verify(socialLoginRepository, never()).save(any());
     }
@@ -120,8 +128,8 @@ class UserServiceSocialLoginTest {
         // Given
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("google@example.com"))
-                .thenReturn(Optional.of(existingUser));
+        when(userRepository.findSocialLinksByEmail("google@example.com"))
+                .thenReturn(List.of(unlinked(existingUser)));
         when(socialLoginRepository.save(any(SocialLogin.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -132,7 +140,7 @@ class UserServiceSocialLoginTest {
         assertThat(result).isEqualTo(existingUser);
 
         verify(socialLoginRepository).findByProviderAndProviderId(ProviderType.Google, "google-user-123");
-        verify(userRepository).findByEmail("google@example.com");
+        verify(userRepository).findSocialLinksByEmail("google@example.com");
         verify(userRepository, never()).save(any(User.class));
         verify(socialLoginRepository).save(argThat(socialLogin ->
             socialLogin.getUser().equals(existingUser) &&
@@ -147,8 +155,8 @@ class UserServiceSocialLoginTest {
         // Given
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("google@example.com"))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("google@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         when(socialLoginRepository.save(any(SocialLogin.class)))
@@ -165,7 +173,8 @@ class UserServiceSocialLoginTest {
         assertThat(result.getPhone()).isNull();
 
         verify(socialLoginRepository).findByProviderAndProviderId(ProviderType.Google, "google-user-123");
-        verify(userRepository).findByEmail("google@example.com");
+        verify(userRepository).findSocialLinksByEmail("google@example.com");
+        verify(userRepository, never()).findByNickname(any()); // 임시 닉네임은 DB 중복 조회 없이 생성
         verify(userRepository).save(argThat(user ->
             user.getEmail().equals("google@example.com") &&
             user.getNickname().startsWith("user_") &&
@@ -185,8 +194,8 @@ class UserServiceSocialLoginTest {
         // Given
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Kakao, "12345"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("kakao@example.com"))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("kakao@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         when(socialLoginRepository.save(any(SocialLogin.class)))
@@ -201,7 +210,7 @@ class UserServiceSocialLoginTest {
         assertThat(result.getName()).isEqualTo("Kakao User");
 
         verify(socialLoginRepository).findByProviderAndProviderId(ProviderType.Kakao, "12345");
-        verify(userRepository).findByEmail("kakao@example.com");
+        verify(userRepository).findSocialLinksByEmail("kakao@example.com");
         verify(userRepository).save(any(User.class));
         verify(socialLoginRepository).save(any(SocialLogin.class));
     }
@@ -212,8 +221,8 @@ class UserServiceSocialLoginTest {
         // Given
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("google@example.com"))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("google@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -238,8 +247,8 @@ class UserServiceSocialLoginTest {
         // Given
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Kakao, "12345"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("kakao@example.com"))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("kakao@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -281,8 +290,8 @@ class UserServiceSocialLoginTest {
 
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(null))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail(null))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -319,8 +328,8 @@ class UserServiceSocialLoginTest {
 
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("google@example.com"))
-                .thenReturn(Optional.of(existingUserWithDifferentInfo));
+        when(userRepository.findSocialLinksByEmail("google@example.com"))
+                .thenReturn(List.of(unlinked(existingUserWithDifferentInfo)));
 
         // When
         User result = userService.saveOrUpdate("google", googleUserAttributes);
@@ -369,8 +378,8 @@ class UserServiceSocialLoginTest {
 
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Kakao, "12345"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("kakao@example.com"))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("kakao@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -411,8 +420,8 @@ class UserServiceSocialLoginTest {
         // Given
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("google@example.com"))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("google@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         when(socialLoginRepository.save(any(SocialLogin.class)))
@@ -438,8 +447,8 @@ class UserServiceSocialLoginTest {
 
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(""))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail(""))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         when(socialLoginRepository.save(any(SocialLogin.class)))
@@ -461,8 +470,8 @@ class UserServiceSocialLoginTest {
 
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(null))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail(null))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         when(socialLoginRepository.save(any(SocialLogin.class)))
@@ -488,8 +497,8 @@ class UserServiceSocialLoginTest {
 
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("google@example.com"))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("google@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenReturn(newUser);
         when(socialLoginRepository.save(any(SocialLogin.class)))
@@ -512,8 +521,8 @@ class UserServiceSocialLoginTest {
         // Given
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("google@example.com"))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("google@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenThrow(new org.springframework.dao.DataIntegrityViolationException("Duplicate entry"));
 
@@ -539,8 +548,8 @@ class UserServiceSocialLoginTest {
 
         when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Kakao, "12345"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(null))
-                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail(null))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         when(socialLoginRepository.save(any(SocialLogin.class)))
@@ -551,6 +560,47 @@ class UserServiceSocialLoginTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("기존 이메일 사용자가 다른 소셜 계정과 연결된 경우 충돌 예외")
+    void saveOrUpdate_EmailLinkedToOtherProvider_ThrowsConflict() {
+        // Given
+        when(socialLoginRepository.findByProviderAndProviderId(ProviderType.Google, "google-user-123"))
+                .thenReturn(Optional.empty());
+        when(userRepository.findSocialLinksByEmail("google@example.com"))
+                .thenReturn(List.of(linked(existingUser, ProviderType.Kakao)));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.saveOrUpdate("google", googleUserAttributes))
+                .isInstanceOf(OAuth2Exception.class);
+
+        verify(socialLoginRepository, never()).findByUser(any());
+        verify(socialLoginRepository, never()).save(any(SocialLogin.class));
+    }
+
+    /**
+     * 소셜 계정이 연결되지 않은 이메일 사용자 조회 결과
+     */
+    private UserSocialLinkView unlinked(User user) {
+        return linked(user, null);
+    }
+
+    /**
+     * 이메일 사용자와 연결된 provider 조회 결과
+     */
+    private UserSocialLinkView linked(User user, ProviderType provider) {
+        return new UserSocialLinkView() {
+            @Override
+            public User getUser() {
+                return user;
+            }
+
+            @Override
+            public ProviderType getProvider() {
+                return provider;
+            }
+        };
+    }
+
     /**
      * 리플렉션을 사용하여 User 엔티티의 userId를 설정하는 헬퍼 메서드
      */
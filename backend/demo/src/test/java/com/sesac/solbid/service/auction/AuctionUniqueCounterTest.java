@@ -0,0 +1,130 @@
+package com.sesac.solbid.service.auction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AuctionUniqueCounter 단위 테스트
+ * 노드 로컬 스케치와 DB 스케치의 병합/재시도를 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuctionUniqueCounter 단위 테스트")
+class AuctionUniqueCounterTest {
+
+    private static final Long AUCTION_ID = 1L;
+
+    @Mock
+    private AuctionSketchStore auctionSketchStore;
+
+    private AuctionUniqueCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new AuctionUniqueCounter(auctionSketchStore);
+    }
+
+    @Test
+    @DisplayName("같은 방문자가 여러 번 조회해도 고유 조회자는 한 명이다")
+    void recordViewer_SameVisitor_CountedOnce() {
+        when(auctionSketchStore.exists(AUCTION_ID)).thenReturn(true);
+        when(auctionSketchStore.load(AUCTION_ID)).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 100; i++) {
+            counter.recordViewer(AUCTION_ID, "visitor-a");
+        }
+        counter.recordViewer(AUCTION_ID, "visitor-b");
+        counter.recordBidder(AUCTION_ID, 7L);
+
+        assertThat(counter.uniqueViewers(AUCTION_ID)).isEqualTo(2L);
+        assertThat(counter.uniqueBidders(AUCTION_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 다른 노드가 저장한 스케치를 합친다")
+    void uniqueViewers_MergesStoredSketch() {
+        HyperLogLog stored = new HyperLogLog();
+        stored.offer(HyperLogLog.hash("visitor-a"));
+        stored.offer(HyperLogLog.hash("visitor-z"));
+        when(auctionSketchStore.exists(AUCTION_ID)).thenReturn(true);
+        when(auctionSketchStore.load(AUCTION_ID))
+                .thenReturn(Optional.of(new UniqueSketches(stored, new HyperLogLog())));
+
+        counter.recordViewer(AUCTION_ID, "visitor-a");
+        counter.recordViewer(AUCTION_ID, "visitor-b");
+
+        assertThat(counter.uniqueViewers(AUCTION_ID)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("새 관측이 있는 경매만 저장하고, 저장 후에는 다시 저장하지 않는다")
+    void flush_SavesDirtySketchesOnce() {
+        when(auctionSketchStore.exists(AUCTION_ID)).thenReturn(true);
+        when(auctionSketchStore.mergeAndSave(eq(AUCTION_ID), any()))
+                .thenAnswer(invocation -> Optional.of(invocation.getArgument(1)));
+        counter.recordViewer(AUCTION_ID, "visitor-a");
+
+        counter.flush();
+        counter.flush();
+
+        ArgumentCaptor<UniqueSketches> saved = ArgumentCaptor.forClass(UniqueSketches.class);
+        verify(auctionSketchStore, times(1)).mergeAndSave(eq(AUCTION_ID), saved.capture());
+        assertThat(saved.getValue().viewers().estimate()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 다음 주기에 다시 저장한다")
+    void flush_Failure_RetriesNextCycle() {
+        when(auctionSketchStore.mergeAndSave(eq(AUCTION_ID), any()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenAnswer(invocation -> Optional.of(invocation.getArgument(1)));
+        counter.recordBidder(AUCTION_ID, 7L);
+
+        counter.flush();
+        counter.flush();
+
+        verify(auctionSketchStore, times(2)).mergeAndSave(eq(AUCTION_ID), any());
+    }
+
+    @Test
+    @DisplayName("이미 본 방문자만 다시 조회하면 저장할 것이 없다")
+    void flush_NoNewObservation_SkipsSave() {
+        when(auctionSketchStore.exists(AUCTION_ID)).thenReturn(true);
+        when(auctionSketchStore.mergeAndSave(eq(AUCTION_ID), any()))
+                .thenAnswer(invocation -> Optional.of(invocation.getArgument(1)));
+        counter.recordViewer(AUCTION_ID, "visitor-a");
+        counter.flush();
+
+        counter.recordViewer(AUCTION_ID, "visitor-a");
+        counter.flush();
+
+        verify(auctionSketchStore, times(1)).mergeAndSave(eq(AUCTION_ID), any());
+        verify(auctionSketchStore, never()).load(any());
+    }
+
+    @Test
+    @DisplayName("없는 경매의 조회자는 기록하지 않는다 (스케치를 만들지 않음)")
+    void recordViewer_UnknownAuction_Ignored() {
+        when(auctionSketchStore.exists(999L)).thenReturn(false);
+
+        counter.recordViewer(999L, "visitor-a");
+        counter.flush();
+
+        verify(auctionSketchStore, never()).mergeAndSave(any(), any());
+    }
+}
@@ -0,0 +1,172 @@
+package com.sesac.solbid.service.auction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AuctionViewCounter 단위 테스트
+ * 증가분 집계, 배치 반영, 실패 시 재시도를 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuctionViewCounter 단위 테스트")
+class AuctionViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuctionViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new AuctionViewCounter(jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("반영 전에도 DB 값 + 대기 증가분으로 실시간 조회수를 계산한다")
+    void current_IncludesPendingViews() {
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.increment(2L);
+
+        assertThat(counter.current(1L, 100L)).isEqualTo(102L);
+        assertThat(counter.current(2L, 0L)).isEqualTo(1L);
+        assertThat(counter.current(3L, 7L)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("경매별 증가분을 배치 UPDATE 한 번으로 반영하고 대기 증가분을 비운다")
+    @SuppressWarnings("unchecked")
+    void flush_WritesDeltasInOneBatch() {
+        for (int i = 0; i < 5; i++) {
+            counter.increment(1L);
+        }
+        counter.increment(2L);
+
+        counter.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(AuctionViewCounter.INCREMENT_SQL), batch.capture());
+        assertThat(batch.getValue())
+                .extracting(row -> row[1] + "=" + row[0])
+                .containsExactlyInAnyOrder("1=5", "2=1");
+        assertThat(counter.pending(1L)).isZero();
+        assertThat(counter.pending(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("증가분이 없으면 DB 에 쓰지 않는다")
+    void flush_NoViews_SkipsUpdate() {
+        counter.flush();
+        counter.increment(1L);
+        counter.flush();
+        counter.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 배치 트랜잭션을 롤백하고 증가분을 되돌려 다음 주기에 다시 반영한다")
+    void flush_Failure_KeepsDeltasForRetry() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        counter.increment(1L);
+        counter.increment(1L);
+
+        counter.flush();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(counter.pending(1L)).isEqualTo(2L);
+        assertThat(counter.current(1L, 10L)).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 증가해도 누락되지 않는다")
+    void increment_Concurrent_NoLostUpdates() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    counter.increment(1L);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counter.pending(1L)).isEqualTo((long) threads * perThread);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영과 유휴 카운터 정리가 증가와 겹쳐도 증가분을 잃지 않는다")
+    @SuppressWarnings("unchecked")
+    void flush_ConcurrentWithIncrements_NoLostViews() throws InterruptedException {
+        AtomicLong persisted = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(eq(AuctionViewCounter.INCREMENT_SQL), any(List.class))).thenAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(row -> persisted.addAndGet((Long) row[0]));
+            return new int[batch.size()];
+        });
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    counter.increment(1L);
+                    // 증가 사이에 빈 주기가 생겨 flush 가 카운터를 정리하는 경로도 타게 한다
+                    if (i % 64 == 0) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        while (!executor.isTerminated()) {
+            counter.flush();
+        }
+        counter.flush();
+
+        assertThat(persisted.get() + counter.pending(1L)).isEqualTo((long) threads * perThread);
+    }
+}
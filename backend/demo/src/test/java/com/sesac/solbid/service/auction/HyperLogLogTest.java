@@ -0,0 +1,79 @@
+package com.sesac.solbid.service.auction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HyperLogLog 테스트")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("작은 개수는 정확하게, 큰 개수는 표준 오차 범위 안으로 추정한다")
+    void estimate_WithinErrorBound() {
+        assertThat(sketchOf(0, 0).estimate()).isZero();
+        assertThat(sketchOf(0, 10).estimate()).isEqualTo(10L);
+        for (int n : new int[]{1_000, 10_000, 100_000}) {
+            // 표준 오차 1.6% 의 3배
+            assertThat((double) sketchOf(0, n).estimate()).isCloseTo(n, within(n * 0.05));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 값을 여러 번 넣어도 추정값이 늘지 않는다")
+    void offer_Duplicates_DoNotCount() {
+        HyperLogLog sketch = sketchOf(0, 1_000);
+        long before = sketch.estimate();
+
+        for (long id = 0; id < 1_000; id++) {
+            assertThat(sketch.offer(HyperLogLog.hash(id))).isFalse();
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("병합 결과는 합집합 스케치와 같고 여러 번 병합해도 달라지지 않는다")
+    void merge_EqualsUnionAndIsIdempotent() {
+        HyperLogLog left = sketchOf(0, 50_000);
+        HyperLogLog right = sketchOf(25_000, 80_000);
+        HyperLogLog union = sketchOf(0, 80_000);
+
+        left.merge(right);
+        assertThat(left).isEqualTo(union);
+        assertThat(left.estimate()).isEqualTo(union.estimate());
+
+        left.merge(right);
+        assertThat(left).isEqualTo(union);
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원해도 같은 스케치이고 크기는 약 3KB 이다")
+    void toBytes_RoundTrip() {
+        HyperLogLog sketch = sketchOf(0, 20_000);
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertThat(bytes).hasSize(2 + 4096 * 6 / 8);
+        assertThat(restored).isEqualTo(sketch);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("정밀도가 다른 스케치는 병합할 수 없다")
+    void merge_DifferentPrecision_Throws() {
+        assertThatThrownBy(() -> new HyperLogLog(12).merge(new HyperLogLog(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private HyperLogLog sketchOf(long fromInclusive, long toExclusive) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long id = fromInclusive; id < toExclusive; id++) {
+            sketch.offer(HyperLogLog.hash(id));
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sesac.solbid.service.category;
+
+import com.sesac.solbid.config.FlywayConfig;
+import com.sesac.solbid.dto.CategoryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CategoryTreeCache 테스트 (H2 MySQL 모드, Flyway 마이그레이션 스키마)
+ * 활성 카테고리만으로 트리와 경로를 만드는지, 버전 스탬프가 바뀔 때만 다시 읽는지 확인한다.
+ * updated_at 은 직접 넣지 않고 마이그레이션의 DB 기본값/ON UPDATE 로 갱신되게 둔다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.datasource.url=jdbc:h2:mem:category_tree;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FlywayConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@DisplayName("CategoryTreeCache 테스트")
+class CategoryTreeCacheTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CategoryTreeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM category");
+        insert(1L, "신발", null, true);
+        insert(2L, "운동화", 1L, true);
+        insert(3L, "단종", 1L, false);
+        insert(4L, "러닝화", 2L, true);
+        // 비활성 부모 아래, 없는 부모 아래
+        insert(5L, "숨김", 3L, true);
+        insert(6L, "고아", 99L, true);
+        insert(7L, "의류", null, true);
+        cache = new CategoryTreeCache(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("활성 카테고리만 루트부터 트리로 만들고 노드마다 경로를 미리 만든다")
+    void tree_BuildsActiveHierarchyWithPaths() {
+        CategoryTree tree = cache.tree();
+
+        assertThat(tree.roots()).extracting(CategoryDto.Node::getCategoryId).containsExactly(1L, 7L);
+        assertThat(tree.roots().get(0).getChildren()).extracting(CategoryDto.Node::getCategoryId).containsExactly(2L);
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.find(5L)).isEmpty();
+        assertThat(tree.find(6L)).isEmpty();
+
+        CategoryDto.Detail running = tree.find(4L).orElseThrow();
+        assertThat(running.getCategory().getPath()).containsExactly(1L, 2L, 4L);
+        assertThat(running.getCategory().getDepth()).isEqualTo(2);
+        assertThat(running.getAncestors()).extracting(CategoryDto.Summary::getName).containsExactly("신발", "운동화");
+        assertThat(tree.eTag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("버전 스탬프가 그대로면 다시 읽지 않고, 바뀌면 새 트리와 새 ETag 로 교체한다")
+    void refresh_ReloadsOnlyWhenStampChanges() {
+        CategoryTree first = cache.tree();
+
+        assertThat(cache.refresh()).isFalse();
+        assertThat(cache.tree()).isSameAs(first);
+
+        jdbcTemplate.update("UPDATE category SET name = ? WHERE category_id = ?", "러닝", 4L);
+        assertThat(cache.refresh()).isTrue();
+
+        CategoryTree second = cache.tree();
+        assertThat(second.eTag()).isNotEqualTo(first.eTag());
+        assertThat(second.find(4L).orElseThrow().getCategory().getName()).isEqualTo("러닝");
+
+        jdbcTemplate.update("DELETE FROM category WHERE category_id = ?", 7L);
+        assertThat(cache.refresh()).isTrue();
+        assertThat(cache.tree().roots()).extracting(CategoryDto.Node::getCategoryId).containsExactly(1L);
+    }
+
+    private void insert(Long id, String name, Long parentId, boolean active) {
+        jdbcTemplate.update("INSERT INTO category (category_id, name, parent_id, is_active) VALUES (?, ?, ?, ?)",
+                id, name, parentId, active);
+    }
+}
@@ -0,0 +1,122 @@
+package com.sesac.solbid.service.image;
+
+import com.sesac.solbid.service.storage.LocalObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageBlobStore 테스트 (H2 MySQL 모드, ON DUPLICATE KEY UPDATE 사용)
+ * 참조 수 증감과, 참조가 없는 객체만 유예 시간 뒤에 지워지는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.datasource.url=jdbc:h2:mem:image_blob;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@DisplayName("ImageBlobStore 테스트")
+class ImageBlobStoreTest {
+
+    private static final Instant START = Instant.parse("2025-03-01T00:00:00Z");
+    private static final Duration GRACE = Duration.ofMinutes(60);
+
+    @TempDir
+    Path root;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jdbcTemplate.update("DELETE FROM image_blob");
+        storage = new LocalObjectStorage(root, "/api/images/");
+    }
+
+    @Test
+    @DisplayName("같은 키를 여러 번 참조하면 한 행에 합산하고, 해제하면 그만큼 내린다")
+    void acquireAndRelease_CountsReferences() {
+        ImageBlobStore store = storeAt(START);
+
+        store.touch("a.jpg");
+        assertThat(store.isReferenced("a.jpg")).isFalse();
+
+        store.acquire(List.of("a.jpg", "b.jpg", "a.jpg"));
+        assertThat(refCount("a.jpg")).isEqualTo(2);
+        assertThat(refCount("b.jpg")).isEqualTo(1);
+        assertThat(store.isReferenced("a.jpg")).isTrue();
+
+        store.touch("a.jpg");
+        store.release(List.of("a.jpg", "b.jpg"));
+        assertThat(refCount("a.jpg")).isEqualTo(1);
+        assertThat(refCount("b.jpg")).isZero();
+        assertThat(store.isReferenced("b.jpg")).isFalse();
+    }
+
+    @Test
+    @DisplayName("참조가 0 인 채로 유예 시간이 지난 객체만 사본과 함께 지운다")
+    void collectGarbage_DeletesOnlyExpiredUnreferenced() throws IOException {
+        ImageBlobStore early = storeAt(START);
+        for (String key : List.of("orphan.jpg", "shared.jpg", "fresh.jpg")) {
+            put(key);
+            early.touch(key);
+        }
+        put(ImageVariant.THUMBNAIL.keyFor("orphan.jpg", "jpg"));
+        early.acquire(List.of("shared.jpg"));
+
+        ImageBlobStore later = storeAt(START.plus(GRACE).minusSeconds(60));
+        later.touch("fresh.jpg");
+
+        int deleted = storeAt(START.plus(GRACE).plusSeconds(1)).collectGarbage();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(storage.open("orphan.jpg")).isEmpty();
+        assertThat(storage.open(ImageVariant.THUMBNAIL.keyFor("orphan.jpg", "jpg"))).isEmpty();
+        assertThat(storage.open("shared.jpg")).isPresent();
+        assertThat(storage.open("fresh.jpg")).isPresent();
+        assertThat(jdbcTemplate.queryForList("SELECT content_key FROM image_blob ORDER BY content_key", String.class))
+                .containsExactly("fresh.jpg", "shared.jpg");
+    }
+
+    private ImageBlobStore storeAt(Instant now) {
+        return new ImageBlobStore(jdbcTemplate, new TransactionTemplate(transactionManager), storage, GRACE, 100,
+                Clock.fixed(now, ZoneId.of("UTC")));
+    }
+
+    private void put(String key) throws IOException {
+        storage.put(key, new ByteArrayInputStream(new byte[]{1, 2, 3}), 3, "image/jpeg");
+    }
+
+    private int refCount(String key) {
+        return jdbcTemplate.queryForObject("SELECT ref_count FROM image_blob WHERE content_key = ?", Integer.class, key);
+    }
+}
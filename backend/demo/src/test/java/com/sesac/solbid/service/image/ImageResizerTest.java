@@ -0,0 +1,92 @@
+package com.sesac.solbid.service.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageResizer 단위 테스트")
+class ImageResizerTest {
+
+    @Test
+    @DisplayName("서브샘플링 간격은 올림으로 정해 긴 변이 maxSide 의 2배를 넘지 않는다")
+    void decode_SubsamplingRoundsUp() throws IOException {
+        byte[] png = encode(new BufferedImage(2500, 10, BufferedImage.TYPE_INT_RGB), "png");
+
+        BufferedImage decoded = ImageResizer.decode(new ByteArrayInputStream(png), 500);
+
+        // 간격 3 (내림이면 2 → 1250)
+        assertThat(decoded.getWidth()).isEqualTo(834);
+    }
+
+    @Test
+    @DisplayName("JPEG 의 EXIF Orientation 대로 돌려서 디코딩한다")
+    void decode_AppliesExifOrientation() throws IOException {
+        byte[] jpeg = withOrientation(encode(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), "jpeg"), 6);
+
+        BufferedImage decoded = ImageResizer.decode(new ByteArrayInputStream(jpeg), 100);
+
+        assertThat(decoded.getWidth()).isEqualTo(20);
+        assertThat(decoded.getHeight()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Orientation 별로 픽셀이 올바른 자리로 옮겨진다")
+    void orient_MovesPixels() {
+        BufferedImage source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, Color.RED.getRGB());
+
+        assertThat(redAt(ImageResizer.orient(source, 1))).containsExactly(0, 0);
+        assertThat(redAt(ImageResizer.orient(source, 2))).containsExactly(3, 0);
+        assertThat(redAt(ImageResizer.orient(source, 3))).containsExactly(3, 1);
+        assertThat(redAt(ImageResizer.orient(source, 4))).containsExactly(0, 1);
+        assertThat(redAt(ImageResizer.orient(source, 5))).containsExactly(0, 0);
+        assertThat(redAt(ImageResizer.orient(source, 6))).containsExactly(1, 0);
+        assertThat(redAt(ImageResizer.orient(source, 7))).containsExactly(1, 3);
+        assertThat(redAt(ImageResizer.orient(source, 8))).containsExactly(0, 3);
+    }
+
+    private static int[] redAt(BufferedImage image) {
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if (image.getRGB(x, y) == Color.RED.getRGB()) {
+                    return new int[]{x, y};
+                }
+            }
+        }
+        return new int[0];
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    // JFIF APP0 뒤에 Orientation 하나만 든 EXIF APP1 세그먼트를 끼워 넣는다 (빅엔디언 TIFF)
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4)
+                .put("Exif\0\0".getBytes(StandardCharsets.US_ASCII))
+                .put(new byte[]{'M', 'M', 0, 42}).putInt(8)
+                .putShort((short) 1)
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0)
+                .putInt(0)
+                .array();
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        return ByteBuffer.allocate(jpeg.length + 4 + exif.length)
+                .put(jpeg, 0, app0End)
+                .put((byte) 0xFF).put((byte) 0xE1).putShort((short) (exif.length + 2))
+                .put(exif)
+                .put(jpeg, app0End, jpeg.length - app0End)
+                .array();
+    }
+}
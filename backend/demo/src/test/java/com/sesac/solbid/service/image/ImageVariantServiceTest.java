@@ -0,0 +1,175 @@
+package com.sesac.solbid.service.image;
+
+import com.sesac.solbid.service.storage.LocalObjectStorage;
+import com.sesac.solbid.service.storage.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ImageVariantService 테스트
+ * 로컬 스토리지에 올린 합성 이미지로 사본 크기, 키 기록, 같은 원본의 사본 재사용을 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageVariantService 테스트")
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalObjectStorage storage;
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private ImageVariantService service;
+    private String extension;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalObjectStorage(root, "/api/images/");
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ImageVariantService(storage, jdbcTemplate, executor, meterRegistry);
+        extension = ImageResizer.Format.preferred().extension();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본 비율을 유지한 상세/목록/썸네일 사본을 원본 옆에 저장하고 키를 기록한다")
+    void process_WritesAllVariants() throws IOException {
+        putImage("products/shoe.png", 3000, 2000);
+
+        service.process(1L, 0, "products/shoe.png");
+
+        String detail = "products/shoe.png.detail." + extension;
+        String list = "products/shoe.png.list." + extension;
+        String thumb = "products/shoe.png.thumb." + extension;
+        verify(jdbcTemplate).update(ImageVariantService.UPDATE_SQL, detail, list, thumb, 1L, 0);
+        assertThat(dimensions(detail)).containsExactly(1080, 720);
+        assertThat(dimensions(list)).containsExactly(480, 320);
+        assertThat(dimensions(thumb)).containsExactly(200, 133);
+        assertThat(meterRegistry.counter("image.variants.failed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 사본은 만들지 않는다 (작은 원본은 크기 그대로)")
+    void resize_DoesNotUpscale() {
+        BufferedImage small = new BufferedImage(150, 300, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageResizer.resize(small, ImageVariant.LIST.maxSide());
+
+        assertThat(resized.getWidth()).isEqualTo(150);
+        assertThat(resized.getHeight()).isEqualTo(300);
+        assertThat(resized.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 원본은 실패로 집계하고 키를 기록하지 않는다")
+    void process_NotAnImage_CountsFailure() throws IOException {
+        byte[] text = "not an image".getBytes();
+        storage.put("notes.png", new ByteArrayInputStream(text), text.length, "image/png");
+
+        service.process(1L, 0, "notes.png");
+
+        verify(jdbcTemplate, never()).update(anyString(), any(), any(), any(), any(), any());
+        assertThat(meterRegistry.counter("image.variants.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 원본을 쓰는 다른 이미지 행에 사본이 있으면 다시 만들지 않고 그 키를 기록한다")
+    @SuppressWarnings("unchecked")
+    void process_ExistingVariants_Reused() throws IOException {
+        putImage("shared.png", 800, 800);
+        Map<ImageVariant, String> existing = new EnumMap<>(ImageVariant.class);
+        existing.put(ImageVariant.DETAIL, "shared.png.detail.jpg");
+        existing.put(ImageVariant.LIST, "shared.png.list.jpg");
+        existing.put(ImageVariant.THUMBNAIL, "shared.png.thumb.jpg");
+        when(jdbcTemplate.query(eq(ImageVariantService.EXISTING_SQL), any(RowMapper.class), eq("shared.png")))
+                .thenReturn(List.of(existing));
+
+        service.process(2L, 1, "shared.png");
+
+        verify(jdbcTemplate).update(ImageVariantService.UPDATE_SQL,
+                "shared.png.detail.jpg", "shared.png.list.jpg", "shared.png.thumb.jpg", 2L, 1);
+        for (ImageVariant variant : ImageVariant.values()) {
+            assertThat(storage.open(variant.keyFor("shared.png", extension))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("예약한 이미지는 sort_order 순번으로 워커 풀에서 처리되고 백로그가 0 으로 돌아온다")
+    void submitAll_ProcessesOnWorkerPool() throws Exception {
+        putImage("a.png", 1200, 900);
+        putImage("b.png", 900, 1200);
+
+        service.submitAll(7L, List.of("a.png", "b.png"));
+
+        verify(jdbcTemplate, timeout(10_000)).update(eq(ImageVariantService.UPDATE_SQL),
+                any(), any(), any(), eq(7L), eq(0));
+        verify(jdbcTemplate, timeout(10_000)).update(eq(ImageVariantService.UPDATE_SQL),
+                any(), any(), any(), eq(7L), eq(1));
+        executor.getThreadPoolExecutor().shutdown();
+        assertThat(executor.getThreadPoolExecutor().awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("image.variants.backlog").gauge().value()).isZero();
+        assertThat(meterRegistry.timer("image.variants.processing").count()).isEqualTo(2);
+    }
+
+    private void putImage(String key, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width / 2, height);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        storage.put(key, new ByteArrayInputStream(out.toByteArray()), out.size(), "image/png");
+    }
+
+    private List<Integer> dimensions(String key) throws IOException {
+        try (StoredObject object = storage.open(key).orElseThrow()) {
+            BufferedImage image = ImageIO.read(object.inputStream());
+            return List.of(image.getWidth(), image.getHeight());
+        }
+    }
+}
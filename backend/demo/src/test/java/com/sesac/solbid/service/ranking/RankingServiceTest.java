@@ -0,0 +1,273 @@
+package com.sesac.solbid.service.ranking;
+
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.dto.RankingDto;
+import com.sesac.solbid.repository.ProductRepository;
+import com.sesac.solbid.repository.UserRepository;
+import com.sesac.solbid.repository.projection.ProductCurrentBidView;
+import com.sesac.solbid.repository.projection.SellerProfileView;
+import com.sesac.solbid.service.auction.AuctionClosedEvent;
+import com.sesac.solbid.service.auction.BidPlacedEvent;
+import com.sesac.solbid.service.auction.TrustScoreChangedEvent;
+import com.sesac.solbid.service.search.ProductDocument;
+import com.sesac.solbid.service.search.ProductSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RankingService 단위 테스트
+ * 이벤트로 순위표가 갱신되고, 시간 구간이 지나면 오래된 집계가 빠지는지 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RankingService 단위 테스트")
+class RankingServiceTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MutableClock clock;
+    private RankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        rankingService = new RankingService(productSearchIndex, productRepository, userRepository, clock);
+        when(productSearchIndex.find(anyLong())).thenAnswer(invocation -> doc(invocation.getArgument(0), 0));
+        when(userRepository.findSellerProfilesByIds(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> new SellerProfileView(id, "seller" + id, new BigDecimal("36.5")))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("현재 입찰가 순위는 최고 입찰가 기준이며 늦게 도착한 낮은 입찰은 무시한다")
+    void topProducts_ByCurrentBid() {
+        bid(1L, 100L, 10_000);
+        bid(2L, 100L, 30_000);
+        bid(3L, 100L, 20_000);
+        bid(1L, 101L, 50_000);
+        bid(1L, 102L, 40_000);
+
+        List<RankingDto.ProductRank> ranks = rankingService.topProducts(productRequest(RankingDto.ProductSort.CURRENT_BID,
+                RankingWindow.ALL, 2));
+
+        assertThat(ranks).extracting(RankingDto.ProductRank::getProductId).containsExactly(1L, 2L);
+        assertThat(ranks).extracting(RankingDto.ProductRank::getRank).containsExactly(1, 2);
+        assertThat(ranks.get(0).getCurrentBid()).isEqualTo(50_000);
+        assertThat(ranks.get(0).getBidders()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("입찰마다 검색 인덱스의 인기순 점수를 올리고 현재가를 반영한다")
+    void onBidPlaced_UpdatesSearchIndex() {
+        bid(1L, 100L, 10_000);
+        bid(1L, 101L, 12_000);
+
+        verify(productSearchIndex, times(2)).addPopularity(1L, 1);
+        verify(productSearchIndex).raisePrice(1L, 10_000);
+        verify(productSearchIndex).raisePrice(1L, 12_000);
+    }
+
+    @Test
+    @DisplayName("입찰자 수 순위는 같은 사용자의 반복 입찰을 한 번만 센다")
+    void topProducts_ByBidders_CountsDistinctBidders() {
+        bid(1L, 100L, 10_000);
+        bid(1L, 100L, 11_000);
+        bid(1L, 100L, 12_000);
+        bid(2L, 100L, 10_000);
+        bid(2L, 101L, 11_000);
+
+        List<RankingDto.ProductRank> ranks = rankingService.topProducts(productRequest(RankingDto.ProductSort.BIDDERS,
+                RankingWindow.ALL, 10));
+
+        assertThat(ranks).extracting(RankingDto.ProductRank::getProductId).containsExactly(2L, 1L);
+        assertThat(ranks).extracting(RankingDto.ProductRank::getBidders).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("최근 1시간 순위에서는 1시간이 지난 입찰이 빠지고 전체 기간 순위에는 남는다")
+    void topProducts_HourWindow_ExpiresOldBids() {
+        bid(1L, 100L, 10_000);
+        bid(1L, 101L, 10_000);
+        clock.advance(Duration.ofMinutes(40));
+        bid(2L, 100L, 10_000);
+
+        clock.advance(Duration.ofMinutes(30));
+        rankingService.advanceWindows();
+
+        assertThat(rankingService.topProducts(productRequest(RankingDto.ProductSort.BIDDERS, RankingWindow.HOUR, 10)))
+                .extracting(RankingDto.ProductRank::getProductId)
+                .containsExactly(2L);
+        assertThat(rankingService.topProducts(productRequest(RankingDto.ProductSort.BIDDERS, RankingWindow.ALL, 10)))
+                .extracting(RankingDto.ProductRank::getProductId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("마감된 경매의 상품은 상품 랭킹에서 빠진다")
+    void onAuctionClosed_RemovesProduct() {
+        bid(1L, 100L, 10_000);
+        bid(2L, 101L, 20_000);
+
+        rankingService.onAuctionClosed(new AuctionClosedEvent(20L, 2L, 500L, true, LocalDateTime.now(clock)));
+
+        for (RankingDto.ProductSort sort : RankingDto.ProductSort.values()) {
+            assertThat(rankingService.topProducts(productRequest(sort, RankingWindow.DAY, 10)))
+                    .extracting(RankingDto.ProductRank::getProductId)
+                    .containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("낙찰 성공률 순위는 표본이 적은 100% 보다 표본이 많은 높은 성공률을 앞에 둔다")
+    void topSellers_BySuccessRate_PrefersLargerSamples() {
+        close(500L, true);
+        for (int i = 0; i < 20; i++) {
+            close(600L, i < 19);
+        }
+        close(700L, false);
+
+        List<RankingDto.SellerRank> ranks = rankingService.topSellers(sellerRequest(RankingDto.SellerSort.SUCCESS_RATE,
+                RankingWindow.WEEK, 10));
+
+        assertThat(ranks).extracting(RankingDto.SellerRank::getSellerId).containsExactly(600L, 500L, 700L);
+        assertThat(ranks.get(0).getSuccessRate()).isEqualTo(95.0);
+        assertThat(ranks.get(0).getClosedAuctions()).isEqualTo(20);
+        assertThat(ranks.get(0).getSoldAuctions()).isEqualTo(19);
+        assertThat(ranks.get(1).getSuccessRate()).isEqualTo(100.0);
+        assertThat(ranks.get(0).getNickname()).isEqualTo("seller600");
+    }
+
+    @Test
+    @DisplayName("구간이 지나면 판매자 성공률 집계에서 빠진다")
+    void topSellers_DayWindow_ExpiresOldOutcomes() {
+        close(500L, true);
+        clock.advance(Duration.ofHours(25));
+        close(600L, false);
+        rankingService.advanceWindows();
+
+        assertThat(rankingService.topSellers(sellerRequest(RankingDto.SellerSort.SUCCESS_RATE, RankingWindow.DAY, 10)))
+                .extracting(RankingDto.SellerRank::getSellerId)
+                .containsExactly(600L);
+        assertThat(rankingService.topSellers(sellerRequest(RankingDto.SellerSort.SUCCESS_RATE, RankingWindow.ALL, 10)))
+                .extracting(RankingDto.SellerRank::getSellerId)
+                .containsExactly(500L, 600L);
+    }
+
+    @Test
+    @DisplayName("기동 시 입찰이 있는 판매 중 상품의 현재 입찰가와 판매자 신뢰 온도로 순위표를 채우고, 온도 변경 이벤트를 반영한다")
+    void warmUp_AndTrustScoreChange() {
+        when(productRepository.findCurrentBids(ProductStatus.AVAILABLE))
+                .thenReturn(List.of(new ProductCurrentBidView(1L, 15_000)));
+        when(userRepository.findSellerProfiles()).thenReturn(List.of(
+                new SellerProfileView(500L, "seller500", new BigDecimal("40.0")),
+                new SellerProfileView(600L, "seller600", new BigDecimal("36.5"))));
+
+        rankingService.warmUp();
+        rankingService.onTrustScoreChanged(new TrustScoreChangedEvent(600L, new BigDecimal("42.1")));
+
+        assertThat(rankingService.topProducts(productRequest(RankingDto.ProductSort.CURRENT_BID, RankingWindow.ALL, 10)))
+                .extracting(RankingDto.ProductRank::getProductId, RankingDto.ProductRank::getCurrentBid)
+                .containsExactly(tuple(1L, 15_000));
+        List<RankingDto.SellerRank> sellers = rankingService.topSellers(
+                sellerRequest(RankingDto.SellerSort.TRUST_SCORE, RankingWindow.ALL, 10));
+        assertThat(sellers).extracting(RankingDto.SellerRank::getSellerId).containsExactly(600L, 500L);
+        assertThat(sellers.get(0).getTrustScore()).isCloseTo(42.1, within(1e-9));
+    }
+
+    private void bid(Long productId, Long bidderId, int amount) {
+        rankingService.onBidPlaced(new BidPlacedEvent(productId * 10, productId, bidderId,
+                BigDecimal.valueOf(amount), LocalDateTime.now(clock)));
+    }
+
+    private void close(Long sellerId, boolean sold) {
+        rankingService.onAuctionClosed(new AuctionClosedEvent(null, 0L, sellerId, sold, LocalDateTime.now(clock)));
+    }
+
+    private static ProductDocument doc(Long productId, int price) {
+        return new ProductDocument(productId, "상품" + productId, ProductBrand.NIKE, ProductCategory.SNEAKERS,
+                ProductCondition.NEW, ProductStatus.AVAILABLE, 270, price);
+    }
+
+    private static RankingDto.ProductRequest productRequest(RankingDto.ProductSort sort, RankingWindow window, int size) {
+        RankingDto.ProductRequest request = new RankingDto.ProductRequest();
+        request.setSort(sort);
+        request.setWindow(window);
+        request.setSize(size);
+        return request;
+    }
+
+    private static RankingDto.SellerRequest sellerRequest(RankingDto.SellerSort sort, RankingWindow window, int size) {
+        RankingDto.SellerRequest request = new RankingDto.SellerRequest();
+        request.setSort(sort);
+        request.setWindow(window);
+        request.setSize(size);
+        return request;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
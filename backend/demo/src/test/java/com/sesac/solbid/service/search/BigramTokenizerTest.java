@@ -0,0 +1,39 @@
+package com.sesac.solbid.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BigramTokenizer 단위 테스트")
+class BigramTokenizerTest {
+
+    @Test
+    @DisplayName("한글/영문 혼합 문자열을 문자 종류별 구간의 바이그램으로 자른다")
+    void termFrequencies_MixedScripts() {
+        assertThat(BigramTokenizer.termFrequencies("나이키 덩크로우 DD1391").keySet())
+                .containsExactly("나이", "이키", "덩크", "크로", "로우", "dd", "d1", "13", "39", "91");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기가 달라도 같은 토큰을 공유한다")
+    void termFrequencies_SpacingInsensitive() {
+        assertThat(BigramTokenizer.termFrequencies("덩크로우").keySet())
+                .containsAll(BigramTokenizer.termFrequencies("덩크 로우").keySet());
+    }
+
+    @Test
+    @DisplayName("전각 문자와 대소문자를 정규화하고 한 글자 구간은 그대로 쓴다")
+    void termFrequencies_NormalizeAndUnigram() {
+        assertThat(BigramTokenizer.termFrequencies("ＮＩＫＥ 신 신").entrySet())
+                .extracting(entry -> entry.getKey() + "=" + entry.getValue())
+                .containsExactly("ni=1", "ik=1", "ke=1", "신=2");
+    }
+
+    @Test
+    @DisplayName("빈 문자열은 토큰이 없다")
+    void termFrequencies_Blank() {
+        assertThat(BigramTokenizer.termFrequencies(" ")).isEmpty();
+        assertThat(BigramTokenizer.termFrequencies(null)).isEmpty();
+    }
+}
@@ -0,0 +1,97 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.dto.ProductSearchDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductAutocomplete 단위 테스트")
+class ProductAutocompleteTest {
+
+    private ProductSearchIndex productSearchIndex;
+    private ProductAutocomplete autocomplete;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(null);
+        productSearchIndex.upsertAll(List.of(
+                doc(1L, "나이키 덩크 로우 범고래", ProductBrand.NIKE),
+                doc(2L, "나이키 덩크 하이", ProductBrand.NIKE),
+                doc(3L, "나이키 에어포스 1", ProductBrand.NIKE),
+                doc(4L, "New Balance 990v6", ProductBrand.NB),
+                doc(5L, "Nike SB Dunk", ProductBrand.NIKE)
+        ));
+        productSearchIndex.addPopularity(2L, 10);
+        autocomplete = new ProductAutocomplete(productSearchIndex);
+        autocomplete.rebuild();
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 상품명을 인기 순으로 추천한다")
+    void suggest_PrefixOrderedByWeight() {
+        assertThat(texts(autocomplete.suggest("나이키 덩", 10)))
+                .containsExactly("나이키 덩크 하이", "나이키 덩크 로우 범고래");
+    }
+
+    @Test
+    @DisplayName("상품명 중간 단어부터 입력해도 추천한다")
+    void suggest_MiddleWord() {
+        assertThat(texts(autocomplete.suggest("덩크", 10)))
+                .containsExactly("나이키 덩크 하이", "나이키 덩크 로우 범고래");
+    }
+
+    @Test
+    @DisplayName("브랜드와 영문 상품명은 대소문자 구분 없이 추천한다")
+    void suggest_BrandCaseInsensitive() {
+        List<ProductSearchDto.Suggestion> suggestions = autocomplete.suggest("ni", 10);
+
+        assertThat(texts(suggestions)).containsExactly("NIKE", "Nike SB Dunk");
+        assertThat(suggestions.get(0).getType()).isEqualTo(ProductSearchDto.SuggestionType.BRAND);
+        assertThat(texts(autocomplete.suggest("dun", 10))).containsExactly("Nike SB Dunk");
+    }
+
+    @Test
+    @DisplayName("일치하는 후보가 없거나 빈 질의면 빈 목록")
+    void suggest_NoMatch() {
+        assertThat(autocomplete.suggest("아디다스", 10)).isEmpty();
+        assertThat(autocomplete.suggest("  ", 10)).isEmpty();
+        assertThat(autocomplete.suggest("나이키 덩크 로우 범고래 한정", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 인덱스가 바뀌면 재구성된 트라이로 교체된다")
+    void rebuildIfChanged_SwapsSnapshot() {
+        productSearchIndex.updateStatus(1L, ProductStatus.SOLD_OUT);
+        productSearchIndex.upsert(doc(6L, "나이키 덩크 로우 판다", ProductBrand.NIKE));
+
+        assertThat(texts(autocomplete.suggest("나이키 덩크 로", 10))).containsExactly("나이키 덩크 로우 범고래");
+
+        autocomplete.rebuildIfChanged();
+
+        assertThat(texts(autocomplete.suggest("나이키 덩크 로", 10))).containsExactly("나이키 덩크 로우 판다");
+    }
+
+    @Test
+    @DisplayName("limit 만큼만 돌려준다")
+    void suggest_Limit() {
+        assertThat(autocomplete.suggest("나이키", 2)).hasSize(2);
+        assertThat(autocomplete.suggest("나이키", 0)).isEmpty();
+    }
+
+    private static ProductDocument doc(Long productId, String name, ProductBrand brand) {
+        return new ProductDocument(productId, name, brand, ProductCategory.SNEAKERS, ProductCondition.NEW,
+                ProductStatus.AVAILABLE, 270, 100_000);
+    }
+
+    private static List<String> texts(List<ProductSearchDto.Suggestion> suggestions) {
+        return suggestions.stream().map(ProductSearchDto.Suggestion::getText).toList();
+    }
+}
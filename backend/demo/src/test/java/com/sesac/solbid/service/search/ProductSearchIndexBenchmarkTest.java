@@ -0,0 +1,89 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.dto.ProductSearchDto;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 100만 건 기준 패싯 카운트 계산 시간 측정
+ * 기본 test 에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("ProductSearchIndex 패싯 벤치마크")
+class ProductSearchIndexBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 2_000;
+
+    private static ProductSearchIndex index;
+
+    @BeforeAll
+    static void setUp() {
+        Random random = new Random(42);
+        ProductBrand[] brands = ProductBrand.values();
+        ProductCategory[] categories = ProductCategory.values();
+        ProductCondition[] conditions = ProductCondition.values();
+
+        index = new ProductSearchIndex(null);
+        List<ProductDocument> batch = new ArrayList<>(BATCH_SIZE);
+        for (long productId = 1; productId <= PRODUCTS; productId++) {
+            batch.add(new ProductDocument(productId, "상품" + productId,
+                    brands[random.nextInt(brands.length)],
+                    categories[random.nextInt(categories.length)],
+                    conditions[random.nextInt(conditions.length)],
+                    random.nextInt(10) == 0 ? ProductStatus.SOLD_OUT : ProductStatus.AVAILABLE,
+                    230 + random.nextInt(71),
+                    10_000 + random.nextInt(500_000)));
+            if (batch.size() == BATCH_SIZE) {
+                index.upsertAll(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("필터 없는 검색의 패싯 계산은 1ms 미만")
+    void facets_NoFilter() {
+        assertSubMillisecond("no filter", new ProductSearchDto.SearchRequest());
+    }
+
+    @Test
+    @DisplayName("여러 항목을 필터링한 검색의 패싯 계산은 1ms 미만")
+    void facets_MultipleFilters() {
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setBrands(List.of(ProductBrand.NIKE, ProductBrand.ADIDAS));
+        request.setCategories(List.of(ProductCategory.RUNNING));
+        request.setSizes(List.of(260, 270));
+
+        assertSubMillisecond("brand+category+size", request);
+    }
+
+    private void assertSubMillisecond(String label, ProductSearchDto.SearchRequest request) {
+        for (int i = 0; i < WARMUP; i++) {
+            index.facets(request);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            index.facets(request);
+        }
+        long averageMicros = (System.nanoTime() - start) / ITERATIONS / 1_000;
+
+        assertThat(averageMicros)
+                .as("facets(%s) over %,d products: %d us/op", label, PRODUCTS, averageMicros)
+                .isLessThan(1_000);
+    }
+}
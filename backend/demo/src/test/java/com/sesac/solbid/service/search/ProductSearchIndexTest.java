@@ -0,0 +1,175 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.domain.enums.ProductBrand;
+import com.sesac.solbid.domain.enums.ProductCategory;
+import com.sesac.solbid.domain.enums.ProductCondition;
+import com.sesac.solbid.domain.enums.ProductStatus;
+import com.sesac.solbid.dto.ProductSearchDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("ProductSearchIndex 단위 테스트")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(null);
+        index.upsertAll(List.of(
+                doc(1L, ProductBrand.NIKE, ProductCategory.SNEAKERS, ProductCondition.NEW, 260, 150_000),
+                doc(2L, ProductBrand.NIKE, ProductCategory.RUNNING, ProductCondition.USED, 270, 90_000),
+                doc(3L, ProductBrand.ADIDAS, ProductCategory.SNEAKERS, ProductCondition.NEW, 265, 120_000),
+                doc(4L, ProductBrand.PUMA, ProductCategory.BASKETBALL, ProductCondition.USED, 280, 60_000),
+                doc(5L, ProductBrand.NIKE, ProductCategory.SNEAKERS, ProductCondition.USED, 262, 200_000)
+        ));
+    }
+
+    @Test
+    @DisplayName("같은 항목은 OR, 다른 항목은 AND 로 결합한다")
+    void search_FacetCombination() {
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setBrands(List.of(ProductBrand.NIKE, ProductBrand.ADIDAS));
+        request.setCategories(List.of(ProductCategory.SNEAKERS));
+        request.setSort(ProductSearchDto.SortType.LATEST);
+
+        assertThat(productIds(index.search(request))).containsExactly(5L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("사이즈는 5mm 구간 단위로 필터링한다")
+    void search_SizeBucket() {
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setSizes(List.of(260));
+        request.setSort(ProductSearchDto.SortType.PRICE_ASC);
+
+        assertThat(productIds(index.search(request))).containsExactly(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("가격 범위와 가격 정렬")
+    void search_PriceRangeAndSort() {
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setMinPrice(90_000);
+        request.setMaxPrice(150_000);
+        request.setSort(ProductSearchDto.SortType.PRICE_DESC);
+
+        ProductSearchDto.SearchResponse response = index.search(request);
+
+        assertThat(response.getTotal()).isEqualTo(3);
+        assertThat(productIds(response)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("인기순 정렬과 페이지 나누기")
+    void search_PopularPaging() {
+        index.addPopularity(4L, 10);
+        index.addPopularity(2L, 5);
+        index.addPopularity(3L, 5);
+
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setPageSize(2);
+
+        assertThat(productIds(index.search(request))).containsExactly(4L, 3L);
+
+        request.setPage(1);
+        ProductSearchDto.SearchResponse second = index.search(request);
+        assertThat(second.getTotal()).isEqualTo(5);
+        assertThat(productIds(second)).containsExactly(2L, 5L);
+    }
+
+    @Test
+    @DisplayName("상태와 가격 변경이 즉시 검색 결과에 반영된다")
+    void updateStatusAndPrice_ReflectedInSearch() {
+        index.updateStatus(1L, ProductStatus.SOLD_OUT);
+        index.updatePrice(4L, 300_000);
+
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setSort(ProductSearchDto.SortType.PRICE_DESC);
+
+        assertThat(productIds(index.search(request))).containsExactly(4L, 5L, 3L, 2L);
+
+        request.setStatus(ProductStatus.SOLD_OUT);
+        assertThat(productIds(index.search(request))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("입찰 가격 반영은 더 높을 때만 적용된다")
+    void raisePrice_OnlyIncreases() {
+        index.raisePrice(4L, 300_000);
+        index.raisePrice(4L, 200_000);
+
+        assertThat(index.find(4L).price()).isEqualTo(300_000);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 검색되지 않는다")
+    void remove_ExcludedFromSearch() {
+        index.remove(3L);
+
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setBrands(List.of(ProductBrand.ADIDAS));
+
+        assertThat(index.search(request).getTotal()).isZero();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("패싯 카운트는 자기 항목 선택을 제외한 나머지 조건 기준으로 계산한다")
+    void search_FacetCounts() {
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setBrands(List.of(ProductBrand.NIKE));
+        request.setConditions(List.of(ProductCondition.USED));
+
+        ProductSearchDto.Facets facets = index.search(request).getFacets();
+
+        // 브랜드 개수: 컨디션(USED) 조건만 적용
+        assertThat(facets.getBrands())
+                .containsEntry(ProductBrand.NIKE, 2)
+                .containsEntry(ProductBrand.PUMA, 1)
+                .containsEntry(ProductBrand.ADIDAS, 0);
+        // 컨디션 개수: 브랜드(NIKE) 조건만 적용
+        assertThat(facets.getConditions())
+                .containsEntry(ProductCondition.NEW, 1)
+                .containsEntry(ProductCondition.USED, 2);
+        // 카테고리/사이즈 개수: 두 조건 모두 적용 (상품 2, 5)
+        assertThat(facets.getCategories())
+                .containsEntry(ProductCategory.RUNNING, 1)
+                .containsEntry(ProductCategory.SNEAKERS, 1)
+                .containsEntry(ProductCategory.BASKETBALL, 0);
+        assertThat(facets.getSizes()).containsExactly(entry(260, 1), entry(270, 1));
+    }
+
+    @Test
+    @DisplayName("패싯 카운트에도 상태와 가격 조건이 적용된다")
+    void facets_StatusAndPriceApplied() {
+        index.updateStatus(5L, ProductStatus.SOLD_OUT);
+
+        ProductSearchDto.SearchRequest request = new ProductSearchDto.SearchRequest();
+        request.setMaxPrice(120_000);
+
+        ProductSearchDto.Facets facets = index.facets(request);
+
+        assertThat(facets.getBrands())
+                .containsEntry(ProductBrand.NIKE, 1)
+                .containsEntry(ProductBrand.ADIDAS, 1)
+                .containsEntry(ProductBrand.PUMA, 1);
+        assertThat(facets.getSizes()).containsOnlyKeys(265, 270, 280);
+    }
+
+    private static ProductDocument doc(Long productId, ProductBrand brand, ProductCategory category,
+                                       ProductCondition condition, int size, int price) {
+        return new ProductDocument(productId, "상품" + productId, brand, category, condition,
+                ProductStatus.AVAILABLE, size, price);
+    }
+
+    private static List<Long> productIds(ProductSearchDto.SearchResponse response) {
+        return response.getProducts().stream().map(ProductSearchDto.ProductItem::getProductId).toList();
+    }
+}
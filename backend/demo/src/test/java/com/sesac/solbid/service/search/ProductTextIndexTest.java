@@ -0,0 +1,118 @@
+package com.sesac.solbid.service.search;
+
+import com.sesac.solbid.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ProductTextIndex 단위 테스트")
+class ProductTextIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private ProductRepository productRepository;
+    private ProductTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        index = newIndex();
+        index.initialize();
+
+        index.upsert(1L, "나이키 덩크 로우 범고래", "나이키 덩크 로우 화이트 블랙 컬러");
+        index.upsert(2L, "나이키 에어포스 1", "클래식 화이트 스니커즈. 덩크와 비슷한 실루엣");
+        index.upsert(3L, "아디다스 삼바 OG", "실내 축구화에서 시작된 스니커즈");
+        index.upsert(4L, "조던 1 로우", "덩크 로우와 비교되는 로우탑 농구화");
+    }
+
+    @Test
+    @DisplayName("상품명 일치가 설명 일치보다 높은 점수를 받는다")
+    void search_NameMatchRanksFirst() {
+        ProductTextIndex.SearchResult result = index.search("덩크 로우", 0, 10);
+
+        assertThat(result.productIds()).startsWith(1L);
+        assertThat(result.productIds()).contains(2L, 4L).doesNotContain(3L);
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없이 검색해도 찾는다")
+    void search_WithoutSpaces() {
+        assertThat(index.search("나이키덩크", 0, 10).productIds()).startsWith(1L);
+    }
+
+    @Test
+    @DisplayName("페이지 나누기")
+    void search_Paging() {
+        ProductTextIndex.SearchResult first = index.search("스니커즈", 0, 1);
+        ProductTextIndex.SearchResult second = index.search("스니커즈", 1, 1);
+
+        assertThat(first.total()).isEqualTo(2);
+        assertThat(first.productIds()).hasSize(1);
+        assertThat(second.productIds()).hasSize(1).doesNotContainAnyElementsOf(first.productIds());
+    }
+
+    @Test
+    @DisplayName("offset + limit 이 int 범위를 넘는 먼 페이지는 빈 결과")
+    void search_FarPage_Empty() {
+        ProductTextIndex.SearchResult result = index.search("스니커즈", Integer.MAX_VALUE, 100);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.productIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("병합 후에도 같은 결과를 돌려주고 변경분은 비워진다")
+    void compact_SameResults() {
+        ProductTextIndex.SearchResult before = index.search("덩크 로우", 0, 10);
+
+        index.compact();
+
+        assertThat(index.pendingChanges()).isZero();
+        assertThat(index.search("덩크 로우", 0, 10)).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("병합된 세그먼트의 상품을 수정/삭제하면 변경분이 세그먼트를 가린다")
+    void upsertAndRemove_ShadowSegment() {
+        index.compact();
+
+        index.upsert(3L, "아디다스 삼바 덩크 콜라보", "한정판");
+        index.remove(1L);
+
+        ProductTextIndex.SearchResult result = index.search("덩크", 0, 10);
+        assertThat(result.productIds()).contains(3L).doesNotContain(1L);
+
+        index.compact();
+        assertThat(index.search("덩크", 0, 10)).isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("재기동 시 마지막 세그먼트 파일을 메모리 매핑해서 연다")
+    void initialize_ReopensLatestSegment() throws Exception {
+        index.compact();
+        ProductTextIndex.SearchResult before = index.search("나이키", 0, 10);
+
+        ProductTextIndex reopened = newIndex();
+        reopened.initialize();
+
+        assertThat(reopened.search("나이키", 0, 10)).isEqualTo(before);
+        try (Stream<Path> files = Files.list(directory)) {
+            // 이전 세대 세그먼트는 정리된다
+            assertThat(files.filter(path -> path.toString().endsWith(".seg"))).hasSize(1);
+        }
+    }
+
+    private ProductTextIndex newIndex() {
+        return new ProductTextIndex(productRepository, directory, 1000);
+    }
+}
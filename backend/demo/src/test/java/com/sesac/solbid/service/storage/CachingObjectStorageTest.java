@@ -0,0 +1,194 @@
+package com.sesac.solbid.service.storage;
+
+import com.sesac.solbid.support.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CachingObjectStorage 테스트 (로컬 S3 대역 앞에 디스크 캐시)
+ * 캐시 적중 시 원격 요청이 없는지, 동시 미스가 한 번의 GetObject 로 합쳐지는지, 용량 초과 시 LRU 로 밀어내는지 확인한다.
+ */
+@DisplayName("CachingObjectStorage 테스트")
+class CachingObjectStorageTest {
+
+    private static final String BUCKET = "solbid-test";
+
+    @TempDir
+    Path cacheDir;
+
+    private FakeS3Server s3;
+    private S3ObjectStorage remote;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new FakeS3Server();
+        remote = new S3ObjectStorage(s3.client(), BUCKET, "https://cdn.example.com/", S3ObjectStorage.MIN_PART_SIZE, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        s3.close();
+    }
+
+    @Test
+    @DisplayName("한 번 받은 객체는 캐시 파일 채널로 열고 S3 에 다시 요청하지 않는다")
+    void open_Hit_ServedFromDisk() throws IOException {
+        byte[] content = randomBytes(64 * 1024, 1);
+        s3.putObject(BUCKET, "shoe.jpg", content, "image/jpeg");
+        CachingObjectStorage cache = cache(1024 * 1024, 1024 * 1024);
+
+        byte[] first = read(cache, "shoe.jpg");
+        StoredObject second = cache.open("shoe.jpg").orElseThrow();
+        try (second) {
+            // 캐시 파일은 언제든 밀려날 수 있어 경로로 다시 여는 sendfile 에 내주지 않는다
+            assertThat(second.localFile()).isNull();
+            assertThat(second.contentType()).isEqualTo("image/jpeg");
+            assertThat(second.eTag()).startsWith("\"");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            second.transferTo(out);
+            assertThat(out.toByteArray()).isEqualTo(content);
+        }
+
+        assertThat(first).isEqualTo(content);
+        assertThat(s3.operations()).containsExactly("GetObject");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.cachedBytes()).isEqualTo(content.length);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 GetObject 한 번으로 합쳐진다")
+    void open_ConcurrentMisses_SingleFetch() throws Exception {
+        byte[] content = randomBytes(128 * 1024, 2);
+        s3.putObject(BUCKET, "hot.jpg", content, "image/jpeg");
+        s3.latency(300);
+        CachingObjectStorage cache = cache(1024 * 1024, 1024 * 1024);
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Callable<byte[]> task = () -> {
+                    start.await();
+                    return read(cache, "hot.jpg");
+                };
+                results.add(pool.submit(task));
+            }
+            start.countDown();
+            for (Future<byte[]> result : results) {
+                assertThat(result.get()).isEqualTo(content);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(s3.operations()).containsExactly("GetObject");
+        assertThat(cache.cachedObjects()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 쓰지 않은 객체부터 밀어낸다")
+    void admit_OverCapacity_EvictsLeastRecentlyUsed() throws IOException {
+        for (String key : List.of("a.jpg", "b.jpg", "c.jpg")) {
+            s3.putObject(BUCKET, key, randomBytes(400, key.charAt(0)), "image/jpeg");
+        }
+        CachingObjectStorage cache = cache(1000, 1000);
+
+        read(cache, "a.jpg");
+        read(cache, "b.jpg");
+        read(cache, "a.jpg");
+        read(cache, "c.jpg");
+
+        assertThat(cache.cachedObjects()).isEqualTo(2);
+        assertThat(cache.cachedBytes()).isEqualTo(800);
+        read(cache, "a.jpg");
+        read(cache, "b.jpg");
+        assertThat(s3.operations()).containsExactly("GetObject", "GetObject", "GetObject", "GetObject");
+    }
+
+    @Test
+    @DisplayName("읽는 도중 항목이 밀려나 파일이 지워져도 이미 연 응답은 끝까지 원래 내용을 보낸다")
+    void open_EvictedWhileReading_StillServesContent() throws IOException {
+        byte[] content = randomBytes(400, 'a');
+        s3.putObject(BUCKET, "a.jpg", content, "image/jpeg");
+        for (String key : List.of("b.jpg", "c.jpg", "d.jpg")) {
+            s3.putObject(BUCKET, key, randomBytes(400, key.charAt(0)), "image/jpeg");
+        }
+        CachingObjectStorage cache = cache(1000, 1000);
+        read(cache, "a.jpg");
+
+        try (StoredObject inFlight = cache.open("a.jpg").orElseThrow()) {
+            read(cache, "b.jpg");
+            read(cache, "c.jpg");
+            read(cache, "d.jpg");
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir, "*.obj")) {
+                assertThat(files).hasSize(2);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            inFlight.transferTo(out);
+            assertThat(out.toByteArray()).isEqualTo(content);
+        }
+        assertThat(cache.cachedObjects()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("덮어쓰거나 지운 키는 캐시에서 빠지고, 너무 큰 객체는 캐시하지 않는다")
+    void putDeleteAndLargeObjects_BypassCache() throws IOException {
+        s3.putObject(BUCKET, "shoe.jpg", new byte[]{1, 2, 3}, "image/jpeg");
+        s3.putObject(BUCKET, "large.jpg", randomBytes(2048, 3), "image/jpeg");
+        CachingObjectStorage cache = cache(1024 * 1024, 1024);
+
+        read(cache, "shoe.jpg");
+        cache.put("shoe.jpg", new ByteArrayInputStream(new byte[]{4, 5}), 2, "image/jpeg");
+        assertThat(read(cache, "shoe.jpg")).containsExactly(4, 5);
+
+        cache.delete(List.of("shoe.jpg"));
+        assertThat(cache.open("shoe.jpg")).isEmpty();
+
+        try (StoredObject large = cache.open("large.jpg").orElseThrow()) {
+            assertThat(large.localFile()).isNull();
+        }
+        assertThat(cache.cachedObjects()).isZero();
+    }
+
+    private CachingObjectStorage cache(long maxBytes, long maxEntryBytes) throws IOException {
+        return new CachingObjectStorage(remote, cacheDir, maxBytes, maxEntryBytes);
+    }
+
+    private static byte[] read(ObjectStorage storage, String key) throws IOException {
+        try (StoredObject object = storage.open(key).orElseThrow()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            object.transferTo(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,63 @@
+package com.sesac.solbid.service.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalDirectUploadSigner 테스트
+ */
+@DisplayName("LocalDirectUploadSigner 테스트")
+class LocalDirectUploadSignerTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T00:00:00Z");
+    private static final byte[] SECRET = new byte[32];
+    private static final String SHA256 = "ab".repeat(32);
+
+    @Test
+    @DisplayName("발급한 토큰은 만료 전까지 업로드 조건을 그대로 돌려준다")
+    void signAndVerify_RoundTrip() {
+        LocalDirectUploadSigner signer = signerAt(NOW);
+
+        DirectUpload upload = signer.sign(SHA256 + ".jpg", "image/jpeg", 1234, SHA256, Duration.ofMinutes(15));
+
+        assertThat(upload.method()).isEqualTo("PUT");
+        assertThat(upload.url()).startsWith("/api/images/uploads/");
+        assertThat(upload.headers()).containsEntry("Content-Type", "image/jpeg");
+        assertThat(upload.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+        assertThat(signerAt(NOW.plus(Duration.ofMinutes(15))).verify(token(upload)))
+                .contains(new LocalDirectUploadSigner.Grant(SHA256 + ".jpg", "image/jpeg", 1234, SHA256));
+    }
+
+    @Test
+    @DisplayName("만료됐거나 내용/서명이 바뀐 토큰, 다른 비밀 키로 만든 토큰은 거부한다")
+    void verify_RejectsInvalidTokens() {
+        String token = token(signerAt(NOW).sign("a.jpg", "image/jpeg", 10, SHA256, Duration.ofMinutes(1)));
+        String payload = token.substring(0, token.indexOf('.'));
+        String signature = token.substring(token.indexOf('.') + 1);
+        byte[] otherSecret = Arrays.copyOf(SECRET, SECRET.length);
+        otherSecret[0] = 1;
+
+        assertThat(signerAt(NOW.plusSeconds(61)).verify(token)).isEmpty();
+        assertThat(signerAt(NOW).verify(payload.substring(1) + "." + signature)).isEmpty();
+        assertThat(signerAt(NOW).verify(payload + "." + signature.substring(1))).isEmpty();
+        assertThat(signerAt(NOW).verify("garbage")).isEmpty();
+        assertThat(new LocalDirectUploadSigner("/api/images/uploads", otherSecret, Clock.fixed(NOW, ZoneOffset.UTC))
+                .verify(token)).isEmpty();
+    }
+
+    private static LocalDirectUploadSigner signerAt(Instant now) {
+        return new LocalDirectUploadSigner("/api/images/uploads/", SECRET, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static String token(DirectUpload upload) {
+        return upload.url().substring(upload.url().lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sesac.solbid.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LocalObjectStorage 테스트
+ */
+@DisplayName("LocalObjectStorage 테스트")
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalObjectStorage(root, "/api/images/");
+    }
+
+    @Test
+    @DisplayName("저장한 파일을 FileChannel 로 그대로 읽어 온다")
+    void putAndOpen_RoundTrip() throws IOException {
+        byte[] content = new byte[3 * 1024 * 1024 + 7];
+        new Random(1).nextBytes(content);
+
+        storage.put("products/1/shoe.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+        try (StoredObject object = storage.open("products/1/shoe.jpg").orElseThrow()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertThat(object.transferTo(out)).isEqualTo(content.length);
+            assertThat(out.toByteArray()).isEqualTo(content);
+            assertThat(object.contentLength()).isEqualTo(content.length);
+            assertThat(object.contentType()).isEqualTo("image/jpeg");
+            assertThat(object.eTag()).startsWith("\"").endsWith("\"");
+            assertThat(object.localFile()).isEqualTo(root.toRealPath().resolve("products/1/shoe.jpg"));
+        }
+        assertThat(storage.url("products/1/shoe.jpg")).isEqualTo("/api/images/products/1/shoe.jpg");
+    }
+
+    @Test
+    @DisplayName("크기가 맞지 않으면 실패하고 임시 파일이나 반쯤 쓴 파일을 남기지 않는다")
+    void put_SizeMismatch_LeavesNothing() throws IOException {
+        assertThatThrownBy(() -> storage.put("short.jpg", new ByteArrayInputStream(new byte[10]), 20, "image/jpeg"))
+                .isInstanceOf(IOException.class);
+
+        try (var files = Files.list(root)) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(storage.open("short.jpg")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해시를 검사하는 저장은 내용이 다르면 거부하고 기존 객체를 그대로 둔다")
+    void putVerified_HashMismatch_KeepsExisting() throws IOException {
+        byte[] original = {1, 2, 3};
+        byte[] tampered = {1, 2, 4};
+        String hash = ContentHash.sha256Hex(original);
+        storage.putVerified("photo.jpg", new ByteArrayInputStream(original), original.length, hash);
+
+        assertThatThrownBy(() -> storage.putVerified("photo.jpg", new ByteArrayInputStream(tampered),
+                tampered.length, hash)).isInstanceOf(IOException.class);
+
+        try (StoredObject object = storage.open("photo.jpg").orElseThrow()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            object.transferTo(out);
+            assertThat(out.toByteArray()).isEqualTo(original);
+        }
+        assertThat(storage.exists("photo.jpg")).isTrue();
+        assertThat(storage.exists("missing.jpg")).isFalse();
+    }
+
+    @Test
+    @DisplayName("루트 밖을 가리키는 키는 거부한다")
+    void resolve_RejectsTraversal() {
+        assertThatThrownBy(() -> storage.open("../secret.txt")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.put("a/../../x.jpg", new ByteArrayInputStream(new byte[1]), 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("삭제는 없는 키를 무시한다")
+    void delete_IgnoresMissing() throws IOException {
+        storage.put("a.jpg", new ByteArrayInputStream(new byte[1]), 1, "image/jpeg");
+
+        storage.delete(List.of("a.jpg", "missing.jpg"));
+
+        assertThat(storage.open("a.jpg")).isEmpty();
+    }
+}
@@ -0,0 +1,154 @@
+package com.sesac.solbid.service.storage;
+
+import com.sesac.solbid.support.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3ObjectStorage 스트리밍 업로드/다운로드 테스트 (로컬 S3 대역 사용)
+ */
+@DisplayName("S3ObjectStorage 스트리밍 테스트")
+class S3ObjectStorageTest {
+
+    private static final String BUCKET = "solbid-test";
+    private static final int PART_SIZE = S3ObjectStorage.MIN_PART_SIZE;
+
+    private FakeS3Server s3;
+    private S3ObjectStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new FakeS3Server();
+        storage = new S3ObjectStorage(s3.client(), BUCKET, "https://cdn.example.com/", PART_SIZE, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        s3.close();
+    }
+
+    @Test
+    @DisplayName("파트 크기 이하의 파일은 PutObject 한 번으로 올린다")
+    void put_SmallFile_SinglePut() throws IOException {
+        byte[] content = randomBytes(300 * 1024, 1);
+
+        storage.put("shoe.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+        assertThat(s3.operations()).containsExactly("PutObject");
+        assertThat(s3.object(BUCKET, "shoe.jpg").content()).isEqualTo(content);
+        assertThat(s3.object(BUCKET, "shoe.jpg").contentType()).isEqualTo("image/jpeg");
+        assertThat(storage.url("shoe.jpg")).isEqualTo("https://cdn.example.com/shoe.jpg");
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 큰 파일은 파트 버퍼 하나로 나눠 멀티파트 업로드한다")
+    void put_LargeFile_Multipart() throws IOException {
+        int size = PART_SIZE * 2 + 1234;
+        byte[] content = randomBytes(size, 2);
+
+        storage.put("large.jpg", new ByteArrayInputStream(content), size, "image/jpeg");
+
+        assertThat(s3.operations()).containsExactly(
+                "CreateMultipartUpload", "UploadPart", "UploadPart", "UploadPart", "CompleteMultipartUpload");
+        assertThat(s3.object(BUCKET, "large.jpg").content()).isEqualTo(content);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("크기를 모르는 스트림도 작으면 PutObject, 크면 멀티파트로 올린다")
+    void put_UnknownSize() throws IOException {
+        byte[] small = randomBytes(1024, 3);
+        byte[] exactlyTwoParts = randomBytes(PART_SIZE * 2, 4);
+
+        storage.put("small.jpg", new ByteArrayInputStream(small), -1, "image/jpeg");
+        storage.put("two-parts.jpg", new ByteArrayInputStream(exactlyTwoParts), -1, "image/jpeg");
+
+        assertThat(s3.operations()).containsExactly("PutObject",
+                "CreateMultipartUpload", "UploadPart", "UploadPart", "CompleteMultipartUpload");
+        assertThat(s3.object(BUCKET, "small.jpg").content()).isEqualTo(small);
+        assertThat(s3.object(BUCKET, "two-parts.jpg").content()).isEqualTo(exactlyTwoParts);
+    }
+
+    @Test
+    @DisplayName("파트 업로드가 실패하면 멀티파트 업로드를 취소하고 예외를 전달한다")
+    void put_PartFailure_AbortsUpload() {
+        s3.failPart(2);
+        int size = PART_SIZE * 3;
+
+        assertThatThrownBy(() -> storage.put("broken.jpg", new ByteArrayInputStream(new byte[size]), size,
+                "image/jpeg"))
+                .isInstanceOf(SdkException.class);
+
+        assertThat(s3.operations()).containsExactly(
+                "CreateMultipartUpload", "UploadPart", "UploadPart", "AbortMultipartUpload");
+        assertThat(s3.object(BUCKET, "broken.jpg")).isNull();
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("업로드가 실패해도 파트 버퍼를 반납해 다음 업로드가 막히지 않는다")
+    void put_AfterFailures_BuffersReleased() throws IOException {
+        s3.failPart(1);
+        int size = PART_SIZE + 1;
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> storage.put("retry.jpg", new ByteArrayInputStream(new byte[size]), size,
+                    "image/jpeg"))
+                    .isInstanceOf(SdkException.class);
+        }
+        s3.failPart(-1);
+
+        storage.put("retry.jpg", new ByteArrayInputStream(new byte[size]), size, "image/jpeg");
+
+        assertThat(s3.object(BUCKET, "retry.jpg").content()).hasSize(size);
+    }
+
+    @Test
+    @DisplayName("open 은 객체를 스트림과 메타데이터로 돌려주고, 없는 객체는 empty")
+    void open_StreamsObject() throws IOException {
+        byte[] content = randomBytes(PART_SIZE + 10, 5);
+        s3.putObject(BUCKET, "photo.jpg", content, "image/jpeg");
+
+        try (StoredObject object = storage.open("photo.jpg").orElseThrow()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertThat(object.contentType()).isEqualTo("image/jpeg");
+            assertThat(object.contentLength()).isEqualTo(content.length);
+            assertThat(object.eTag()).isNotBlank();
+            assertThat(object.transferTo(out)).isEqualTo(content.length);
+            assertThat(out.toByteArray()).isEqualTo(content);
+        }
+        assertThat(storage.open("missing.jpg")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 객체를 DeleteObjects 한 번으로 지운다")
+    void delete_SingleRequest() throws IOException {
+        for (String key : List.of("a.jpg", "b.jpg", "c.jpg")) {
+            s3.putObject(BUCKET, key, new byte[]{1}, "image/jpeg");
+        }
+
+        storage.delete(List.of("a.jpg", "b.jpg", "missing.jpg"));
+
+        assertThat(s3.operations()).containsExactly("DeleteObjects");
+        assertThat(s3.object(BUCKET, "a.jpg")).isNull();
+        assertThat(s3.object(BUCKET, "b.jpg")).isNull();
+        assertThat(s3.object(BUCKET, "c.jpg")).isNotNull();
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
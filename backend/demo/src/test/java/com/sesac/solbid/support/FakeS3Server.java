@@ -0,0 +1,261 @@
+package com.sesac.solbid.support;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 S3 대역 (MockWebServer 위에서 path-style S3 API 일부를 메모리로 흉내냄)
+ *
+ * 지원: PutObject, GetObject, HeadObject, DeleteObject(s), 멀티파트 업로드(생성/파트/완료/취소)
+ * failPart(n), failPutsEndingWith(suffix) 로 업로드 실패를, latency(ms) 로 응답 지연을 흉내낼 수 있다.
+ */
+public class FakeS3Server implements AutoCloseable {
+
+    public record StoredObject(byte[] content, String contentType) {
+    }
+
+    private static final Pattern DELETE_KEY = Pattern.compile("<Key>([^<]+)</Key>");
+
+    private final MockWebServer server = new MockWebServer();
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, TreeMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Map<String, String> uploadContentTypes = new ConcurrentHashMap<>();
+    private final List<String> operations = new CopyOnWriteArrayList<>();
+    private final AtomicInteger uploadIds = new AtomicInteger();
+    private volatile int failingPart = -1;
+    private volatile String failingKeySuffix;
+    private volatile long latencyMillis;
+
+    public FakeS3Server() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (latencyMillis > 0) {
+                    Thread.sleep(latencyMillis);
+                }
+                return handle(request);
+            }
+        });
+        server.start();
+    }
+
+    public S3Client client() {
+        return S3Client.builder()
+                .endpointOverride(URI.create(server.url("/").toString()))
+                .region(Region.AP_SOUTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .checksumValidationEnabled(false)
+                        .build())
+                .overrideConfiguration(config -> config.retryPolicy(RetryPolicy.none()))
+                .build();
+    }
+
+    public StoredObject object(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    public void putObject(String bucket, String key, byte[] content, String contentType) {
+        objects.put(bucket + "/" + key, new StoredObject(content, contentType));
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    public int pendingUploads() {
+        return uploads.size();
+    }
+
+    /**
+     * 처리한 요청 종류 목록 (PutObject, UploadPart 등)
+     */
+    public List<String> operations() {
+        return List.copyOf(operations);
+    }
+
+    public void failPart(int partNumber) {
+        this.failingPart = partNumber;
+    }
+
+    /**
+     * 키가 suffix 로 끝나는 PutObject 를 500 으로 실패시킨다 (null 이면 해제)
+     */
+    public void failPutsEndingWith(String suffix) {
+        this.failingKeySuffix = suffix;
+    }
+
+    /**
+     * 모든 응답을 지정한 시간만큼 늦춘다 (네트워크 지연 흉내)
+     */
+    public void latency(long millis) {
+        this.latencyMillis = millis;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    // ================= 요청 처리 =================
+
+    private MockResponse handle(RecordedRequest request) {
+        String path = request.getRequestUrl().encodedPath().substring(1);
+        String objectKey = URI.create("/" + path).getPath().substring(1);
+        String uploadId = request.getRequestUrl().queryParameter("uploadId");
+        String method = request.getMethod();
+
+        if ("POST".equals(method) && request.getRequestUrl().queryParameter("delete") != null) {
+            Matcher keys = DELETE_KEY.matcher(request.getBody().readUtf8());
+            while (keys.find()) {
+                objects.remove(objectKey.replaceAll("/$", "") + "/" + keys.group(1));
+            }
+            operations.add("DeleteObjects");
+            return xml("<DeleteResult></DeleteResult>");
+        }
+        if ("POST".equals(method) && request.getRequestUrl().queryParameter("uploads") != null) {
+            String id = "upload-" + uploadIds.incrementAndGet();
+            uploads.put(id, new TreeMap<>());
+            uploadContentTypes.put(id, contentType(request));
+            operations.add("CreateMultipartUpload");
+            return xml("<InitiateMultipartUploadResult><Bucket>" + bucketOf(objectKey) + "</Bucket><Key>"
+                    + keyOf(objectKey) + "</Key><UploadId>" + id + "</UploadId></InitiateMultipartUploadResult>");
+        }
+        if ("PUT".equals(method) && uploadId != null) {
+            int partNumber = Integer.parseInt(request.getRequestUrl().queryParameter("partNumber"));
+            operations.add("UploadPart");
+            if (partNumber == failingPart) {
+                return new MockResponse().setResponseCode(500).setBody(
+                        "<Error><Code>InternalError</Code><Message>injected</Message></Error>");
+            }
+            uploads.get(uploadId).put(partNumber, body(request));
+            return new MockResponse().setResponseCode(200).setHeader("ETag", "\"part-" + partNumber + "\"");
+        }
+        if ("POST".equals(method) && uploadId != null) {
+            ByteArrayOutputStream assembled = new ByteArrayOutputStream();
+            uploads.remove(uploadId).values().forEach(assembled::writeBytes);
+            objects.put(objectKey, new StoredObject(assembled.toByteArray(), uploadContentTypes.remove(uploadId)));
+            operations.add("CompleteMultipartUpload");
+            return xml("<CompleteMultipartUploadResult><Bucket>" + bucketOf(objectKey) + "</Bucket><Key>"
+                    + keyOf(objectKey) + "</Key><ETag>\"multipart\"</ETag></CompleteMultipartUploadResult>");
+        }
+        if ("DELETE".equals(method) && uploadId != null) {
+            uploads.remove(uploadId);
+            uploadContentTypes.remove(uploadId);
+            operations.add("AbortMultipartUpload");
+            return new MockResponse().setResponseCode(204);
+        }
+        switch (method) {
+            case "PUT" -> {
+                String failing = failingKeySuffix;
+                if (failing != null && objectKey.endsWith(failing)) {
+                    operations.add("PutObject");
+                    return new MockResponse().setResponseCode(500).setBody(
+                            "<Error><Code>InternalError</Code><Message>injected</Message></Error>");
+                }
+                objects.put(objectKey, new StoredObject(body(request), contentType(request)));
+                operations.add("PutObject");
+                return new MockResponse().setResponseCode(200).setHeader("ETag", "\"put\"");
+            }
+            case "GET", "HEAD" -> {
+                operations.add("GET".equals(method) ? "GetObject" : "HeadObject");
+                StoredObject object = objects.get(objectKey);
+                if (object == null) {
+                    return new MockResponse().setResponseCode(404).setHeader("Content-Type", "application/xml")
+                            .setBody("<Error><Code>NoSuchKey</Code><Message>not found</Message></Error>");
+                }
+                MockResponse response = new MockResponse().setResponseCode(200)
+                        .setHeader("ETag", "\"" + Integer.toHexString(Arrays.hashCode(object.content())) + "\"")
+                        .setHeader("Content-Type", object.contentType() != null
+                                ? object.contentType() : "application/octet-stream");
+                if ("GET".equals(method)) {
+                    return response.setBody(new Buffer().write(object.content()));
+                }
+                return response.setHeader("Content-Length", object.content().length);
+            }
+            case "DELETE" -> {
+                objects.remove(objectKey);
+                operations.add("DeleteObject");
+                return new MockResponse().setResponseCode(204);
+            }
+            default -> {
+                return new MockResponse().setResponseCode(405);
+            }
+        }
+    }
+
+    private static String contentType(RecordedRequest request) {
+        return request.getHeader("Content-Type");
+    }
+
+    private static MockResponse xml(String body) {
+        return new MockResponse().setResponseCode(200)
+                .setHeader("Content-Type", "application/xml")
+                .setBody("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body);
+    }
+
+    private static String bucketOf(String objectKey) {
+        return objectKey.substring(0, objectKey.indexOf('/'));
+    }
+
+    private static String keyOf(String objectKey) {
+        return objectKey.substring(objectKey.indexOf('/') + 1);
+    }
+
+    /**
+     * 평문 HTTP 에서는 SDK 가 본문을 aws-chunked 로 서명해 보내므로 청크 머리말을 벗겨낸다
+     */
+    private static byte[] body(RecordedRequest request) {
+        byte[] raw = request.getBody().readByteArray();
+        String sha256 = request.getHeader("x-amz-content-sha256");
+        if (sha256 == null || !sha256.startsWith("STREAMING-")) {
+            return raw;
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream(raw.length);
+        int position = 0;
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";", 2)[0], 16);
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, lineEnd + 2, size);
+            position = lineEnd + 2 + size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalStateException("aws-chunked 형식이 아닙니다.");
+    }
+}
@@ -0,0 +1,48 @@
+package com.sesac.solbid.support;
+
+import com.sesac.solbid.util.QueryCounter;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 쿼리 예산 검증 유틸
+ * 주어진 동작(주로 MockMvc 요청)이 실행한 SQL 문 개수가 예산을 넘으면 테스트를 실패시킨다.
+ * N+1 이 생기면 쿼리 수가 데이터 건수에 비례해 늘어나므로 예산 초과로 드러난다.
+ *
+ * 사용 예: QueryBudget.atMost(1, () -> mockMvc.perform(get("/api/users/me")...));
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static <T> T atMost(long maxQueries, ThrowingSupplier<T> action) throws Throwable {
+        QueryCounter.Scope scope = QueryCounter.open();
+        T result = action.get();
+        assertWithin(maxQueries, scope.count());
+        return result;
+    }
+
+    public static void atMost(long maxQueries, Executable action) throws Throwable {
+        QueryCounter.Scope scope = QueryCounter.open();
+        action.execute();
+        assertWithin(maxQueries, scope.count());
+    }
+
+    /**
+     * 동작이 실행한 SQL 문 개수 (예산 검증 없이 측정만)
+     */
+    public static long count(Executable action) throws Throwable {
+        QueryCounter.Scope scope = QueryCounter.open();
+        action.execute();
+        return scope.count();
+    }
+
+    private static void assertWithin(long maxQueries, long executed) {
+        assertThat(executed)
+                .as("쿼리 예산 초과: 허용 %d회, 실행 %d회", maxQueries, executed)
+                .isLessThanOrEqualTo(maxQueries);
+    }
+}
@@ -0,0 +1,50 @@
+package com.sesac.solbid.util;
+
+import com.sesac.solbid.exception.CustomException;
+import com.sesac.solbid.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor 테스트")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 정렬로 디코딩하면 값이 그대로 복원된다")
+    void encodeDecode_RoundTrip() {
+        KeysetCursor cursor = KeysetCursor.of("PRICE_ASC", 15000L, 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), "PRICE_ASC");
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 비어 있으면 첫 페이지로 본다")
+    void decode_Blank_ReturnsNull() {
+        assertThat(KeysetCursor.decode(null, "LATEST")).isNull();
+        assertThat(KeysetCursor.decode(" ", "LATEST")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬에서 만든 커서는 거부한다")
+    void decode_OtherSort_Throws() {
+        String cursor = KeysetCursor.of("PRICE_ASC", 15000L, 42L).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, "PRICE_DESC"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("형식이 깨진 커서는 거부한다")
+    void decode_Malformed_Throws() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor!!", "LATEST"))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("MTpMQVRFU1Q6eDox", "LATEST"))
+                .isInstanceOf(CustomException.class);
+    }
+}
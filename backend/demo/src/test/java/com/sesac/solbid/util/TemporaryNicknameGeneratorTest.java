@@ -0,0 +1,93 @@
+package com.sesac.solbid.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TemporaryNicknameGenerator 단위 테스트")
+class TemporaryNicknameGeneratorTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("user_ 접두와 닉네임 컬럼 길이 제한을 지킨다")
+    void generate_PrefixAndLength() {
+        TemporaryNicknameGenerator generator = new TemporaryNicknameGenerator(1023);
+
+        String nickname = generator.generate();
+
+        assertThat(nickname).startsWith(TemporaryNicknameGenerator.PREFIX);
+        assertThat(nickname).matches("user_[0-9a-z]+");
+        assertThat(nickname.length()).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서 시퀀스가 넘쳐도 중복되지 않는다")
+    void generate_SameMillis_NoCollision() {
+        TemporaryNicknameGenerator generator = new TemporaryNicknameGenerator(1, FIXED_CLOCK);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(issued.add(generator.generate())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시각에도 서로 다른 닉네임을 만든다")
+    void generate_DifferentNodes_NoCollision() {
+        TemporaryNicknameGenerator node1 = new TemporaryNicknameGenerator(1, FIXED_CLOCK);
+        TemporaryNicknameGenerator node2 = new TemporaryNicknameGenerator(2, FIXED_CLOCK);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(issued.add(node1.generate())).isTrue();
+            assertThat(issued.add(node2.generate())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 가입 요청에서도 중복되지 않는다")
+    void generate_Concurrent_NoCollision() throws InterruptedException {
+        TemporaryNicknameGenerator generator = new TemporaryNicknameGenerator(7);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    issued.add(generator.generate());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(issued).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부한다")
+    void constructor_InvalidNodeId_ThrowsException() {
+        assertThatThrownBy(() -> new TemporaryNicknameGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TemporaryNicknameGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}